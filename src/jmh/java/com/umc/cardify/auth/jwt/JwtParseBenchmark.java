@@ -0,0 +1,78 @@
+package com.umc.cardify.auth.jwt;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.umc.cardify.domain.enums.AuthProvider;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청당 JWT 검증 비용
+ * cachedClaims : 같은 access token 반복 요청 (SHA-256 + LRU 조회)
+ * uncachedClaims : 캐시 크기 1에 두 토큰을 번갈아 검증해 매번 HS512 서명 검증
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+	private static final String SECRET = "jmh-benchmark-secret-jmh-benchmark-secret-jmh-benchmark-secret-0123456789";
+
+	private JwtTokenProvider cachingProvider;
+	private JwtTokenProvider missingProvider;
+	private String token;
+	private final String[] alternatingTokens = new String[2];
+	private int index;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		cachingProvider = provider(10000);
+		missingProvider = provider(1);
+		token = cachingProvider.createAccessToken("user@cardify.com", AuthProvider.KAKAO);
+		alternatingTokens[0] = missingProvider.createAccessToken("user1@cardify.com", AuthProvider.KAKAO);
+		alternatingTokens[1] = missingProvider.createAccessToken("user2@cardify.com", AuthProvider.GOOGLE);
+	}
+
+	@Benchmark
+	public Claims cachedClaims() {
+		return cachingProvider.parseClaims(token);
+	}
+
+	@Benchmark
+	public Claims uncachedClaims() {
+		return missingProvider.parseClaims(alternatingTokens[index++ & 1]);
+	}
+
+	private static JwtTokenProvider provider(int claimsCacheSize) throws ReflectiveOperationException {
+		JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+		set(provider, "jwtSecret", SECRET);
+		set(provider, "accessTokenValidity", TimeUnit.HOURS.toMillis(1));
+		set(provider, "refreshTokenValidity", TimeUnit.DAYS.toMillis(14));
+		set(provider, "claimsCacheSize", claimsCacheSize);
+		provider.init();
+		return provider;
+	}
+
+	// @Value 필드 주입 (스프링 컨텍스트 없이 실행)
+	private static void set(JwtTokenProvider provider, String name, Object value) throws ReflectiveOperationException {
+		Field field = JwtTokenProvider.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(provider, value);
+	}
+}
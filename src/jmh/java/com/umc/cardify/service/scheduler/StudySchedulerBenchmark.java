@@ -0,0 +1,85 @@
+package com.umc.cardify.service.scheduler;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 다음 학습 간격 계산 비용 (정책별)
+ * 카드 상태는 미리 만든 배열을 순회해 분기 예측이 한 난이도에 고정되지 않도록 한다.
+ * simulate는 카드 한 장을 난이도 순서대로 반복 학습한 결과로, 백필, 시뮬레이션 반복 계산 비용에 해당한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudySchedulerBenchmark {
+
+	private static final int CARDS = 1024;
+	private static final long NOW = 29_000_000L; // epoch minute
+
+	@Param({"fixed", "sm2"})
+	public String policy;
+
+	private StudyScheduler studyScheduler;
+	private final int[] difficulties = new int[CARDS];
+	private final long[] countLearns = new long[CARDS];
+	private final long[] lastStudyMinutes = new long[CARDS];
+	private final long[] nextStudyMinutes = new long[CARDS];
+	private int index;
+
+	@Setup
+	public void setUp() {
+		studyScheduler = new StudyScheduler(
+			"sm2".equals(policy) ? new Sm2SchedulingPolicy() : new FixedFactorSchedulingPolicy());
+		SplittableRandom random = new SplittableRandom(42);
+		for (int i = 0; i < CARDS; i++) {
+			difficulties[i] = random.nextInt(1, 5);
+			countLearns[i] = random.nextInt(0, 20);
+			boolean hasTime = random.nextInt(10) > 0;
+			lastStudyMinutes[i] = hasTime ? NOW - random.nextInt(1, 60 * 24 * 30) : StudyScheduler.NO_TIME;
+			nextStudyMinutes[i] = hasTime ? NOW : StudyScheduler.NO_TIME;
+		}
+	}
+
+	@Benchmark
+	public long nextStudyMinute() {
+		int i = index++ & (CARDS - 1);
+		return studyScheduler.nextStudyMinute(difficulties[i], countLearns[i], lastStudyMinutes[i],
+			nextStudyMinutes[i], NOW);
+	}
+
+	@Benchmark
+	public long expectedIntervalMinutes() {
+		int i = index++ & (CARDS - 1);
+		return studyScheduler.expectedIntervalMinutes(difficulties[i], countLearns[i]);
+	}
+
+	// 카드 한 장을 CARDS번 학습 (직전 간격이 다음 계산에 이어짐)
+	@Benchmark
+	public long simulate() {
+		long last = StudyScheduler.NO_TIME;
+		long next = StudyScheduler.NO_TIME;
+		long now = NOW;
+		for (int i = 0; i < CARDS; i++) {
+			long studyMinute = studyScheduler.nextStudyMinute(difficulties[i], i, last, next, now);
+			last = now;
+			next = studyMinute;
+			now = Math.max(now, studyMinute);
+		}
+		return next;
+	}
+}
@@ -0,0 +1,14 @@
+package com.umc.cardify.auth.jwt;
+
+import com.umc.cardify.domain.enums.AuthProvider;
+
+/**
+ * JwtAuthenticationFilter에서 토큰을 한 번만 검증한 뒤 SecurityContext에 저장하는 인증 정보
+ * 컨트롤러에서는 {@link LoginUser}로 주입받는다.
+ *
+ * @param userId 유저 id
+ * @param email 이메일 (토큰 subject)
+ * @param provider 소셜 로그인 제공자
+ */
+public record AuthenticatedUser(Long userId, String email, AuthProvider provider) {
+}
@@ -1,25 +1,28 @@
 package com.umc.cardify.auth.jwt;
 
+import com.umc.cardify.domain.enums.AuthProvider;
+import com.umc.cardify.service.user.UserIdentityCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserIdentityCache userIdentityCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -28,25 +31,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // HTTP 요청에서 JWT 토큰을 추출
         String token = getJwtFromRequest(request);
 
-        // 토큰이 유효한 경우 인증 처리
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
+        // 토큰 서명 검증은 요청당 한 번만 수행하고, 이후에는 SecurityContext의 AuthenticatedUser 사용
+        if (StringUtils.hasText(token)) {
+            Claims claims = tokenProvider.parseClaims(token);
+            String email = claims == null ? null : claims.getSubject();
+            String provider = claims == null ? null : claims.get("provider", String.class);
 
-            // 사용자 정보 조회
-            UserDetails userDetails = userDetailsService.loadUserByUsername(token);
+            AuthProvider authProvider = toAuthProvider(provider);
 
-            // Authentication 객체 생성
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // 알 수 없는 provider(서명은 유효한 이전 버전 토큰 등)는 인증 없이 다음 필터로 진행
+            if (email != null && authProvider != null) {
 
-            // SecurityContext에 Authentication 객체 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 사용자 조회 (요청 메모 → 유저 스냅샷 캐시 → DB 순서)
+                userIdentityCache.find(email, authProvider).ifPresent(user -> {
+                    AuthenticatedUser principal = new AuthenticatedUser(user.userId(), email, authProvider);
+
+                    // Authentication 객체 생성
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal, null, Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                    // SecurityContext에 Authentication 객체 저장
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
+            }
         }
 
         // 다음 필터 실행
         filterChain.doFilter(request, response);
     }
 
+    private AuthProvider toAuthProvider(String provider) {
+        if (provider == null)
+            return null;
+        try {
+            return AuthProvider.valueOf(provider);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // Authorization 헤더에서 JWT 토큰 추출
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -55,4 +79,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,12 @@
 package com.umc.cardify.auth.jwt;
 
+import com.umc.cardify.config.cache.LruCache;
 import com.umc.cardify.domain.enums.AuthProvider;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,13 +14,18 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -26,9 +35,33 @@ public class JwtTokenProvider {
     @Value("${jwt.refreshTokenValidity}")
     private long refreshTokenValidity;
 
-    // 일관된 키 생성 메서드
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 서명 검증이 끝난 토큰의 Claims 캐시 (토큰 SHA-256 → Claims, LRU, 만료 시각이 지나면 사용하지 않음)
+    private LruCache<String, Claims> verifiedClaims;
+    private Counter cacheHitCounter;
+    private Counter cacheMissCounter;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+
+        verifiedClaims = new LruCache<>(claimsCacheSize);
+        cacheHitCounter = Counter.builder("cardify.jwt.claims.cache").tag("result", "hit").register(meterRegistry);
+        cacheMissCounter = Counter.builder("cardify.jwt.claims.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("cardify.jwt.claims.cache.size", verifiedClaims, LruCache::size);
+    }
+
+    // 일관된 키 생성 메서드 (서명 키는 한 번만 생성)
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     // Access Token 생성
@@ -59,28 +92,60 @@ public class JwtTokenProvider {
 
     // Token 검증
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // Token 검증 후 Claims 반환 (유효하지 않으면 null), 서명 검증 한 번으로 이메일과 제공자 정보를 함께 추출
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return getVerifiedClaims(token);
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token", e);
         } catch (JwtException e) {
             log.error("Invalid JWT token", e);
         }
-        return false;
+        return null;
+    }
+
+    // 같은 토큰은 만료 전까지 서명 검증 없이 캐시된 Claims 사용
+    private Claims getVerifiedClaims(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (isNotExpired(cached, now)) {
+                cacheHitCounter.increment();
+                return cached;
+            }
+            verifiedClaims.remove(digest);
+        }
+        cacheMissCounter.increment();
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedClaims.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private boolean isNotExpired(Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() > now;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
     }
 
     // Token에서 이메일 추출
     public String getEmailFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+            Claims claims = getVerifiedClaims(token);
             return claims.getSubject();
         } catch (JwtException e) {
             log.error("Error extracting email from token", e);
@@ -91,11 +156,7 @@ public class JwtTokenProvider {
     // 토큰에서 제공자 정보 추출
     public AuthProvider getProviderFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+            Claims claims = getVerifiedClaims(token);
 
             return AuthProvider.valueOf(claims.get("provider", String.class));
         } catch (JwtException e) {
@@ -0,0 +1,15 @@
+package com.umc.cardify.auth.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 요청의 인증 정보({@link AuthenticatedUser}) 주입
+ * Authorization 헤더를 다시 파싱하지 않고 SecurityContext에 저장된 값을 사용한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
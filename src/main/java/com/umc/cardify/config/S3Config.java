@@ -8,6 +8,8 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
 @Configuration
 public class S3Config {
@@ -29,4 +31,14 @@ public class S3Config {
 			.withCredentials(new AWSStaticCredentialsProvider(awsCreds))
 			.build();
 	}
-}
\ No newline at end of file
+
+	// 큰 파일은 멀티파트 업로드 (종료는 S3Service에서 S3 클라이언트를 남겨두고 처리)
+	@Bean(destroyMethod = "")
+	public TransferManager transferManager(AmazonS3Client s3Client,
+		@Value("${cloud.aws.s3.multipart-threshold:8388608}") long multipartThreshold) {
+		return TransferManagerBuilder.standard()
+			.withS3Client(s3Client)
+			.withMultipartUploadThreshold(multipartThreshold)
+			.build();
+	}
+}
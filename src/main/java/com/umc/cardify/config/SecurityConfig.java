@@ -4,14 +4,15 @@ import com.umc.cardify.auth.jwt.JwtAuthenticationFilter;
 import com.umc.cardify.auth.jwt.JwtTokenProvider;
 import com.umc.cardify.auth.oauth.CustomOAuth2UserService;
 import com.umc.cardify.auth.oauth.OAuth2SuccessHandler;
+import com.umc.cardify.service.user.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,7 +25,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserIdentityCache userIdentityCache;
     private final CorsConfigurationSource corsConfigurationSource;
 
     @Bean
@@ -49,13 +50,15 @@ public class SecurityConfig {
                                 "/simplePay-test.html",
                                 "/api/v1/auth/**",
                             "api/v1/payments/simple-pay/**").permitAll()
+                        // actuator는 127.0.0.1에만 열린 management 포트에서 제공 (application.yml management.server)
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                         .anyRequest().authenticated())
                 .oauth2Login(oauth2 -> oauth2
                         //.loginPage("/oauth2/authorization/kakao")
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService))
                         .successHandler(oAuth2SuccessHandler))
-                .addFilterBefore(new JwtAuthenticationFilter(tokenProvider, userDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(tokenProvider, userIdentityCache),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -1,8 +1,11 @@
 package com.umc.cardify.config;
 
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.umc.cardify.auth.jwt.LoginUser;
+
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.models.Components;
@@ -15,6 +18,11 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 public class SwaggerConfig {
 	private static final String BEARER_TOKEN_PREFIX = "Bearer";
 
+	static {
+		// @LoginUser 파라미터는 인증 필터에서 주입되므로 API 문서에서 제외
+		SpringDocUtils.getConfig().addAnnotationsToIgnore(LoginUser.class);
+	}
+
 	@Bean
 	public OpenAPI openAPI() {
 		String securityJwtName = "JWT";
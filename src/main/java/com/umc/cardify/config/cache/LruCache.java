@@ -0,0 +1,61 @@
+package com.umc.cardify.config.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 LRU 캐시 (접근 순서 LinkedHashMap)
+ * 모든 메서드는 캐시 객체로 동기화되므로, 여러 연산을 묶어야 하면 호출하는 쪽에서 synchronized (cache)로 감싼다.
+ * 만료 시각이 필요하면 값에 함께 저장해 호출하는 쪽에서 확인한다.
+ */
+public class LruCache<K, V> {
+
+	private final Map<K, V> map;
+
+	public LruCache(int maxSize) {
+		this(maxSize, (key, value) -> {
+		});
+	}
+
+	/**
+	 * @param evictionListener 크기를 넘어 가장 오래된 항목을 밀어낼 때 호출 (캐시 잠금 안에서 실행)
+	 */
+	public LruCache(int maxSize, BiConsumer<K, V> evictionListener) {
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (size() > maxSize) {
+					evictionListener.accept(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		return map.get(key);
+	}
+
+	public synchronized void put(K key, V value) {
+		map.put(key, value);
+	}
+
+	public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		return map.computeIfAbsent(key, mappingFunction);
+	}
+
+	public synchronized V remove(K key) {
+		return map.remove(key);
+	}
+
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+}
@@ -6,13 +6,17 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.auth.jwt.JwtTokenProvider;
 import com.umc.cardify.config.exception.BadRequestException;
 import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.domain.Note;
+import com.umc.cardify.domain.enums.CardType;
 import com.umc.cardify.repository.UserRepository;
 import com.umc.cardify.service.NoteService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -22,19 +26,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.umc.cardify.dto.card.AnnualHeatmap;
 import com.umc.cardify.dto.card.CardRequest;
 import com.umc.cardify.dto.card.CardResponse;
+import com.umc.cardify.dto.card.DueCardKey;
 import com.umc.cardify.service.CardComponentService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @CrossOrigin(origins = "http://localhost:5173")
@@ -50,12 +56,12 @@ public class CardController {
 	@PostMapping(value = "/add/Image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	@Operation(summary = "이미지 카드 생성", description = "이미지 및 가림판들의 크기와 위치 전송")
 	public ResponseEntity<String> addImageCard(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@RequestPart("image") MultipartFile image,
 			@RequestPart("imageCard") CardRequest.addImageCard request) {
 
         Note note = noteService.getNoteById(request.getNoteId());
-		String imgUrl = cardComponentService.addImageCard(token, image, request, note);
+		String imgUrl = cardComponentService.addImageCard(authUser.userId(), image, request, note);
 
 		return ResponseEntity.ok(imgUrl);
 	}
@@ -63,20 +69,20 @@ public class CardController {
 	@GetMapping(value = "/view/{imgCardId}/Image")
 	@Operation(summary = "이미지 카드 조회", description = "이미지 및 가림판들의 크기와 위치 조회")
 	public ResponseEntity<CardResponse.getImageCard> viewImageCard(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Long imgCardId) {
 
-		return ResponseEntity.ok(cardComponentService.viewImageCard(token, imgCardId));
+		return ResponseEntity.ok(cardComponentService.viewImageCard(authUser.userId(), imgCardId));
 	}
 
 	@PutMapping(value = "/edit/{imgCardId}/Image")
 	@Operation(summary = "이미지 카드 편집", description = "이미지 및 가림판 들의 크기와 위치 조회")
 	public ResponseEntity<String> editImageCard(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@RequestPart("imageCard") CardRequest.addImageCard request,
 			@PathVariable Long imgCardId) {
 
-		String imgUrl = cardComponentService.editImageCard(token, request, imgCardId);
+		String imgUrl = cardComponentService.editImageCard(authUser.userId(), request, imgCardId);
 
 		return ResponseEntity.ok(imgUrl);
 	}
@@ -84,22 +90,28 @@ public class CardController {
 	@GetMapping("sort-filter")
 	@Operation(summary = "플래시 카드 목록 조회(메인 화면) + 정렬, 필터링 기능", description = "유저 노트 중 플래시 카드가 포함된 노트 목록 조회 | 정렬 order = asc, desc, edit-newest, edit-oldest | 필터링 쉼표로 구분된 색상 문자열 입력")
 	public ResponseEntity<List<CardResponse.getStudyCardSetLists>> viewStudyCardSetListsBySortFilter(
-		@RequestHeader("Authorization") String token, @RequestParam(required = false) String order,
+		@LoginUser AuthenticatedUser authUser, @RequestParam(required = false) String order,
 		@RequestParam(required = false) String color, @RequestParam(required = false) Integer studyStatus) {
 
-		List<CardResponse.getStudyCardSetLists> cardListsPage = cardComponentService.getStudyCardSetLists(token, order, color, studyStatus);
+		List<CardResponse.getStudyCardSetLists> cardListsPage = cardComponentService.getStudyCardSetLists(authUser.userId(), order, color, studyStatus);
 
 		return ResponseEntity.ok(cardListsPage);
 	}
 
 	// NOTE : https://www.figma.com/design/BxpTfbBq0G5MxIfy3Nl7X9?node-id=4-2#1450135366 '학습 카드' 기능이 이해 안되면 해당 댓글 참고
 	@GetMapping(value = "/{studyCardSetId}")
-	@Operation(summary = "학습 카드 - 카드 학습", description = "해당 노트(StudyCardSet)의 학습 카드 전부를 Pageable 리스트로 전달")
+	@Operation(summary = "학습 카드 - 카드 학습", description = "해당 노트(StudyCardSet)의 학습 카드를 다음 학습 시간 순서로 한 장씩 Pageable 리스트로 전달"
+		+ " | cursorId를 보내면 page 대신 직전 카드(cursorCardType: 일반 카드 = 0 ~ 2(빈칸, 단어, 멀티), 이미지 카드 = 3, cursorTime: 직전 카드의 learnNextTime) 다음 카드를 전달")
 	public ResponseEntity<Page<Object>> studyCard(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Long studyCardSetId,
-			@RequestParam(defaultValue = "0") int page) {
-		Page<Object> getCardLists = cardComponentService.getCardLists(token, studyCardSetId, page);
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+			@RequestParam(required = false) Long cursorId,
+			@RequestParam(defaultValue = "0") int cursorCardType) {
+		DueCardKey cursor = (cursorId == null) ? null : new DueCardKey(
+			CardType.isTextCard(cursorCardType) ? DueCardKey.CARD : DueCardKey.IMAGE_CARD, cursorId, cursorTime);
+		Page<Object> getCardLists = cardComponentService.getCardLists(authUser.userId(), studyCardSetId, page, cursor);
 
 		return ResponseEntity.ok(getCardLists);
 	}
@@ -107,9 +119,19 @@ public class CardController {
 	@PostMapping("/difficulty")
 	@Operation(summary = "학습 카드 - 난이도 선택", description = "해당 학습 카드 학습 후 난이도를 전달")
 	public ResponseEntity<?> recordDifficulty(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@RequestBody CardRequest.difficulty request) {
-		cardComponentService.updateCardDifficulty(token, request);
+		cardComponentService.updateCardDifficulty(authUser.userId(), request);
+
+		return ResponseEntity.ok().build();
+	}
+
+	@PostMapping("/difficulty/batch")
+	@Operation(summary = "학습 카드 - 난이도 일괄 선택", description = "학습 세션(오프라인 학습 포함)에서 학습한 순서대로 카드별 난이도를 한 번에 전달 | cardType은 일반 카드 = 0 ~ 2(빈칸, 단어, 멀티), 이미지 카드 = 3")
+	public ResponseEntity<?> recordDifficulties(
+			@LoginUser AuthenticatedUser authUser,
+			@RequestBody @Valid CardRequest.difficultyBatch request) {
+		cardComponentService.updateCardDifficulties(authUser.userId(), request);
 
 		return ResponseEntity.ok().build();
 	}
@@ -128,9 +150,9 @@ public class CardController {
 //	@GetMapping("{studyCardSetId}/study-completed")
 //	@Operation(summary = "분석 학습 완료")
 //	public ResponseEntity<?> completeStudy(
-//			@RequestHeader("Authorization") String token,
+//			@LoginUser AuthenticatedUser authUser,
 //			@PathVariable Long studyCardSetId) {
-//		cardComponentService.completeStudy(token, studyCardSetId);
+//		cardComponentService.completeStudy(authUser.userId(), studyCardSetId);
 //
 //		return ResponseEntity.ok().build();
 //	}
@@ -139,9 +161,9 @@ public class CardController {
 	@GetMapping("{studyCardSetId}/study-log")
 	@Operation(summary = "분석 학습 기록 조회")
 	public ResponseEntity<?> viewStudyLog(
-			@RequestHeader("Authorization") String token, @PathVariable Long studyCardSetId,
+			@LoginUser AuthenticatedUser authUser, @PathVariable Long studyCardSetId,
 			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "4") int size) {
-		Page<CardResponse.getStudyLog> studyLogs = cardComponentService.viewStudyLog(token, studyCardSetId, page, size);
+		Page<CardResponse.getStudyLog> studyLogs = cardComponentService.viewStudyLog(authUser.userId(), studyCardSetId, page, size);
 		return ResponseEntity.ok(studyLogs);
 	}
 
@@ -150,19 +172,19 @@ public class CardController {
 	@PostMapping("/study-suggestion")
 	@Operation(summary = "분석 학습 제안")
 	public ResponseEntity<List<CardResponse.getStudySuggestion>> suggestionAnalyzeStudy(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 		@RequestBody CardRequest.getSuggestion request) {
 
 		Timestamp date = Timestamp.valueOf(LocalDateTime.parse(request.getDate(), DateTimeFormatter.ISO_DATE_TIME));
-		List<CardResponse.getStudySuggestion> suggestions = cardComponentService.suggestionAnalyzeStudy(token, date);
+		List<CardResponse.getStudySuggestion> suggestions = cardComponentService.suggestionAnalyzeStudy(authUser.userId(), date);
 		return ResponseEntity.ok(suggestions);
 	}
 	@DeleteMapping("{studyCardSetId}")
 	@Operation(summary = "학습 카드셋 삭제")
 	public ResponseEntity<?> deleteStudyCardSet(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Long studyCardSetId) {
-		cardComponentService.deleteStudyCardSet(token, studyCardSetId);
+		cardComponentService.deleteStudyCardSet(authUser.userId(), studyCardSetId);
 
 		return ResponseEntity.ok().build();
 	}
@@ -172,10 +194,10 @@ public class CardController {
 	@GetMapping("{cardId}/re-study")
 	@Operation(summary = "재학습")
 	public ResponseEntity<?> reStudy(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Long cardId,
 			@RequestParam int cardType) {
-		cardComponentService.reStudy(token, cardId, cardType);
+		cardComponentService.reStudy(authUser.userId(), cardId, cardType);
 
 		return ResponseEntity.ok().build();
 	}
@@ -183,47 +205,47 @@ public class CardController {
 	@GetMapping("/quick-learning")
 	@Operation(summary = "빠른 학습 탭/예정된 학습 탭 - 플래시 카드 세트 조회", description = "사용자에게 학습 시간 도달(지난 카드)가 있는 StudyCardSet을 원하는 개수만큼 반환 | limit = null or 3")
 	public ResponseEntity<List<CardResponse.getExpectedCardSetListDTO>> getQuickLearningStudySets(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@RequestParam(name = "limit", required = false) int limit) {
 
-		List<CardResponse.getExpectedCardSetListDTO> sets = cardComponentService.getStudyCardSetsForQuickLearning(token, limit);
+		List<CardResponse.getExpectedCardSetListDTO> sets = cardComponentService.getStudyCardSetsForQuickLearning(authUser.userId(), limit);
 		return ResponseEntity.ok(sets);
 	}
 
 	@GetMapping("/weekly-count")
 	@Operation(summary = "학습 대시보드 - 주간 학습 결과 API", description = "사용자 조회 성공 시, 해당 주의 총 학습 카드 개수와 날짜별 학습 카드 개수 반환 | 월요일(1), 화요일(2) ... 일요일(7)")
-	public ResponseEntity<CardResponse.weeklyResultDTO> getCardByWeek(@RequestHeader("Authorization") String token) {
+	public ResponseEntity<CardResponse.weeklyResultDTO> getCardByWeek(@LoginUser AuthenticatedUser authUser) {
 
-		CardResponse.weeklyResultDTO weekCard = cardComponentService.getCardByWeek(token);
+		CardResponse.weeklyResultDTO weekCard = cardComponentService.getCardByWeek(authUser.userId());
 		return ResponseEntity.ok(weekCard);
 	}
 
 	@GetMapping("/study-graph/{range}")
 	@Operation(summary = "학습 대시보드 - 주간 학습 난이도 통계 그래프", description = "전체(1)/주간(2) pathvariable로 입력 | 학습 카드에 대한 난이도 통계 반환(가장 높은 값은 프론트에서 처리)")
 	public ResponseEntity<CardResponse.cardStudyGraph> viewStudyCardGraph(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Integer range) {
 
-		CardResponse.cardStudyGraph cardStudyGraph = cardComponentService.viewStudyCardGraph(token, range);
+		CardResponse.cardStudyGraph cardStudyGraph = cardComponentService.viewStudyCardGraph(authUser.userId(), range);
 		return ResponseEntity.ok(cardStudyGraph);
 	}
 
 	@GetMapping("/contributions/{annual}")
 	@Operation(summary = "학습 대시보드 - 연간 분석 학습 통계 API", description = "현재 연동 입력 후, 사용자의 전체 학습 개수와 1~4단계의 color 반환")
-	public ResponseEntity<CardResponse.AnnualResultDTO> getContributionsByAnnual(
-			@RequestHeader("Authorization") String token,
+	public ResponseEntity<AnnualHeatmap> getContributionsByAnnual(
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Integer annual) {
 
-		CardResponse.AnnualResultDTO annualResult = cardComponentService.getCardByYear(token, annual);
+		AnnualHeatmap annualResult = cardComponentService.getCardByYear(authUser.userId(), annual);
 		return ResponseEntity.ok(annualResult);
 	}
 
 	@GetMapping("/intended-learning")
 	@Operation(summary = "아직 학습 시간이 도달하지 않은 카드세트 전체 조회", description = "현재(now)를 기준으로 다음학습시간이 미래인 카드 리스트")
 	public ResponseEntity<List<CardResponse.getExpectedCardSetListDTO>> getIntendedLearning(
-			@RequestHeader("Authorization") String token) {
+			@LoginUser AuthenticatedUser authUser) {
 
-		List<CardResponse.getExpectedCardSetListDTO> sets = cardComponentService.getIntendedLearningSets(token);
+		List<CardResponse.getExpectedCardSetListDTO> sets = cardComponentService.getIntendedLearningSets(authUser.userId());
 		return ResponseEntity.ok(sets);
 	}
 
@@ -232,11 +254,11 @@ public class CardController {
 	@GetMapping("/study-suggestion/{years}/{month}")
 	@Operation(summary = "이번 달 학습 예정 일자(홈 화면에 위치하는 기능)", description = "연도, 월을 int로 입력하면 학습 예정 날짜 반환")
 	public ResponseEntity<?> getExpectedStudyDate(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable int years,
 			@PathVariable int month){
 
-		CardResponse.getExpectedStudyDateDTO studyDateDTO = cardComponentService.getExpectedStudyDate(token, years, month);
+		CardResponse.getExpectedStudyDateDTO studyDateDTO = cardComponentService.getExpectedStudyDate(authUser.userId(), years, month);
 		return ResponseEntity.ok(studyDateDTO);
 	}
 }
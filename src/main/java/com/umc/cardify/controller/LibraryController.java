@@ -1,12 +1,9 @@
 package com.umc.cardify.controller;
 
-import com.umc.cardify.auth.jwt.JwtTokenProvider;
-import com.umc.cardify.config.exception.BadRequestException;
-import com.umc.cardify.config.exception.ErrorResponseStatus;
-import com.umc.cardify.domain.enums.AuthProvider;
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.dto.library.LibraryRequest;
 import com.umc.cardify.dto.library.LibraryResponse;
-import com.umc.cardify.repository.UserRepository;
 import com.umc.cardify.service.LibraryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,8 +23,6 @@ import java.util.stream.Collectors;
 public class LibraryController {
 
     private final LibraryService libraryService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
 
     @GetMapping("/getCategory")
     @Operation(summary = "카테고리 조회 API")
@@ -37,22 +32,16 @@ public class LibraryController {
     }
     @PostMapping("/download")
     @Operation(summary = "자료실 다운로드 API")
-    public ResponseEntity<LibraryResponse.DownloadLibDTO> downloadLib(@RequestHeader("Authorization") String token, @RequestBody @Valid LibraryRequest.DownloadLibDto request){
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        Long userId = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
+    public ResponseEntity<LibraryResponse.DownloadLibDTO> downloadLib(@LoginUser AuthenticatedUser authUser, @RequestBody @Valid LibraryRequest.DownloadLibDto request){
+        Long userId = authUser.userId();
 
         LibraryResponse.DownloadLibDTO dto = libraryService.downloadLib(userId, request);
         return ResponseEntity.ok(dto);
     }
     @GetMapping("/getTopNote")
     @Operation(summary = "추천 노트 조회 API")
-    public ResponseEntity<List<LibraryResponse.LibInfoDTO>> getTopNote(@RequestHeader("Authorization") String token, @RequestParam @Valid Integer size){
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        Long userId = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
+    public ResponseEntity<List<LibraryResponse.LibInfoDTO>> getTopNote(@LoginUser AuthenticatedUser authUser, @RequestParam @Valid Integer size){
+        Long userId = authUser.userId();
 
         List<LibraryResponse.LibInfoDTO> resultNote = libraryService.getTopNote(userId);
         if(resultNote.size() < size)
@@ -70,34 +59,30 @@ public class LibraryController {
     }
     @GetMapping("/getNoteToCategory")
     @Operation(summary = "특정 카테고리 내 노트 조회 API",
-            description = "order = asc, desc, upload-newest, upload-oldest, download")
-    public ResponseEntity<List<LibraryResponse.LibInfoDTO>> getNoteToCategory(@RequestHeader("Authorization") String token, @RequestParam @Valid String category, @RequestParam @Valid String order){
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        Long userId = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
+            description = "order = asc, desc, upload-newest, upload-oldest, download, download-week"
+                    + " | 다음 페이지는 직전 페이지 마지막 노트의 cursor를 전달"
+                    + " | size 미입력 시 20개만 반환 (이전에는 전체 목록을 반환)")
+    public ResponseEntity<List<LibraryResponse.LibInfoDTO>> getNoteToCategory(@LoginUser AuthenticatedUser authUser, @RequestParam @Valid String category, @RequestParam @Valid String order,
+                                                                              @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size){
+        Long userId = authUser.userId();
 
-        List<LibraryResponse.LibInfoDTO> resultNote = libraryService.getNoteToCategory(category, order, userId);
+        List<LibraryResponse.LibInfoDTO> resultNote = libraryService.getNoteToCategory(category, order, userId, cursor, size);
         return ResponseEntity.ok(resultNote);
     }
     @PostMapping("/searchLib")
-    @Operation(summary = "자료실 내 노트 검색 API", description = "카테고리 미입력시 전체 조회")
-    public ResponseEntity<LibraryResponse.SearchLibDTO> searchLib(@RequestHeader("Authorization") String token, @RequestBody @Valid LibraryRequest.SearchLibDto request){
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        Long userId = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
+    @Operation(summary = "자료실 내 노트 검색 API", description = "카테고리 미입력시 전체 조회"
+            + " | 다음 페이지는 직전 페이지 마지막 노트의 cursor를 전달"
+            + " | size 미입력 시 20개만 반환 (이전에는 전체 목록을 반환)")
+    public ResponseEntity<LibraryResponse.SearchLibDTO> searchLib(@LoginUser AuthenticatedUser authUser, @RequestBody @Valid LibraryRequest.SearchLibDto request){
+        Long userId = authUser.userId();
 
         LibraryResponse.SearchLibDTO resultDto = libraryService.searchLib(request, userId);
         return ResponseEntity.ok(resultDto);
     }
     @GetMapping("/checkDownload")
     @Operation(summary = "자료실 노트 다운로드 방식 조회 API")
-    public ResponseEntity<LibraryResponse.CheckDownloadDTO> checkDownload(@RequestHeader("Authorization") String token, @RequestParam @Valid Long libraryId){
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        Long userId = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
+    public ResponseEntity<LibraryResponse.CheckDownloadDTO> checkDownload(@LoginUser AuthenticatedUser authUser, @RequestParam @Valid Long libraryId){
+        Long userId = authUser.userId();
 
         LibraryResponse.CheckDownloadDTO checkDto = libraryService.checkDownload(userId, libraryId);
         return ResponseEntity.ok(checkDto);
@@ -5,17 +5,20 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 
-import com.umc.cardify.auth.jwt.JwtTokenProvider;
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.config.exception.BadRequestException;
 import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.domain.User;
-import com.umc.cardify.domain.enums.AuthProvider;
 import com.umc.cardify.dto.folder.FolderRequest;
 import com.umc.cardify.dto.folder.FolderResponse;
 import com.umc.cardify.service.*;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.umc.cardify.converter.NoteConverter;
@@ -25,6 +28,9 @@ import com.umc.cardify.dto.note.NoteRequest;
 import com.umc.cardify.dto.note.NoteResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,18 +44,14 @@ public class NoteController {
 	private final NoteService noteService;
     private final UserService userService;
 
-    private final CardModuleService cardModuleService;
     private final NoteParsingService noteParsingService;
 
-	private final JwtTokenProvider jwtTokenProvider;
 
 	@PostMapping("/addNote")
 	@Operation(summary = "노트 추가 API")
-	public ResponseEntity<NoteResponse.AddNoteResultDTO> addNote(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.AddNoteResultDTO> addNote(@LoginUser AuthenticatedUser authUser,
 		@RequestBody @Valid NoteRequest.AddNoteDto request) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Folder folder = folderService.getFolder(request.getFolderId());
 
         // 노트 개수 검증
@@ -65,12 +67,9 @@ public class NoteController {
 
 	@DeleteMapping("/deleteNote")
 	@Operation(summary = "노트 삭제 API", description = "노트 ID 입력, 성공 시 삭제 성공 여부 반환")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> deleteNote(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> deleteNote(@LoginUser AuthenticatedUser authUser,
 		@RequestParam @Valid Long noteId) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(noteId);
 
         noteService.checkOwnership(user, note);
@@ -92,12 +91,9 @@ public class NoteController {
 
 	@GetMapping("/markNote")
 	@Operation(summary = "노트 즐겨찾기 API", description = "노트 ID와 즐겨찾기 여부 입력, 성공 시 즐겨찾기 성공 여부 반환")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> markNote(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> markNote(@LoginUser AuthenticatedUser authUser,
 		@RequestParam @Valid Long noteId, @RequestParam @Valid Boolean isMark) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(noteId);
 
         noteService.checkOwnership(user, note);
@@ -108,40 +104,36 @@ public class NoteController {
 
 	@PostMapping(value = "/write", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	@Operation(summary = "노트 작성 API", description = "노트 내용 입력, 성공 시 작성 성공 여부 반환")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> writeNote(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> writeNote(@LoginUser AuthenticatedUser authUser,
 		@RequestPart(value = "images", required = false) List<MultipartFile> images,
-		@RequestPart @Valid NoteRequest.WriteNoteDto request) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
+		@Parameter(content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+			schema = @Schema(implementation = NoteRequest.WriteNoteDto.class)))
+		@RequestPart("request") byte[] request) {
+        // 요청 원문을 JsonParser로 한 번만 읽어 전체 텍스트, 카드 노드, contents 원문 추출
+        NoteParsingService.ParsedNote parsedNote = noteParsingService.parse(request);
 
-        User user = userService.getUser(email, provider);
-        Note note = noteService.getNoteById(request.getNoteId());
+        User user = userService.getUser(authUser.userId());
+        Note note = noteService.getNoteById(parsedNote.noteId());
 
         noteService.checkOwnership(user, note);
 
         // 작성 모드 설정
-        String mode = request.getMode();
+        String mode = parsedNote.mode();
         if(mode == null || mode.isEmpty())
             mode = "standard";
         if(!mode.equals("standard") && !mode.equals("light"))
             throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
 
-        if (cardModuleService.existsByNote(note) && mode.equals("standard")) {
-            cardModuleService.deleteAllCardsByNoteId(note.getNoteId());
-            cardModuleService.deleteAllImageCardsByNoteId(note.getNoteId());
-        }
-
-        note.setName(request.getName());
+        note.setName(parsedNote.name());
 
         if(mode.equals("standard")) {
-            StringBuilder totalText = new StringBuilder();
-
+            // 기존 카드와 비교해 바뀐 카드만 반영 (학습 기록 유지)
             Queue<MultipartFile> imageQueue = new LinkedList<>(images != null ? images : Collections.emptyList());
-            noteParsingService.parsingNode(request.getContents(), totalText, note, imageQueue);
-            note.setTotalText(totalText.toString());
+            noteParsingService.syncCards(note, parsedNote, imageQueue);
+            note.setTotalText(parsedNote.totalText());
         }
 
-		Boolean isSuccess = noteService.writeNote(note, request.getContents(), images);
+		Boolean isSuccess = noteService.writeNote(note, parsedNote.contents());
 		return ResponseEntity.ok(NoteConverter.isSuccessNoteResult(isSuccess));
 	}
 
@@ -157,11 +149,9 @@ public class NoteController {
 
 	@GetMapping("/searchAll")
 	@Operation(summary = "전체 노트 검색 API", description = "검색어 입력, 성공 시 검색 결과 반환")
-	public ResponseEntity<NoteResponse.SearchNoteAllDTO> searchNoteAll(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.SearchNoteAllDTO> searchNoteAll(@LoginUser AuthenticatedUser authUser,
 			@RequestParam @Valid String search) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
 
 		NoteResponse.SearchNoteAllDTO dto = noteService.searchNoteAll(user, search);
 		noteService.addSearchHistory(user, search);
@@ -171,11 +161,9 @@ public class NoteController {
 
 	@PostMapping("/shareLib")
 	@Operation(summary = "노트 자료실 업로드 API", description = "노트 아이디 입력, 성공 시 자료실 저장 성공 여부")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> shareLib(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> shareLib(@LoginUser AuthenticatedUser authUser,
 		@RequestBody @Valid NoteRequest.ShareLibDto request) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(request.getNoteId());
 
         noteService.checkOwnership(user, note);
@@ -185,11 +173,9 @@ public class NoteController {
 
 	@DeleteMapping("/cancelShare")
 	@Operation(summary = "노트 공유 취소 API", description = "노트 ID 입력, 성공 시 즐겨찾기 성공 여부 반환")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> cancelShare(@RequestHeader("Authorization") String token,
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> cancelShare(@LoginUser AuthenticatedUser authUser,
 		@RequestParam @Valid Long noteId) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(noteId);
 
         noteService.checkOwnership(user, note);
@@ -198,21 +184,26 @@ public class NoteController {
 	}
 
 	@GetMapping("/getNote")
-	@Operation(summary = "노트 내용 조회 API", description = "노트 ID 입력, 성공 시 노트 내용 반환")
-	public ResponseEntity<NoteResponse.getNoteDTO> getNote(@RequestParam @Valid Long noteId) {
+	@Operation(summary = "노트 내용 조회 API", description = "노트 ID 입력, 성공 시 노트 내용 반환 "
+		+ "(If-None-Match가 현재 ETag와 같으면 본문 없이 304 반환)")
+	public ResponseEntity<NoteResponse.getNoteDTO> getNote(@RequestParam @Valid Long noteId, WebRequest webRequest) {
         Note note = noteService.getNoteById(noteId);
+        noteService.markViewed(note);
 
-		return ResponseEntity.ok(noteService.getNote(note));
+        // 수정되지 않은 노트는 내용, 카드를 읽지 않고 304 반환
+        String eTag = noteService.getNoteETag(note);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+		return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(noteService.getNote(note));
 	}
 
 	@GetMapping("/recent-notes")
 	@Operation(summary = "최신 열람 노트 조회 API", description = "사용자의 최신 열람 노트 4개/3개 반환")
-	public ResponseEntity<List<NoteResponse.NoteInfoDTO>> gerRecentNote(@RequestHeader("Authorization") String token,
+	public ResponseEntity<List<NoteResponse.NoteInfoDTO>> gerRecentNote(@LoginUser AuthenticatedUser authUser,
 		@RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false) Integer size) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
 
 		List<NoteResponse.NoteInfoDTO> notes = noteService.getRecentNotes(user, page, size);
 		return ResponseEntity.ok(notes);
@@ -220,30 +211,24 @@ public class NoteController {
 
 	@GetMapping("/recent-search")
 	@Operation(summary = "최근 검색어 조회 API", description = "사용자의 최근 검색어 최대 5개 반환")
-	public ResponseEntity<List<String>> getRecentSearch(@RequestHeader("Authorization") String token) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+	public ResponseEntity<List<String>> getRecentSearch(@LoginUser AuthenticatedUser authUser) {
+        User user = userService.getUser(authUser.userId());
 
 		return ResponseEntity.ok(noteService.getSearchHistory(user));
 	}
 
 	@DeleteMapping("/recent-search")
 	@Operation(summary = "최근 검색어 삭제 API")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> delRecentSearch(@RequestHeader("Authorization") String token, @RequestParam @Valid String search) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> delRecentSearch(@LoginUser AuthenticatedUser authUser, @RequestParam @Valid String search) {
+        User user = userService.getUser(authUser.userId());
 
 		return ResponseEntity.ok(NoteConverter.isSuccessNoteResult(noteService.delSearchHistory(user, search)));
 	}
 
 	@PostMapping("/link")
 	@Operation(summary = "노트 링크 생성 API", description = "노트 아이디 입력, 성공 시 노트 고유값 반환")
-	public ResponseEntity<NoteResponse.getNoteUUIDDTO> createNoteUUID(@RequestHeader("Authorization") String token, @RequestBody @Valid NoteRequest.MakeLinkDto request) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+	public ResponseEntity<NoteResponse.getNoteUUIDDTO> createNoteUUID(@LoginUser AuthenticatedUser authUser, @RequestBody @Valid NoteRequest.MakeLinkDto request) {
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(request.getNoteId());
 
         noteService.checkOwnership(user, note);
@@ -259,10 +244,8 @@ public class NoteController {
 
 	@DeleteMapping("/link")
 	@Operation(summary = "노트 링크 삭제 API")
-	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> delNoteLink(@RequestHeader("Authorization") String token, @RequestParam @Valid Long noteId) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+	public ResponseEntity<NoteResponse.IsSuccessNoteDTO> delNoteLink(@LoginUser AuthenticatedUser authUser, @RequestParam @Valid Long noteId) {
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(noteId);
 
         noteService.checkOwnership(user, note);
@@ -273,10 +256,8 @@ public class NoteController {
 	@GetMapping("/recent-marks")
 	@Operation(summary = "최근 즐겨찾기한 노트 목록 조회 API", description = "최근 즐겨찾기한 순으로 조회하며, 새로 생성했거나 빈 노트는 null반환  | 최대 3개")
 	public ResponseEntity<List<NoteResponse.RecentNoteDTO>> getRecentFavoriteNotes(
-			@RequestHeader("Authorization") String token) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+			@LoginUser AuthenticatedUser authUser) {
+        User user = userService.getUser(authUser.userId());
 
 		return ResponseEntity.ok(noteService.getRecentFavoriteNotes(user));
 	}
@@ -284,15 +265,12 @@ public class NoteController {
 	@GetMapping("/search-parent")
 	@Operation(summary = "노트 이동 - 폴더 검색 API", description = "검색어로 폴더를 검색하여 리스트 반환. 검색어가 없으면 전체 폴더 조회(북마크 폴더가 상단고정)")
 	public ResponseEntity<List<FolderResponse.FolderParentListDTO>> searchFolders(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@RequestParam(required = false) String keyword,
 			@RequestParam(required = false) Integer page,
 			@RequestParam(required = false) Integer size) {
 
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", ""));
-
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
 
 		return ResponseEntity.ok(folderService.searchFolders(user.getUserId(), keyword, page, size));
 	}
@@ -300,14 +278,11 @@ public class NoteController {
 	@PatchMapping("/{noteId}/move")
 	@Operation(summary = "노트 이동 - 폴더 이동 API", description = "노트를 다른 폴더로 이동")
 	public ResponseEntity<NoteResponse.NoteMoveResultDTO> moveNote(
-			@RequestHeader("Authorization") String token,
+			@LoginUser AuthenticatedUser authUser,
 			@PathVariable Long noteId,
 			@RequestBody FolderRequest.MoveFolderDTO request) {
 
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", ""));
-
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
 
         //FIXME: moveNote 내 User 유효성 검사 제거
 		NoteResponse.NoteMoveResultDTO result = folderService.moveNote(user.getUserId(), noteId, request.getTargetParentFolderId());
@@ -317,11 +292,9 @@ public class NoteController {
     @GetMapping("/{noteId}/card")
     @Operation(summary = "노트 내 카드 조회 API", description = "노트 아이디 입력, 성공시 카드 리스트 반환")
     public ResponseEntity<List<NoteResponse.getNoteCardDTO>> getRecentFavoriteNotes(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @PathVariable Long noteId) {
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userService.getUser(email, provider);
+        User user = userService.getUser(authUser.userId());
         Note note = noteService.getNoteById(noteId);
 
         noteService.checkOwnership(user, note);
@@ -1,5 +1,7 @@
 package com.umc.cardify.controller;
 
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.dto.payment.method.PaymentMethodRequest;
 import com.umc.cardify.dto.payment.method.PaymentMethodResponse;
 import com.umc.cardify.service.paymentMethod.PaymentMethodService;
@@ -23,10 +25,10 @@ public class PaymentMethodController {
     @PostMapping
     @Operation(summary = "PAYMENT_METHOD_API_01 : 결제 수단 등록 API")
     public ResponseEntity<PaymentMethodResponse.PaymentMethodInfoRes> registerPaymentMethod(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @Valid @RequestBody PaymentMethodRequest.RegisterPaymentReq request) {
 
-        PaymentMethodResponse.PaymentMethodInfoRes savedPaymentMethod = paymentMethodService.createPaymentMethod(request, token);
+        PaymentMethodResponse.PaymentMethodInfoRes savedPaymentMethod = paymentMethodService.createPaymentMethod(request, authUser.userId());
         return ResponseEntity.ok(savedPaymentMethod);
     }
 
@@ -34,18 +36,18 @@ public class PaymentMethodController {
     @GetMapping
     @Operation(summary = "PAYMENT_METHOD_API_02 : 결제 수단 목록 조회 API")
     public ResponseEntity<List<PaymentMethodResponse.PaymentMethodInfoRes>> getPaymentMethods(
-            @RequestHeader("Authorization") String token) {
-        List<PaymentMethodResponse.PaymentMethodInfoRes> responses = paymentMethodService.getPaymentMethods(token);
+            @LoginUser AuthenticatedUser authUser) {
+        List<PaymentMethodResponse.PaymentMethodInfoRes> responses = paymentMethodService.getPaymentMethods(authUser.userId());
         return ResponseEntity.ok(responses);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "PAYMENT_METHOD_API_03 : 결제 수단 삭제 API")
     public ResponseEntity<Long> deletePaymentMethod(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @PathVariable("id") Long id) {
 
-        paymentMethodService.deletePaymentMethod(id, token);
+        paymentMethodService.deletePaymentMethod(id, authUser.userId());
         return ResponseEntity.ok(id);
 
     }
@@ -53,10 +55,10 @@ public class PaymentMethodController {
     @PutMapping("/{id}/default")
     @Operation(summary = "PAYMENT_METHOD_API_04 : 기본 결제 수단 변경 API")
     public ResponseEntity<PaymentMethodResponse.PaymentMethodInfoRes> setDefaultPaymentMethod(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @PathVariable("id") Long id) {
 
-        PaymentMethodResponse.PaymentMethodInfoRes paymentMethod = paymentMethodService.setDefaultPaymentMethod(id, token);
+        PaymentMethodResponse.PaymentMethodInfoRes paymentMethod = paymentMethodService.setDefaultPaymentMethod(id, authUser.userId());
         return ResponseEntity.ok(paymentMethod);
     }
 
@@ -1,5 +1,7 @@
 package com.umc.cardify.controller;
 
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.config.exception.ResourceNotFoundException;
 import com.umc.cardify.dto.payment.subscription.SubscriptionRequest;
 import com.umc.cardify.dto.payment.subscription.SubscriptionResponse;
@@ -29,11 +31,11 @@ public class SubscriptionController {
   @PostMapping
   public ResponseEntity<SubscriptionInfoRes> createSubscription(
       @Valid @RequestBody SubscriptionRequest.CreateSubscriptionReq request,
-      @RequestHeader("Authorization") String token) {
+      @LoginUser AuthenticatedUser authUser) {
 
     log.info("구독 생성 요청: userId={}, productId={}", request.userId(), request.productId());
     try {
-      SubscriptionInfoRes response = subscriptionService.createSubscription(request, token);
+      SubscriptionInfoRes response = subscriptionService.createSubscription(request, authUser.userId());
       return ResponseEntity.status(HttpStatus.CREATED).body(response);
     } catch (ResourceNotFoundException e) {
       log.error("구독 생성 오류: {}", e.getMessage());
@@ -47,9 +49,9 @@ public class SubscriptionController {
   @Operation(summary = "구독 조회", description = "특정 구독 정보를 조회합니다.")
   @GetMapping("/{id}")
   public ResponseEntity<SubscriptionInfoRes> getSubscription(@PathVariable("id") Long subscriptionId,
-                                                             @RequestHeader("Authorization") String token) {
+                                                             @LoginUser AuthenticatedUser authUser) {
     try {
-      SubscriptionInfoRes response = subscriptionService.getSubscription(subscriptionId, token);
+      SubscriptionInfoRes response = subscriptionService.getSubscription(subscriptionId, authUser.userId());
       return ResponseEntity.ok(response);
     } catch (ResourceNotFoundException e) {
       log.error("구독 조회 오류: {}", e.getMessage());
@@ -59,8 +61,8 @@ public class SubscriptionController {
 
   @Operation(summary = "사용자별 구독 목록 조회", description = "사용자의 모든 구독을 조회합니다.")
   @GetMapping("/user")
-  public ResponseEntity<SubscriptionResponse.SubscriptionListRes> getSubscriptionsByUserId(@RequestHeader("Authorization") String token) {
-    SubscriptionResponse.SubscriptionListRes response = subscriptionService.getSubscriptionsByUserId(token);
+  public ResponseEntity<SubscriptionResponse.SubscriptionListRes> getSubscriptionsByUserId(@LoginUser AuthenticatedUser authUser) {
+    SubscriptionResponse.SubscriptionListRes response = subscriptionService.getSubscriptionsByUserId(authUser.userId());
     return ResponseEntity.ok(response);
   }
 
@@ -68,11 +70,11 @@ public class SubscriptionController {
   @PostMapping("/cancel")
   public ResponseEntity<Void> cancelSubscription(
       @Valid @RequestBody SubscriptionRequest.CancelSubscriptionReq request,
-      @RequestHeader("Authorization") String token) {
+      @LoginUser AuthenticatedUser authUser) {
 
     log.info("구독 취소 요청: subscriptionId={}", request.subscriptionId());
     try {
-      boolean success = subscriptionService.cancelSubscription(request, token);
+      boolean success = subscriptionService.cancelSubscription(request, authUser.userId());
       return success ? ResponseEntity.ok().build() : ResponseEntity.badRequest().build();
     } catch (ResourceNotFoundException e) {
       log.error("구독 취소 오류: {}", e.getMessage());
@@ -86,11 +88,11 @@ public class SubscriptionController {
   public ResponseEntity<Void> updateAutoRenew(
       @PathVariable("id") Long subscriptionId,
       @RequestParam("value") boolean autoRenew,
-      @RequestHeader("Authorization") String token) {
+      @LoginUser AuthenticatedUser authUser) {
 
     log.info("자동 갱신 설정 변경 요청: subscriptionId={}, autoRenew={}", subscriptionId, autoRenew);
     try {
-      boolean success = subscriptionService.updateAutoRenew(subscriptionId, autoRenew, token);
+      boolean success = subscriptionService.updateAutoRenew(subscriptionId, autoRenew, authUser.userId());
       return success ? ResponseEntity.ok().build() : ResponseEntity.badRequest().build();
     } catch (ResourceNotFoundException e) {
       log.error("자동 갱신 설정 변경 오류: {}", e.getMessage());
@@ -102,9 +104,9 @@ public class SubscriptionController {
   @GetMapping("/{id}/payments")
   public ResponseEntity<SubscriptionResponse.PaymentHistoryListRes> getPaymentHistoriesBySubscriptionId(
       @PathVariable("id") Long subscriptionId,
-      @RequestHeader("Authorization") String token) {
+      @LoginUser AuthenticatedUser authUser) {
 
-    SubscriptionResponse.PaymentHistoryListRes response = subscriptionService.getPaymentHistoriesBySubscriptionId(subscriptionId, token);
+    SubscriptionResponse.PaymentHistoryListRes response = subscriptionService.getPaymentHistoriesBySubscriptionId(subscriptionId, authUser.userId());
     return ResponseEntity.ok(response);
   }
 }
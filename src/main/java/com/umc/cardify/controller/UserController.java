@@ -1,5 +1,7 @@
 package com.umc.cardify.controller;
 
+import com.umc.cardify.auth.jwt.AuthenticatedUser;
+import com.umc.cardify.auth.jwt.LoginUser;
 import com.umc.cardify.dto.user.UserRequest;
 import com.umc.cardify.dto.user.UserResponse;
 import com.umc.cardify.service.UserService;
@@ -24,9 +26,9 @@ public class UserController {
     @PostMapping("/logout")
     @Operation(summary = "로그아웃 API")
     @ApiResponse(responseCode = "200", description = "로그아웃 성공")
-    public ResponseEntity<UserResponse.LogoutResponse> logout(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<UserResponse.LogoutResponse> logout(@LoginUser AuthenticatedUser authUser) {
         try {
-            userService.logout(token);
+            userService.logout(authUser.userId());
             return ResponseEntity.ok(new UserResponse.LogoutResponse("로그아웃 되었습니다.", true));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new UserResponse.LogoutResponse(e.getMessage(), false));
@@ -36,8 +38,8 @@ public class UserController {
     // 마이페이지 조회
     @GetMapping("/mypage")
     @Operation(summary = "마이페이지 정보 조회 API")
-    public ResponseEntity<UserResponse.MyPageInfo> getMyPageInfo(@RequestHeader("Authorization") String token) {
-        UserResponse.MyPageInfo myPageInfo = userService.getMyPageInfo(token);
+    public ResponseEntity<UserResponse.MyPageInfo> getMyPageInfo(@LoginUser AuthenticatedUser authUser) {
+        UserResponse.MyPageInfo myPageInfo = userService.getMyPageInfo(authUser.userId());
         return ResponseEntity.ok(myPageInfo);
     }
 
@@ -45,10 +47,10 @@ public class UserController {
     @PutMapping("/profile-image")
     @Operation(summary = "프로필 이미지 수정 API")
     public ResponseEntity<?> updateProfileImage(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @Valid @RequestBody UserRequest.UpdateProfileImage request) {
 
-        UserResponse.UpdatedProfileImage response = userService.updateProfileImage(token, request);
+        UserResponse.UpdatedProfileImage response = userService.updateProfileImage(authUser.userId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -56,10 +58,10 @@ public class UserController {
     @PutMapping("/name")
     @Operation(summary = "사용자 이름 수정 API")
     public ResponseEntity<?> updateName(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @Valid @RequestBody UserRequest.UpdateName request) {
 
-        UserResponse.UpdatedName response = userService.updateName(token, request);
+        UserResponse.UpdatedName response = userService.updateName(authUser.userId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -67,18 +69,18 @@ public class UserController {
     @PutMapping("/notification")
     @Operation(summary = "알림 설정 변경 API")
     public ResponseEntity<?> updateNotification(
-            @RequestHeader("Authorization") String token,
+            @LoginUser AuthenticatedUser authUser,
             @Valid @RequestBody UserRequest.UpdateNotification request) {
 
-        UserResponse.UpdatedNotification response = userService.updateNotification(token, request);
+        UserResponse.UpdatedNotification response = userService.updateNotification(authUser.userId(), request);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/check")
     @Operation(summary = "출석 체크 API")
-    public ResponseEntity<?> attendanceCheck(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> attendanceCheck(@LoginUser AuthenticatedUser authUser) {
 
-        userService.attendanceCheck(token);
+        userService.attendanceCheck(authUser.userId());
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -2,36 +2,45 @@ package com.umc.cardify.converter;
 
 import com.umc.cardify.domain.*;
 import com.umc.cardify.dto.library.LibraryResponse;
+import com.umc.cardify.repository.CardRepository;
 import com.umc.cardify.repository.DownloadRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class LibraryConverter {
     private final DownloadRepository downloadRepository;
-    public LibraryResponse.LibInfoDTO toLibInfo(Library library, Long userId){
-        List<Download> userDownload;
-        Boolean isDownload = false;
-
-        List<Download> downloadList = downloadRepository.findByLibrary(library);
-        int cntDownloadAll = 0;
-        int cntDownloadWeek = 0;
-        if(downloadList != null) {
-            cntDownloadAll = downloadList.size();
-            cntDownloadWeek = downloadList.stream()
-                    .filter(download -> download.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                    .toList().size();
-            userDownload = downloadList.stream().filter(download -> download.getUser().getUserId().equals(userId))
-                    .toList();
-            if(!userDownload.isEmpty())
-                isDownload = true;
-        }
+    private final CardRepository cardRepository;
 
+    /**
+     * 자료 목록 변환
+     * 다운로드 수는 note_library의 집계 컬럼을 사용하고, 다운로드 여부와 카드 수는 목록 전체에 대해 한 번씩만 조회
+     */
+    public List<LibraryResponse.LibInfoDTO> toLibInfoList(List<Library> libraryList, Long userId){
+        if(libraryList.isEmpty())
+            return List.of();
+        Set<Long> downloadedIds = new HashSet<>(downloadRepository.findLibraryIdsByUserId(userId));
+
+        List<Long> noteIds = libraryList.stream().map(library -> library.getNote().getNoteId()).toList();
+        Map<Long, Integer> cntCardMap = new HashMap<>();
+        cardRepository.countByNoteIds(noteIds)
+                .forEach(row -> cntCardMap.put((Long) row[0], ((Long) row[1]).intValue()));
+
+        return libraryList.stream()
+                .map(library -> toLibInfo(library, downloadedIds.contains(library.getLibraryId()),
+                        cntCardMap.getOrDefault(library.getNote().getNoteId(), 0)))
+                .toList();
+    }
+
+    private LibraryResponse.LibInfoDTO toLibInfo(Library library, Boolean isDownload, int cntCard){
         Note note = library.getNote();
         User user = note.getFolder().getUser();
         List<String> categoryName = library.getCategoryList().stream()
@@ -42,11 +51,11 @@ public class LibraryConverter {
                 .userImgSrc(user.getProfileImage())
                 .noteId(note.getNoteId())
                 .noteName(note.getName())
-                .cntCard(note.getCards().size())
+                .cntCard(cntCard)
                 .categoryName(categoryName)
                 .isDownload(isDownload)
-                .cntDownloadWeek(cntDownloadWeek)
-                .cntDownloadAll(cntDownloadAll)
+                .cntDownloadWeek(library.getDownloadWeekCount())
+                .cntDownloadAll(library.getDownloadCount())
                 .uploadAt(library.getUploadAt())
                 .build();
     }
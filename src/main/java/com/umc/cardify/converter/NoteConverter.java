@@ -6,9 +6,11 @@ import com.umc.cardify.domain.ContentsNote;
 import com.umc.cardify.domain.Folder;
 import com.umc.cardify.domain.Note;
 import com.umc.cardify.domain.enums.MarkStatus;
+import com.umc.cardify.dto.note.NoteListRow;
 import com.umc.cardify.dto.note.NoteResponse;
 import com.umc.cardify.repository.ContentsNoteRepository;
 import com.umc.cardify.service.LibraryService;
+import com.umc.cardify.service.NoteContentsStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
@@ -18,7 +20,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 public class NoteConverter {
     private final LibraryService libraryService;
     private final ContentsNoteRepository contentsNoteRepository;
+    private final NoteContentsStore noteContentsStore;
     public static Note toAddNote(Folder folder, String name){
         return Note.builder()
                 .folder(folder)
@@ -41,65 +43,29 @@ public class NoteConverter {
                 .createdAt(LocalDateTime.now())
                 .build();
     }
-    public NoteResponse.NoteInfoDTO toNoteInfoDTO(Note note) {
-        // 기본 빌더 시작
-        NoteResponse.NoteInfoDTO.NoteInfoDTOBuilder builder = NoteResponse.NoteInfoDTO.builder()
-            .noteId(note.getNoteId())
-            .name(note.getName())
-            .markState(note.getMarkState())
-            .flashCardCount(note.getCards() != null ? (long) note.getCards().size() : 0L);
-
-        // 폴더 관련 필드 안전하게 처리
-        if (note.getFolder() != null) {
-            builder.folderId(note.getFolder().getFolderId())
-                .folderColor(note.getFolder().getColor())
-                .folderName(note.getFolder().getName());
-        } else {
-            // 폴더가 null인 경우 기본값 설정
-            builder.folderId(null)
-                .folderColor(null)
-                .folderName(null);
-        }
-
-        // 날짜 필드 안전하게 처리
-        if (note.getMarkAt() != null) {
-            builder.markAt(note.getMarkAt().toLocalDate().format(DateTimeFormatter.ofPattern("yy/MM/dd")));
-        } else {
-            builder.markAt(null);
-        }
-
-        if (note.getEditDate() != null) {
-            builder.editDate(note.getEditDate().toLocalDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        } else {
-            builder.editDate(null);
-        }
-
-        if (note.getCreatedAt() != null) {
-            builder.createdAt(note.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        } else {
-            builder.createdAt(null);
-        }
-
-        // 다운로드 상태
-        builder.isDownload(note.getDownloadLibId() != null);
-
-        // 업로드 상태 - 예외가 발생할 수 있는 메서드 호출을 try-catch로 감싸기
-        try {
-            builder.isUpload(libraryService.isUploadLib(note));
-        } catch (Exception e) {
-            // 문제 발생 시 기본값으로 설정하고 로그 기록
-            builder.isUpload(false);
-            System.err.println("Upload status check failed for note ID: " + note.getNoteId() + " - " + e.getMessage());
-        }
-
-        return builder.build();
+    public NoteResponse.NoteInfoDTO toNoteInfoDTO(NoteListRow row) {
+        return NoteResponse.NoteInfoDTO.builder()
+                .noteId(row.noteId())
+                .name(row.name())
+                .folderId(row.folderId())
+                .folderName(row.folderName())
+                .folderColor(row.folderColor())
+                .markState(row.markState())
+                .flashCardCount(row.cardCount())
+                .viewAt(row.viewAt())
+                .markAt(row.markAt() != null ? row.markAt().toLocalDate().format(DateTimeFormatter.ofPattern("yy/MM/dd")) : null)
+                .editDate(row.editDate() != null ? row.editDate().toLocalDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null)
+                .createdAt(row.createdAt() != null ? row.createdAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null)
+                .isDownload(row.downloadLibId() != null)
+                .isUpload(row.isUpload())
+                .build();
     }
     public static NoteResponse.IsSuccessNoteDTO isSuccessNoteResult(Boolean isSuccess){
         return com.umc.cardify.dto.note.NoteResponse.IsSuccessNoteDTO.builder()
                 .isSuccess(isSuccess)
                 .build();
     }
-    public NoteResponse.GetNoteToFolderResultDTO toGetNoteToFolderResult(Folder folder, Page<Note> notePage){
+    public NoteResponse.GetNoteToFolderResultDTO toGetNoteToFolderResult(Folder folder, Page<NoteListRow> notePage){
         List<NoteResponse.NoteInfoDTO> noteResult= notePage.stream()
                 .map(this::toNoteInfoDTO).collect(Collectors.toList());
         return NoteResponse.GetNoteToFolderResultDTO.builder()
@@ -115,23 +81,33 @@ public class NoteConverter {
                 .build();
     }
     public NoteResponse.SearchNoteResDTO toSearchNoteResult(Note note, String search){
+        return toSearchNoteResult(note, search, null);
+    }
+    // score : 전문 검색 관련도
+    public NoteResponse.SearchNoteResDTO toSearchNoteResult(Note note, String search, Double score){
         List<String> textList = new ArrayList<>();
-        String text = note.getName() + note.getTotalText();
-
-        while(text.contains(search)){
-            int index = text.indexOf(search);
+        List<Integer> textOffsetList = new ArrayList<>();
+        // 본문(totalText)에서만 문장을 찾고, 노트 이름에 포함된 경우는 isNameMatch로 따로 표시
+        String text = note.getTotalText() == null ? "" : note.getTotalText();
 
+        int from = 0;
+        int index;
+        while(!search.isEmpty() && (index = text.indexOf(search, from)) >= 0){
             //분류 기준이 바뀌면 수정
             int moreText = text.indexOf(".", index + search.length());
             if(moreText < 0)
                 moreText = text.length();
             textList.add(text.substring(index, moreText));
-            text = text.substring(moreText);
+            textOffsetList.add(index);
+            from = moreText;
         }
         return NoteResponse.SearchNoteResDTO.builder()
                 .noteId(note.getNoteId())
                 .noteName(note.getName())
                 .textList(textList)
+                .textOffsetList(textOffsetList)
+                .isNameMatch(!search.isEmpty() && note.getName().contains(search))
+                .score(score)
                 .build();
     }
     public NoteResponse.SearchNoteToUserDTO toSearchNoteUser(Folder folder, List<NoteResponse.SearchNoteResDTO> noteDto){
@@ -147,13 +123,17 @@ public class NoteConverter {
                 .build();
     }
     public NoteResponse.NoteInfoDTO recentNoteInfoDTO(Note note) {
+        return recentNoteInfoDTO(note, note.getViewAt());
+    }
+    // viewAt : 아직 저장되지 않은 조회 시간을 반영한 값
+    public NoteResponse.NoteInfoDTO recentNoteInfoDTO(Note note, LocalDateTime viewAt) {
         return NoteResponse.NoteInfoDTO.builder()
                 .noteId(note.getNoteId())
                 .name(note.getName())
                 .folderId(note.getFolder().getFolderId())
                 .folderColor(note.getFolder().getColor())
                 .folderName(note.getFolder().getName())
-                .viewAt(note.getViewAt())
+                .viewAt(viewAt)
                 .editDate(note.getEditDate().toLocalDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
                 .createdAt(note.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
                 .isDownload(note.getDownloadLibId() != null)
@@ -168,29 +148,13 @@ public class NoteConverter {
                 .noteId(note.getNoteId())
                 .noteName(note.getName())
                 .markState(note.getMarkState().equals(MarkStatus.ACTIVE))
-                .noteContent(contentsNote.getContents())
+                .noteContent(noteContentsStore.read(contentsNote))
                 .isEdit(note.getIsEdit())
                 .isUpload(libraryService.isUploadLib(note))
                 .cardList(cardDTO)
                 .build();
     }
 
-    public NoteResponse.NoteInfoDTO convertToNoteInfoDTO(Note note, Map<Long, Long> cardCountMap) {
-        return NoteResponse.NoteInfoDTO.builder()
-                .noteId(note.getNoteId())
-                .name(note.getName())
-                .folderId(note.getFolder().getFolderId())
-                .folderName(note.getFolder().getName())
-                .folderColor(note.getFolder().getColor())
-                .markState(note.getMarkState())
-                .flashCardCount(note.getCards() != null ? (long) note.getCards().size() : 0L)
-                .viewAt(note.getViewAt())
-                .markAt(note.getMarkAt() != null ? note.getMarkAt().toLocalDate().format(DateTimeFormatter.ofPattern("yy/MM/dd")) : null)
-                .editDate(note.getEditDate() != null ? note.getEditDate().toLocalDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null)
-                .createdAt(note.getCreatedAt() != null ? note.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null)
-                .build();
-    }
-
     public NoteResponse.NoteListDTO createEmptyNoteListDTO(int page, int size) {
         return NoteResponse.NoteListDTO.builder()
                 .noteList(Collections.emptyList())
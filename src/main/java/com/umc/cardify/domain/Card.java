@@ -18,6 +18,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 학습 대기열 조회 (CardRepository.findScheduledDueCardKeys)
+	@Index(name = "idx_card_due_queue", columnList = "study_card_set_id, learn_next_time, card_id")
+})
 @Getter
 @DynamicUpdate
 @DynamicInsert
@@ -67,6 +71,15 @@ public class Card extends BaseEntity {
 	@OneToMany(mappedBy = "card", cascade = CascadeType.ALL)
 	private List<StudyHistory> studyHistories = new ArrayList<>();
 
+	// 노트 재작성 시 내용만 갱신 (학습 기록은 유지)
+	public void updateContents(String contents, String contentsFront, String contentsBack, String answer, int type) {
+		this.contents = contents;
+		this.contentsFront = contentsFront;
+		this.contentsBack = contentsBack;
+		this.answer = answer;
+		this.type = type;
+	}
+
 	public void setCountLearn(Long countLearn) {
 		this.countLearn = countLearn;
 	}
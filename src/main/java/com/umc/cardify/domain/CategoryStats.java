@@ -0,0 +1,40 @@
+package com.umc.cardify.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 자료실 업로드 집계 (library_category 기준)
+ * noteCount : 카테고리에 공유된 노트 수
+ * weekUploadCount : 최근 7일 동안 공유된 노트 수 (매일 자정에 다시 계산)
+ * lastUploadAt : 마지막 공유 시간
+ */
+@Entity
+@Table(name = "category_stats")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CategoryStats {
+	@Id
+	@Column(name = "category_id")
+	private Long categoryId;
+
+	@Column(name = "note_count", nullable = false)
+	private Integer noteCount;
+
+	@Column(name = "week_upload_count", nullable = false)
+	private Integer weekUploadCount;
+
+	@Column(name = "last_upload_at")
+	private LocalDateTime lastUploadAt;
+}
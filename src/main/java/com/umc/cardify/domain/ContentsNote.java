@@ -14,10 +14,16 @@ public class ContentsNote {
     @Column(name = "contents_id")
     private Long contentsId;
 
+    // 이전 형식 (note_blob 이전에 저장된 노트만 사용, NoteContentsStore를 통해 읽고 쓸 것)
     @Setter
     @Column(columnDefinition = "Text")
     private String contents;
 
+    // note_blob.hash (내용이 같은 노트끼리 공유)
+    @Setter
+    @Column(name = "blob_hash", length = 64)
+    private String blobHash;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "note_id")
     private Note note;
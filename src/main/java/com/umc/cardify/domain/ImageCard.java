@@ -13,15 +13,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+	// 학습 대기열 조회 (CardRepository.findScheduledDueCardKeys)
+	@Index(name = "idx_image_card_due_queue", columnList = "study_card_set_id, learn_next_time, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
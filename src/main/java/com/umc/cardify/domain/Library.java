@@ -25,6 +25,14 @@ public class Library extends BaseEntity {
 
     private LocalDateTime uploadAt;
 
+    // 다운로드 수 (LibraryStatsJdbcRepository에서 갱신)
+    @Column(name = "download_count", nullable = false, insertable = false, updatable = false)
+    private int downloadCount;
+
+    // 최근 7일 다운로드 수 (매일 자정에 library_download_daily로 다시 계산)
+    @Column(name = "download_week_count", nullable = false, insertable = false, updatable = false)
+    private int downloadWeekCount;
+
     @OneToMany(mappedBy = "library", cascade = CascadeType.ALL)
     private List<LibraryCategory> categoryList = new ArrayList<>();
 
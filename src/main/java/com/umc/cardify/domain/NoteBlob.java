@@ -0,0 +1,44 @@
+package com.umc.cardify.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노트 내용(ProseMirror JSON) 압축 저장소
+ * 키는 압축 전 내용의 SHA-256 이므로 내용이 같은 노트(라이브러리 다운로드 등)는 한 행을 공유하고, 행은 수정하지 않는다.
+ */
+@Entity
+@Table(name = "note_blob")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class NoteBlob {
+	@Id
+	@Column(name = "hash", length = 64)
+	private String hash;
+
+	// 압축 방식 (NoteContentsStore.CODEC_*)
+	@Column(name = "codec", nullable = false)
+	private Integer codec;
+
+	// 압축 전 크기 (byte)
+	@Column(name = "raw_size", nullable = false)
+	private Integer rawSize;
+
+	@Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+	private byte[] data;
+
+	// 마지막으로 저장(참조)된 시간 (참조가 없는 오래된 내용만 정리)
+	@Column(name = "last_used_at")
+	private LocalDateTime lastUsedAt;
+}
@@ -15,6 +15,8 @@ import java.util.List;
 @Setter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class Attr {
+    // 카드 노드 식별자 (있으면 노트 재작성 시 같은 카드로 매칭해 학습 기록 유지)
+    String id;
     @NotNull
     Integer level;
     @NotNull
@@ -17,9 +17,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,6 +30,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+	// 빠른 학습, 학습 예정 세트 조회 (StudyCardSetRepository.findQuickLearningSets)
+	@Index(name = "idx_study_card_set_user_oldest_due", columnList = "user_id, oldest_due_at")
+})
 @Getter
 @Setter
 @Builder
@@ -70,6 +76,14 @@ public class StudyCardSet extends BaseEntity {
 	@Column(name = "next_study_date")
 	private LocalDateTime nextStudyDate;
 
+	// 세트 내 카드들의 다음 학습 시간 중 가장 이른 값 (다음 학습 시간이 바뀔 때마다 갱신)
+	@Column(name = "oldest_due_at")
+	private LocalDateTime oldestDueAt;
+
+	// 세트 내 카드들의 다음 학습 시간 중 가장 늦은 값
+	@Column(name = "newest_due_at")
+	private LocalDateTime newestDueAt;
+
 	@Column(name = "all_cards_count")
 	private int allCardsCount;
 
@@ -0,0 +1,55 @@
+package com.umc.cardify.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 일자, 난이도별 학습 집계 (study_history 기준)
+ * cardCount : 해당 일자에 처음 학습한 카드 수 (study_history 행 수)
+ * learnCount : 해당 일자에 처음 학습한 카드들의 누적 학습 횟수 (total_learn_count 합)
+ */
+@Entity
+@Table(name = "study_daily_rollup", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_study_daily_rollup", columnNames = {"user_id", "study_day", "difficulty"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class StudyDailyRollup {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "study_daily_rollup_id")
+	private Long studyDailyRollupId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "study_day", nullable = false)
+	private LocalDate studyDay;
+
+	@Column(name = "difficulty", nullable = false)
+	private Integer difficulty;
+
+	@Column(name = "card_count", nullable = false)
+	private Long cardCount;
+
+	@Column(name = "learn_count", nullable = false)
+	private Long learnCount;
+}
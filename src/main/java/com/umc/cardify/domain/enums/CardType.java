@@ -5,6 +5,9 @@ public enum CardType {
 	WORD(1),
 	MULTI(2);
 
+	// 학습 카드 API(난이도 선택, 학습 대기열 cursor)의 cardType 값 : 0 ~ 2는 위의 일반 카드, 3은 이미지 카드
+	public static final int IMAGE_CARD_VALUE = 3;
+
 	private final int value;
 
 	CardType(int value) {
@@ -15,6 +18,11 @@ public enum CardType {
 		return value;
 	}
 
+	// 학습 카드 API의 cardType이 일반 카드(빈칸, 단어, 멀티)인지
+	public static boolean isTextCard(int value) {
+		return value >= BLANK.value && value <= MULTI.value;
+	}
+
 	public static CardType fromValue(int value) {
 		switch (value) {
 			case 0: return BLANK;
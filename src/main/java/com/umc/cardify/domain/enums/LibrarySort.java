@@ -0,0 +1,37 @@
+package com.umc.cardify.domain.enums;
+
+import lombok.Getter;
+
+/**
+ * 자료실 목록 정렬 기준
+ * column : 정렬 컬럼 (l = note_library, n = note), 같은 값이면 library_id를 같은 방향으로 정렬
+ */
+@Getter
+public enum LibrarySort {
+	NAME_ASC("asc", "n.name", true),
+	NAME_DESC("desc", "n.name", false),
+	UPLOAD_NEWEST("upload-newest", "l.upload_at", false),
+	UPLOAD_OLDEST("upload-oldest", "l.upload_at", true),
+	DOWNLOAD("download", "l.download_count", false),
+	DOWNLOAD_WEEK("download-week", "l.download_week_count", false);
+
+	private final String order;
+	private final String column;
+	private final boolean ascending;
+
+	LibrarySort(String order, String column, boolean ascending) {
+		this.order = order;
+		this.column = column;
+		this.ascending = ascending;
+	}
+
+	// 요청의 order 값으로 정렬 기준 조회 (없으면 null)
+	public static LibrarySort fromOrder(String order) {
+		for (LibrarySort sort : values()) {
+			if (sort.order.equalsIgnoreCase(order)) {
+				return sort;
+			}
+		}
+		return null;
+	}
+}
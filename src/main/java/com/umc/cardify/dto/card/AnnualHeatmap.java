@@ -0,0 +1,125 @@
+package com.umc.cardify.dto.card;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 연간 학습 기여도 (캐시 저장용 압축 형태)
+ * 일자별 학습 횟수를 short[366], 주(일요일 시작, YEARWEEK 기준)별 최대값을 short[54]로 보관하고
+ * 응답 JSON은 배열에서 바로 CardResponse.AnnualResultDTO 형태로 작성한다.
+ */
+@JsonSerialize(using = AnnualHeatmap.Serializer.class)
+@Schema(implementation = CardResponse.AnnualResultDTO.class)
+public class AnnualHeatmap {
+
+	private final int year;
+	private final int dayCount;
+	private final int firstDayOffset; // 1월 1일의 요일 (일요일 = 0)
+	private final short[] counts = new short[366];
+	private final short[] weekMax = new short[54];
+
+	public AnnualHeatmap(int year) {
+		this.year = year;
+		this.dayCount = Year.of(year).length();
+		this.firstDayOffset = LocalDate.of(year, 1, 1).getDayOfWeek().getValue() % 7;
+	}
+
+	/**
+	 * @param rows [study_day, daily_count]
+	 */
+	public static AnnualHeatmap of(int year, List<Object[]> rows) {
+		AnnualHeatmap heatmap = new AnnualHeatmap(year);
+		for (Object[] row : rows) {
+			LocalDate day = ((java.sql.Date)row[0]).toLocalDate();
+			heatmap.increase(day, ((Number)row[1]).longValue());
+		}
+		return heatmap;
+	}
+
+	public int getYear() {
+		return year;
+	}
+
+	// 해당 일자 학습 횟수 (다른 연도면 0)
+	public synchronized int getCount(LocalDate day) {
+		return day.getYear() == year ? counts[day.getDayOfYear() - 1] : 0;
+	}
+
+	/**
+	 * 해당 일자 학습 횟수 증가 (해당 주의 최대값만 갱신)
+	 */
+	public synchronized void increase(LocalDate day, long delta) {
+		if (day.getYear() != year || delta <= 0) {
+			return;
+		}
+		int index = day.getDayOfYear() - 1;
+		short count = (short)Math.min(counts[index] + delta, Short.MAX_VALUE);
+		counts[index] = count;
+
+		int week = (index + firstDayOffset) / 7;
+		if (count > weekMax[week]) {
+			weekMax[week] = count;
+		}
+	}
+
+	// 비율 측정 : 일주일 단위 내에서 비교하여 비율 측정
+	private static String color(int count, int weekMax) {
+		if (count == 0 || weekMax == 0) {
+			return "1";
+		}
+		double ratio = (double)count / (double)weekMax;
+		if (ratio >= 0.75) return "4";
+		else if (ratio >= 0.5) return "3";
+		else if (ratio >= 0.25) return "2";
+		else return "1";
+	}
+
+	public static class Serializer extends StdSerializer<AnnualHeatmap> {
+
+		public Serializer() {
+			super(AnnualHeatmap.class);
+		}
+
+		@Override
+		public void serialize(AnnualHeatmap heatmap, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+			short[] counts;
+			short[] weekMax;
+			synchronized (heatmap) {
+				counts = heatmap.counts.clone();
+				weekMax = heatmap.weekMax.clone();
+			}
+
+			LocalDate date = LocalDate.of(heatmap.year, 1, 1);
+			int maxStreak = 0, currentStreak = 0;
+
+			gen.writeStartObject();
+			gen.writeArrayFieldStart("contributions");
+			for (int i = 0; i < heatmap.dayCount; i++) {
+				int count = counts[i];
+				currentStreak = count == 0 ? 0 : currentStreak + 1;
+				maxStreak = Math.max(maxStreak, currentStreak);
+
+				gen.writeStartObject();
+				gen.writeStringField("date", date.toString());
+				gen.writeNumberField("count", count);
+				gen.writeStringField("color", color(count, weekMax[(i + heatmap.firstDayOffset) / 7]));
+				gen.writeEndObject();
+
+				date = date.plusDays(1);
+			}
+			gen.writeEndArray();
+			gen.writeNumberField("maxStreak", maxStreak);
+			gen.writeEndObject();
+		}
+	}
+}
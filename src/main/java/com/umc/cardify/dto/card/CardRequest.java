@@ -2,12 +2,17 @@ package com.umc.cardify.dto.card;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 public class CardRequest {
 
@@ -63,11 +68,42 @@ public class CardRequest {
 		private int difficulty;
 
 		@NotBlank(message = "카드 타입 전달 필요")
-		@Schema(description = "카드 타입 (일반 카드 = 0, 이미지 카드 = 1)", example = "0")
+		@Schema(description = "카드 타입 (일반 카드 = 0 ~ 2(빈칸, 단어, 멀티), 이미지 카드 = 3)", example = "0")
 		private int cardType;
 
 	}
 
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(title = "CARD_REQ_05 : 학습 세션 난이도 일괄 전달 DTO")
+	public static class difficultyBatch {
+		@NotEmpty(message = "난이도 목록 전달 필요")
+		@Schema(description = "학습한 순서대로 정렬된 난이도 목록")
+		private List<difficultyBatchItem> answers;
+	}
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(title = "CARD_REQ_06 : 학습 세션 난이도 일괄 전달 내부 항목 DTO")
+	public static class difficultyBatchItem {
+		@NotNull(message = "카드 id 전달 필요")
+		@Schema(description = "카드 id")
+		private Long cardId;
+
+		@Schema(description = "카드 타입 (일반 카드 = 0 ~ 2(빈칸, 단어, 멀티), 이미지 카드 = 3)", example = "0")
+		private int cardType;
+
+		@Schema(description = "난이도 (1 ~ 4)", example = "3")
+		private int difficulty;
+
+		@Schema(description = "학습 시각 (KST, 오프라인 학습 시 실제 학습한 시각, 없으면 요청 시각)", example = "2024-08-22T14:30:00")
+		private LocalDateTime answeredAt;
+	}
+
 	@Getter
 	@Schema(title = "CARD_REQ_04 : 분석 학습 제안 DTO")
 	public static class getSuggestion{
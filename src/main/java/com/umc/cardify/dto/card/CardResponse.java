@@ -31,6 +31,9 @@ public class CardResponse {
 		@Schema(description = "이미지 카드 id")
 		Long imageCardId;
 
+		@Schema(description = "다음 학습 시간 (다음 카드 조회 cursorTime)")
+		LocalDateTime learnNextTime;
+
 		@Schema(description = "노트 id")
 		Long noteId;
 
@@ -86,6 +89,9 @@ public class CardResponse {
 		@Schema(description = "카드 id")
 		Long cardId;
 
+		@Schema(description = "다음 학습 시간 (다음 카드 조회 cursorTime)")
+		LocalDateTime learnNextTime;
+
 		@Schema(description = "노트 id")
 		Long noteId;
 
@@ -188,6 +194,20 @@ public class CardResponse {
 	public static class getExpectedStudyDateDTO {
 		@Schema(description = "학습 예상 날짜")
 		List<Integer> expectedDate;
+		@Schema(description = "학습 예상 날짜별 카드 수")
+		List<expectedDateCountDTO> expectedDateCounts;
+	}
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(title = "CARD_RES_08-1 : 학습 필요 날짜별 카드 수 DTO")
+	public static class expectedDateCountDTO {
+		@Schema(description = "학습 예상 날짜 (일)")
+		int day;
+		@Schema(description = "해당 날짜에 학습할 카드 수")
+		long cardCount;
 	}
 
 	@Getter
@@ -0,0 +1,33 @@
+package com.umc.cardify.dto.card;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 학습 대기열(일반 카드 + 이미지 카드)에서 카드 한 장의 위치를 나타내는 키
+ * 정렬 기준 : (learnNextTime, cardId, cardKind), learnNextTime이 없는 카드는 가장 마지막
+ *
+ * @param cardKind 일반 카드 = 0, 이미지 카드 = 1
+ * @param cardId 카드 id (cardKind에 따라 card.card_id 또는 image_card.id)
+ * @param learnNextTime 다음 학습 시간 (재학습으로 초기화된 카드는 null)
+ */
+public record DueCardKey(int cardKind, Long cardId, LocalDateTime learnNextTime) {
+	public static final int CARD = 0;
+	public static final int IMAGE_CARD = 1;
+
+	public boolean isImageCard() {
+		return cardKind == IMAGE_CARD;
+	}
+
+	// native query 결과 [card_kind, card_id, learn_next_time] 변환
+	public static DueCardKey fromRow(Object[] row) {
+		Object time = row[2];
+		LocalDateTime learnNextTime = null;
+		if (time instanceof Timestamp timestamp) {
+			learnNextTime = timestamp.toLocalDateTime();
+		} else if (time instanceof LocalDateTime localDateTime) {
+			learnNextTime = localDateTime;
+		}
+		return new DueCardKey(((Number)row[0]).intValue(), ((Number)row[1]).longValue(), learnNextTime);
+	}
+}
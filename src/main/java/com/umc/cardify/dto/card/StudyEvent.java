@@ -0,0 +1,48 @@
+package com.umc.cardify.dto.card;
+
+import java.time.LocalDateTime;
+
+/**
+ * 난이도 선택 1회 (StudyLog 1건 + StudyHistory 학습 횟수 1 증가)
+ * cardId, imageCardId 중 하나만 존재
+ *
+ * @param studyCardSetId 학습 세트 id
+ * @param userId 학습한 유저 id
+ * @param cardId 일반 카드 id
+ * @param imageCardId 이미지 카드 id
+ * @param difficulty 선택한 난이도 (1 ~ 4)
+ * @param studyDate 학습 시각
+ */
+public record StudyEvent(Long studyCardSetId, Long userId, Long cardId, Long imageCardId, int difficulty,
+						 LocalDateTime studyDate) {
+
+	public static StudyEvent ofCard(Long studyCardSetId, Long userId, Long cardId, int difficulty,
+		LocalDateTime studyDate) {
+		return new StudyEvent(studyCardSetId, userId, cardId, null, difficulty, studyDate);
+	}
+
+	public static StudyEvent ofImageCard(Long studyCardSetId, Long userId, Long imageCardId, int difficulty,
+		LocalDateTime studyDate) {
+		return new StudyEvent(studyCardSetId, userId, null, imageCardId, difficulty, studyDate);
+	}
+
+	// write-ahead 파일 한 줄 (studyCardSetId,userId,cardId,imageCardId,difficulty,studyDate)
+	public String toLine() {
+		return String.join(",", toText(studyCardSetId), toText(userId), toText(cardId), toText(imageCardId),
+			String.valueOf(difficulty), studyDate.toString());
+	}
+
+	public static StudyEvent fromLine(String line) {
+		String[] values = line.split(",", -1);
+		return new StudyEvent(toLong(values[0]), toLong(values[1]), toLong(values[2]), toLong(values[3]),
+			Integer.parseInt(values[4]), LocalDateTime.parse(values[5]));
+	}
+
+	private static String toText(Long value) {
+		return value == null ? "" : value.toString();
+	}
+
+	private static Long toLong(String value) {
+		return value.isEmpty() ? null : Long.valueOf(value);
+	}
+}
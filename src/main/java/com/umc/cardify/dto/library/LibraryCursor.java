@@ -0,0 +1,71 @@
+package com.umc.cardify.dto.library;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.config.exception.ErrorResponseStatus;
+import com.umc.cardify.domain.enums.LibrarySort;
+
+/**
+ * 자료실 목록 keyset 페이지의 위치 (직전 페이지 마지막 자료의 정렬 값과 libraryId)
+ * 정렬 값을 함께 담아 두므로 cursor 자료의 다운로드 수가 바뀌거나 자료가 삭제되어도 같은 위치부터 이어서 조회한다.
+ * 응답에는 "정렬 기준\n정렬 값\nlibraryId"를 URL-safe Base64로 인코딩한 문자열로 전달
+ *
+ * @param value 정렬 값 (이름 = String, 업로드 시간 = LocalDateTime, 다운로드 수 = Long)
+ */
+public record LibraryCursor(LibrarySort sort, Object value, long libraryId) {
+
+	private static final String SEPARATOR = "\n";
+
+	// 조회 결과 행의 정렬 값으로 cursor 생성 (업로드 시간은 Timestamp, LocalDateTime 모두 허용)
+	public static LibraryCursor of(LibrarySort sort, Object value, long libraryId) {
+		if (value instanceof Timestamp timestamp) {
+			value = timestamp.toLocalDateTime();
+		} else if (value instanceof Number number) {
+			value = number.longValue();
+		}
+		return new LibraryCursor(sort, value, libraryId);
+	}
+
+	public String encode() {
+		String text = sort.getOrder() + SEPARATOR + value + SEPARATOR + libraryId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param sort 이번 요청의 정렬 기준 (cursor를 만든 정렬 기준과 다르면 REQUEST_ERROR)
+	 */
+	public static LibraryCursor decode(String cursor, LibrarySort sort) {
+		try {
+			String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			// 이름에 구분자가 들어갈 수 있으므로 정렬 기준은 첫 구분자, libraryId는 마지막 구분자 기준으로 분리
+			int first = text.indexOf(SEPARATOR);
+			int last = text.lastIndexOf(SEPARATOR);
+			if (first < 0 || first == last || !text.substring(0, first).equals(sort.getOrder())) {
+				throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+			}
+			String value = text.substring(first + 1, last);
+			long libraryId = Long.parseLong(text.substring(last + 1));
+			return new LibraryCursor(sort, parseValue(sort, value), libraryId);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+		}
+	}
+
+	// JDBC 파라미터로 전달할 정렬 값
+	public Object parameterValue() {
+		return value instanceof LocalDateTime localDateTime ? Timestamp.valueOf(localDateTime) : value;
+	}
+
+	private static Object parseValue(LibrarySort sort, String value) {
+		return switch (sort) {
+			case NAME_ASC, NAME_DESC -> value;
+			case UPLOAD_NEWEST, UPLOAD_OLDEST -> LocalDateTime.parse(value);
+			case DOWNLOAD, DOWNLOAD_WEEK -> Long.parseLong(value);
+		};
+	}
+}
@@ -23,5 +23,11 @@ public class LibraryRequest {
     public static class SearchLibDto{
         String searchTxt;
         List<String> categoryList;
+        @Schema(description = "정렬 기준 (asc, desc, upload-newest, upload-oldest, download, download-week), 미입력 시 download-week")
+        String order;
+        @Schema(description = "직전 페이지 마지막 노트의 cursor (첫 페이지는 미입력)")
+        String cursor;
+        @Schema(description = "페이지 크기 (1 ~ 100), 미입력 시 20 (이전에는 전체 목록을 반환)")
+        Integer size;
     }
 }
@@ -46,6 +46,8 @@ public class LibraryResponse {
         Integer cntDownloadAll;
         Integer cntDownloadWeek;
         LocalDateTime uploadAt;
+        @Schema(description = "이 노트 다음부터 조회할 때 전달할 cursor (목록 조회 API만)")
+        String cursor;
     }
     @Getter
     @Builder
@@ -0,0 +1,18 @@
+package com.umc.cardify.dto.note;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.umc.cardify.domain.enums.MarkStatus;
+
+/**
+ * 노트 목록 조회 결과 한 행 (NoteRepository 생성자 표현식 조회)
+ * 폴더 정보, 카드 수, 업로드 여부를 노트와 함께 한 번에 조회해 note.getCards(), note.getFolder() 지연 로딩을 피한다.
+ *
+ * @param cardCount 노트의 카드 수 (상관 서브쿼리)
+ * @param isUpload 자료실 업로드 여부
+ */
+public record NoteListRow(Long noteId, String name, Long folderId, String folderName, String folderColor,
+	MarkStatus markState, LocalDateTime markAt, LocalDateTime viewAt, Timestamp editDate, LocalDateTime createdAt,
+	Long downloadLibId, Long cardCount, Boolean isUpload) {
+}
@@ -119,6 +119,12 @@ public class NoteResponse {
         Long noteId;
         String noteName;
         List<String> textList;
+        @Schema(description = "textList 각 문장의 시작 위치 (전체 텍스트 기준)")
+        List<Integer> textOffsetList;
+        @Schema(description = "노트 이름에 검색어가 포함되었는지 여부")
+        Boolean isNameMatch;
+        @Schema(description = "검색 관련도 (클수록 관련도 높음)")
+        Double score;
     }
     @Builder
     @Getter
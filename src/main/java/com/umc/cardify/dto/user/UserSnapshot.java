@@ -0,0 +1,15 @@
+package com.umc.cardify.dto.user;
+
+import com.umc.cardify.domain.enums.AuthProvider;
+
+/**
+ * 인증, 권한 확인에 필요한 유저 정보만 담은 불변 스냅샷 (UserIdentityCache에 저장)
+ *
+ * @param userId 유저 id
+ * @param email 이메일
+ * @param provider 소셜 로그인 제공자
+ * @param subscriptionActive 활성 구독 여부
+ * @param point 스냅샷 생성 시점의 포인트
+ */
+public record UserSnapshot(Long userId, String email, AuthProvider provider, boolean subscriptionActive, Integer point) {
+}
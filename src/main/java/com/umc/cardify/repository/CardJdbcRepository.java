@@ -0,0 +1,65 @@
+package com.umc.cardify.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.umc.cardify.domain.Card;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 노트 작성, 자료실 다운로드 시 생성되는 Card 일괄 저장
+ * Card는 IDENTITY 전략이라 Hibernate가 insert를 batch로 묶지 못하므로 JDBC batch로 처리
+ * (datasource url의 rewriteBatchedStatements=true 필요, 생성된 id는 엔티티에 반영되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CardJdbcRepository {
+
+	private static final String INSERT_CARD = """
+		INSERT INTO card (note_id, study_card_set_id, contents, contents_front, contents_back, answer, difficulty,
+			count_learn, learn_next_time, type, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?)
+		""";
+
+	// 학습 기록(난이도, 학습 횟수)은 복사하지 않음, 학습 카드셋과 다음 학습 시간은 호출 측에서 지정
+	private static final String COPY_CARDS = """
+		INSERT INTO card (note_id, study_card_set_id, contents, contents_front, contents_back, answer, difficulty,
+			count_learn, learn_next_time, type, created_at, updated_at)
+		SELECT ?, ?, c.contents, c.contents_front, c.contents_back, c.answer, 0, 0, ?, c.type, ?, ?
+		FROM card c
+		WHERE c.note_id = ?
+		ORDER BY c.card_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertCards(List<Card> cards, LocalDateTime now) {
+		if (cards.isEmpty()) {
+			return;
+		}
+		Timestamp auditTime = Timestamp.valueOf(now);
+		jdbcTemplate.batchUpdate(INSERT_CARD, cards.stream()
+			.map(card -> new Object[] {card.getNote().getNoteId(), card.getStudyCardSet().getId(), card.getContents(),
+				card.getContentsFront(), card.getContentsBack(), card.getAnswer(), card.getCountLearn(),
+				card.getLearnNextTime(), card.getType(), auditTime, auditTime})
+			.toList());
+	}
+
+	/**
+	 * sourceNoteId 노트의 카드를 targetNoteId 노트(studyCardSetId 학습 카드셋)로 한 번에 복사
+	 * studyCardSetId가 있으면 복사된 카드의 다음 학습 시간은 now (즉시 학습),
+	 * null이면 학습 카드셋 없이 다음 학습 시간도 비워 학습 대상에서 제외
+	 * @return 복사된 카드 수
+	 */
+	public int copyCards(Long sourceNoteId, Long targetNoteId, Long studyCardSetId, LocalDateTime now) {
+		Timestamp auditTime = Timestamp.valueOf(now);
+		Timestamp learnNextTime = studyCardSetId == null ? null : auditTime;
+		return jdbcTemplate.update(COPY_CARDS, targetNoteId, studyCardSetId, learnNextTime, auditTime, auditTime,
+			sourceNoteId);
+	}
+}
@@ -2,6 +2,7 @@ package com.umc.cardify.repository;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import com.umc.cardify.domain.Note;
@@ -21,6 +22,8 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 
 	List<Card> findByStudyCardSet(StudyCardSet studyCardSet);
 
+	List<Card> findByNote(Note note);
+
 	@Query("SELECT c FROM Card c WHERE c.studyCardSet.user.userId = :userId AND DATE(c.learnNextTime) = DATE(:date)")
 	List<Card> findAllByUserIdAndLearnNextTimeOnDate(@Param("userId") Long userId, @Param("date") Timestamp date);
 
@@ -28,9 +31,6 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 	List<Card> findCardsByUserAndLearnLastTimeBetween(@Param("user") User user, @Param("start") LocalDateTime start,
 		@Param("end") LocalDateTime end);
 
-	@Query("SELECT c FROM Card c WHERE c.studyCardSet.user.userId = :userId AND c.learnNextTime BETWEEN :start AND :end")
-	List<Card> findAllByUserIdAndLearnNextTimeBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
 	// note : 2025.10 새로 생성
     int findCardTypeByCardId(Long cardId);
 
@@ -40,7 +40,132 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 	@Query("SELECT c FROM Card c WHERE c.studyCardSet.user.userId = :userId")
     List<Card> findByUser(Long userId);
 
+	// 해당 유저의 노트에 있는 카드만 조회
+	@Query("SELECT c FROM Card c WHERE c.cardId IN :cardIds AND c.note.folder.user.userId = :userId")
+	List<Card> findAllByCardIdInAndUserId(@Param("cardIds") Collection<Long> cardIds, @Param("userId") Long userId);
+
 	@Query("SELECT COUNT(c) FROM Card c WHERE c.note.noteId = :noteId")
 	int countByNoteId(@Param("noteId") Long noteId);
-}
 
+	/**
+	 * 노트별 카드 수
+	 * @return [note_id, 카드 수] (카드가 없는 노트는 제외)
+	 */
+	@Query("SELECT c.note.noteId, COUNT(c) FROM Card c WHERE c.note.noteId IN :noteIds GROUP BY c.note.noteId")
+	List<Object[]> countByNoteIds(@Param("noteIds") Collection<Long> noteIds);
+
+	/**
+	 * 학습 대기열 (일반 카드 + 이미지 카드) 중 다음 학습 시간이 있는 카드 조회
+	 * 각 테이블에서 (study_card_set_id, learn_next_time, id) 인덱스 순서대로 windowSize 개만 읽은 뒤 병합
+	 * afterTime이 null이면 처음부터, 아니면 (afterTime, afterId, afterKind) 이후부터 조회 (keyset)
+	 * @return [card_kind(0 = 카드, 1 = 이미지 카드), card_id, learn_next_time]
+	 */
+	@Query(value = """
+		SELECT q.card_kind, q.card_id, q.learn_next_time
+		FROM (
+			(SELECT 0 AS card_kind, c.card_id AS card_id, c.learn_next_time AS learn_next_time
+			FROM card c
+			WHERE c.study_card_set_id = :studyCardSetId
+			AND c.learn_next_time IS NOT NULL
+			AND (c.difficulty <> 0 OR c.count_learn IS NULL OR c.count_learn = 0)
+			AND (:afterTime IS NULL OR c.learn_next_time > :afterTime
+				OR (c.learn_next_time = :afterTime AND c.card_id > :afterId))
+			ORDER BY c.learn_next_time, c.card_id
+			LIMIT :windowSize)
+			UNION ALL
+			(SELECT 1 AS card_kind, ic.id AS card_id, ic.learn_next_time AS learn_next_time
+			FROM image_card ic
+			WHERE ic.study_card_set_id = :studyCardSetId
+			AND ic.learn_next_time IS NOT NULL
+			AND (ic.difficulty <> 0 OR ic.count_learn IS NULL OR ic.count_learn = 0)
+			AND (:afterTime IS NULL OR ic.learn_next_time > :afterTime
+				OR (ic.learn_next_time = :afterTime AND (ic.id > :afterId OR (ic.id = :afterId AND :afterKind = 0))))
+			ORDER BY ic.learn_next_time, ic.id
+			LIMIT :windowSize)
+		) AS q
+		ORDER BY q.learn_next_time, q.card_id, q.card_kind
+		LIMIT :size OFFSET :offset
+	""", nativeQuery = true)
+	List<Object[]> findScheduledDueCardKeys(@Param("studyCardSetId") Long studyCardSetId,
+		@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId, @Param("afterKind") Integer afterKind,
+		@Param("windowSize") int windowSize, @Param("size") int size, @Param("offset") int offset);
+
+	/**
+	 * 학습 대기열 중 다음 학습 시간이 없는 카드(재학습으로 초기화된 카드) 조회 - 대기열의 가장 마지막
+	 * afterId가 null이면 처음부터, 아니면 (afterId, afterKind) 이후부터 조회 (keyset)
+	 * @return [card_kind(0 = 카드, 1 = 이미지 카드), card_id, learn_next_time]
+	 */
+	@Query(value = """
+		SELECT q.card_kind, q.card_id, q.learn_next_time
+		FROM (
+			(SELECT 0 AS card_kind, c.card_id AS card_id, c.learn_next_time AS learn_next_time
+			FROM card c
+			WHERE c.study_card_set_id = :studyCardSetId
+			AND c.learn_next_time IS NULL
+			AND (c.difficulty <> 0 OR c.count_learn IS NULL OR c.count_learn = 0)
+			AND (:afterId IS NULL OR c.card_id > :afterId)
+			ORDER BY c.card_id
+			LIMIT :windowSize)
+			UNION ALL
+			(SELECT 1 AS card_kind, ic.id AS card_id, ic.learn_next_time AS learn_next_time
+			FROM image_card ic
+			WHERE ic.study_card_set_id = :studyCardSetId
+			AND ic.learn_next_time IS NULL
+			AND (ic.difficulty <> 0 OR ic.count_learn IS NULL OR ic.count_learn = 0)
+			AND (:afterId IS NULL OR ic.id > :afterId OR (ic.id = :afterId AND :afterKind = 0))
+			ORDER BY ic.id
+			LIMIT :windowSize)
+		) AS q
+		ORDER BY q.card_id, q.card_kind
+		LIMIT :size OFFSET :offset
+	""", nativeQuery = true)
+	List<Object[]> findUnscheduledDueCardKeys(@Param("studyCardSetId") Long studyCardSetId,
+		@Param("afterId") Long afterId, @Param("afterKind") Integer afterKind,
+		@Param("windowSize") int windowSize, @Param("size") int size, @Param("offset") int offset);
+
+	/**
+	 * 학습 대기열 크기 조회
+	 * @return [다음 학습 시간이 있는 카드 수, 다음 학습 시간이 없는 카드 수]
+	 */
+	@Query(value = """
+		SELECT COALESCE(SUM(q.learn_next_time IS NOT NULL), 0), COALESCE(SUM(q.learn_next_time IS NULL), 0)
+		FROM (
+			SELECT c.learn_next_time AS learn_next_time
+			FROM card c
+			WHERE c.study_card_set_id = :studyCardSetId
+			AND (c.difficulty <> 0 OR c.count_learn IS NULL OR c.count_learn = 0)
+			UNION ALL
+			SELECT ic.learn_next_time AS learn_next_time
+			FROM image_card ic
+			WHERE ic.study_card_set_id = :studyCardSetId
+			AND (ic.difficulty <> 0 OR ic.count_learn IS NULL OR ic.count_learn = 0)
+		) AS q
+	""", nativeQuery = true)
+	List<Object[]> countDueCards(@Param("studyCardSetId") Long studyCardSetId);
+
+	/**
+	 * 기간 내 일자별 학습 예정 카드 수 (일반 카드 + 이미지 카드)
+	 * 엔티티 대신 다음 학습 시간만 읽어 DB에서 일자별로 집계 (DB 시간대 : Asia/Seoul)
+	 * @return [일(day of month), 카드 수]
+	 */
+	@Query(value = """
+		SELECT DAY(q.learn_next_time) AS due_day, COUNT(*) AS card_count
+		FROM (
+			SELECT c.learn_next_time AS learn_next_time
+			FROM card c
+			JOIN study_card_set s ON s.study_card_set_id = c.study_card_set_id
+			WHERE s.user_id = :userId
+			AND c.learn_next_time BETWEEN :start AND :end
+			UNION ALL
+			SELECT ic.learn_next_time AS learn_next_time
+			FROM image_card ic
+			JOIN study_card_set s ON s.study_card_set_id = ic.study_card_set_id
+			WHERE s.user_id = :userId
+			AND ic.learn_next_time BETWEEN :start AND :end
+		) AS q
+		GROUP BY due_day
+		ORDER BY due_day
+	""", nativeQuery = true)
+	List<Object[]> countDueCardsByDay(@Param("userId") Long userId, @Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end);
+}
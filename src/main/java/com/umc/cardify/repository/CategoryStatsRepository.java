@@ -0,0 +1,60 @@
+package com.umc.cardify.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.umc.cardify.domain.CategoryStats;
+
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, Long> {
+
+	/**
+	 * 전체 카테고리 집계 (집계가 없는 카테고리는 0)
+	 * @return [category_id, name, note_count, week_upload_count, last_upload_at]
+	 */
+	@Query(value = """
+		SELECT c.category_id, c.name, COALESCE(s.note_count, 0), COALESCE(s.week_upload_count, 0), s.last_upload_at
+		FROM category c
+		LEFT JOIN category_stats s ON s.category_id = c.category_id
+		ORDER BY c.category_id
+	""", nativeQuery = true)
+	List<Object[]> findAllCategoryStats();
+
+	/**
+	 * 지정한 카테고리 집계를 library_category로 다시 계산
+	 * 공유, 공유 취소 시 바뀐 library_category가 먼저 반영되도록 flush 후 실행
+	 * @param since 이 시간 이후 공유된 노트를 주간 업로드로 집계
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO category_stats (category_id, note_count, week_upload_count, last_upload_at)
+		SELECT c.category_id, COUNT(lc.mapping_id), COALESCE(SUM(lc.created_at >= :since), 0), MAX(lc.created_at)
+		FROM category c
+		LEFT JOIN library_category lc ON lc.category_id = c.category_id
+		WHERE c.category_id IN (:categoryIds)
+		GROUP BY c.category_id
+		ON DUPLICATE KEY UPDATE note_count = VALUES(note_count), week_upload_count = VALUES(week_upload_count),
+			last_upload_at = VALUES(last_upload_at)
+	""", nativeQuery = true)
+	int refreshStats(@Param("categoryIds") Collection<Long> categoryIds, @Param("since") LocalDateTime since);
+
+	/**
+	 * 전체 카테고리 집계를 library_category로 다시 계산
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO category_stats (category_id, note_count, week_upload_count, last_upload_at)
+		SELECT c.category_id, COUNT(lc.mapping_id), COALESCE(SUM(lc.created_at >= :since), 0), MAX(lc.created_at)
+		FROM category c
+		LEFT JOIN library_category lc ON lc.category_id = c.category_id
+		GROUP BY c.category_id
+		ON DUPLICATE KEY UPDATE note_count = VALUES(note_count), week_upload_count = VALUES(week_upload_count),
+			last_upload_at = VALUES(last_upload_at)
+	""", nativeQuery = true)
+	int refreshAllStats(@Param("since") LocalDateTime since);
+}
@@ -4,6 +4,8 @@ import com.umc.cardify.domain.Download;
 import com.umc.cardify.domain.Library;
 import com.umc.cardify.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +13,8 @@ public interface DownloadRepository extends JpaRepository<Download, Long> {
     List<Download> findByUser(User user);
     List<Download> findByLibrary(Library library);
     Download findByUserAndLibrary(User user, Library library);
+
+    // 유저가 다운로드한 자료실 id (isDownload 확인용)
+    @Query("SELECT d.library.libraryId FROM Download d WHERE d.user.userId = :userId")
+    List<Long> findLibraryIdsByUserId(@Param("userId") Long userId);
 }
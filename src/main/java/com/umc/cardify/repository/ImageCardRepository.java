@@ -1,7 +1,7 @@
 package com.umc.cardify.repository;
 
 import java.sql.Timestamp;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Param;
@@ -20,8 +20,10 @@ public interface ImageCardRepository extends JpaRepository<ImageCard, Long> {
 	@Query("SELECT ic FROM ImageCard ic WHERE ic.studyCardSet.user.userId = :userId AND DATE(ic.learnNextTime) = DATE(:date)")
 	List<ImageCard> findAllByUserIdAndLearnNextTimeOnDate(@Param("userId") Long userId, @Param("date") Timestamp date);
 
-	@Query("SELECT ic FROM ImageCard ic WHERE ic.studyCardSet.user.userId = :userId AND ic.learnNextTime BETWEEN :start AND :end")
-	List<ImageCard> findAllByUserIdAndLearnNextTimeBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+	// 해당 유저의 학습 카드셋에 있는 이미지 카드만 조회
+	@Query("SELECT ic FROM ImageCard ic WHERE ic.id IN :imageCardIds AND ic.studyCardSet.user.userId = :userId")
+	List<ImageCard> findAllByIdInAndUserId(@Param("imageCardIds") Collection<Long> imageCardIds,
+		@Param("userId") Long userId);
 
 	@Query("SELECT i.difficulty FROM ImageCard i WHERE i.id = :cardId")
 	int findImageCardDifficultyByCardId(@Param("cardId") Long cardId);
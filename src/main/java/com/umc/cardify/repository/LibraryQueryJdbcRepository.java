@@ -0,0 +1,107 @@
+package com.umc.cardify.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.umc.cardify.domain.enums.LibrarySort;
+import com.umc.cardify.dto.library.LibraryCursor;
+import com.umc.cardify.dto.library.LibraryResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자료실 목록 조회 (keyset 페이지)
+ * 업로더, 카테고리 이름, 카드 수, 다운로드 여부를 한 번의 쿼리로 조회해 LibInfoDTO로 변환
+ * cursor가 있으면 cursor의 (정렬 값, library_id) 다음부터 조회하고, 각 자료에는 그 자료 다음부터 조회할 cursor를 담는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LibraryQueryJdbcRepository {
+
+	// 카테고리 이름 구분자 (이름에 들어가지 않는 문자)
+	private static final String CATEGORY_SEPARATOR = "\u001F";
+
+	// 정렬 컬럼은 LibrarySort.column, sort_value로 조회
+	private static final String SELECT_LIBRARY_INFO = """
+		SELECT %s AS sort_value, l.library_id, n.note_id, n.name, u.name, u.profile_image, l.upload_at,
+			l.download_count, l.download_week_count,
+			(SELECT COUNT(*) FROM card c WHERE c.note_id = n.note_id) AS cnt_card,
+			(SELECT GROUP_CONCAT(cat.name ORDER BY lc.mapping_id SEPARATOR :separator)
+				FROM library_category lc JOIN category cat ON cat.category_id = lc.category_id
+				WHERE lc.library_id = l.library_id) AS category_names,
+			EXISTS (SELECT 1 FROM download d WHERE d.user_id = :userId AND d.library_id = l.library_id) AS is_download
+		FROM note_library l
+		JOIN note n ON n.note_id = l.note_id
+		JOIN folder f ON f.folder_id = n.folder_id
+		JOIN `user` u ON u.user_id = f.user_id
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * @param categoryIds 이 중 하나 이상의 카테고리에 속한 자료만 (비어 있으면 전체)
+	 * @param searchTxt 노트 이름에 포함된 문자열 (비어 있으면 전체)
+	 * @param cursor 직전 페이지 마지막 자료의 cursor (첫 페이지는 null, sort와 같은 정렬 기준)
+	 */
+	public List<LibraryResponse.LibInfoDTO> findLibraryPage(Long userId, Collection<Long> categoryIds,
+		String searchTxt, LibrarySort sort, LibraryCursor cursor, int size) {
+		MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+			.addValue("separator", CATEGORY_SEPARATOR)
+			.addValue("size", size);
+		StringBuilder sql = new StringBuilder(SELECT_LIBRARY_INFO.formatted(sort.getColumn()));
+		sql.append("WHERE 1 = 1\n");
+		if (!categoryIds.isEmpty()) {
+			sql.append("AND EXISTS (SELECT 1 FROM library_category fc")
+				.append(" WHERE fc.library_id = l.library_id AND fc.category_id IN (:categoryIds))\n");
+			params.addValue("categoryIds", categoryIds);
+		}
+		if (searchTxt != null && !searchTxt.isEmpty()) {
+			sql.append("AND n.name LIKE :searchTxt\n");
+			params.addValue("searchTxt", "%" + escapeLike(searchTxt) + "%");
+		}
+		String direction = sort.isAscending() ? "ASC" : "DESC";
+		if (cursor != null) {
+			String comparison = sort.isAscending() ? ">" : "<";
+			sql.append("AND (").append(sort.getColumn()).append(' ').append(comparison).append(" :cursorValue")
+				.append(" OR (").append(sort.getColumn()).append(" = :cursorValue")
+				.append(" AND l.library_id ").append(comparison).append(" :cursorLibraryId))\n");
+			params.addValue("cursorValue", cursor.parameterValue())
+				.addValue("cursorLibraryId", cursor.libraryId());
+		}
+		sql.append("ORDER BY ").append(sort.getColumn()).append(' ').append(direction)
+			.append(", l.library_id ").append(direction).append('\n')
+			.append("LIMIT :size");
+
+		return namedParameterJdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> toLibInfo(rs, sort));
+	}
+
+	private LibraryResponse.LibInfoDTO toLibInfo(ResultSet rs, LibrarySort sort) throws SQLException {
+		String categoryNames = rs.getString("category_names");
+		long libraryId = rs.getLong(2);
+		return LibraryResponse.LibInfoDTO.builder()
+			.libraryId(libraryId)
+			.noteId(rs.getLong(3))
+			.noteName(rs.getString(4))
+			.userName(rs.getString(5))
+			.userImgSrc(rs.getString(6))
+			.uploadAt(rs.getTimestamp(7) == null ? null : rs.getTimestamp(7).toLocalDateTime())
+			.cntDownloadAll(rs.getInt(8))
+			.cntDownloadWeek(rs.getInt(9))
+			.cntCard(rs.getInt("cnt_card"))
+			.categoryName(categoryNames == null ? List.of() : Arrays.asList(categoryNames.split(CATEGORY_SEPARATOR)))
+			.isDownload(rs.getBoolean("is_download"))
+			.cursor(LibraryCursor.of(sort, rs.getObject("sort_value"), libraryId).encode())
+			.build();
+	}
+
+	private String escapeLike(String text) {
+		return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
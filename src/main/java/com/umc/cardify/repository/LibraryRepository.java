@@ -3,7 +3,17 @@ package com.umc.cardify.repository;
 import com.umc.cardify.domain.Library;
 import com.umc.cardify.domain.Note;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LibraryRepository extends JpaRepository<Library, Long> {
     Library findByNote(Note note);
+
+    // 자료 목록 표시용 (노트, 폴더, 업로더를 함께 조회)
+    @Query("SELECT l FROM Library l JOIN FETCH l.note n JOIN FETCH n.folder f JOIN FETCH f.user " +
+            "WHERE l.libraryId IN :libraryIds")
+    List<Library> findAllWithUploaderByLibraryIdIn(@Param("libraryIds") Collection<Long> libraryIds);
 }
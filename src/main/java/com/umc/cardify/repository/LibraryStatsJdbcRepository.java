@@ -0,0 +1,86 @@
+package com.umc.cardify.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자료실 다운로드 집계
+ * note_library.download_count(전체), download_week_count(최근 7일)와 일별 버킷 library_download_daily를 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LibraryStatsJdbcRepository {
+
+	private static final String UPSERT_DAILY = """
+		INSERT INTO library_download_daily (library_id, download_day, download_count)
+		VALUES (?, ?, 1)
+		ON DUPLICATE KEY UPDATE download_count = download_count + 1
+		""";
+
+	private static final String INCREASE_COUNTS = """
+		UPDATE note_library
+		SET download_count = download_count + 1, download_week_count = download_week_count + 1
+		WHERE library_id = ?
+		""";
+
+	// 기간이 지난 버킷이 빠지도록 최근 windowDays일(오늘 포함) 버킷 합으로 다시 계산
+	private static final String REFRESH_WEEK_COUNTS = """
+		UPDATE note_library l
+		LEFT JOIN (
+			SELECT library_id, SUM(download_count) AS cnt
+			FROM library_download_daily
+			WHERE download_day >= ?
+			GROUP BY library_id
+		) w ON w.library_id = l.library_id
+		SET l.download_week_count = COALESCE(w.cnt, 0)
+		""";
+
+	private static final String DELETE_EXPIRED_DAILY = "DELETE FROM library_download_daily WHERE download_day < ?";
+
+	private static final String DELETE_DAILY = "DELETE FROM library_download_daily WHERE library_id = ?";
+
+	private static final String SELECT_WEEK_COUNTS = "SELECT library_id, download_week_count FROM note_library";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 새 다운로드 1건 반영
+	 */
+	public void increaseDownload(Long libraryId, LocalDate day) {
+		jdbcTemplate.update(UPSERT_DAILY, libraryId, Date.valueOf(day));
+		jdbcTemplate.update(INCREASE_COUNTS, libraryId);
+	}
+
+	/**
+	 * since 이후(포함) 버킷으로 주간 다운로드 수를 다시 계산하고 지난 버킷 삭제
+	 * @return 갱신된 자료실 수
+	 */
+	public int refreshWeekCounts(LocalDate since) {
+		int rows = jdbcTemplate.update(REFRESH_WEEK_COUNTS, Date.valueOf(since));
+		jdbcTemplate.update(DELETE_EXPIRED_DAILY, Date.valueOf(since));
+		return rows;
+	}
+
+	public void deleteDailyCounts(Long libraryId) {
+		jdbcTemplate.update(DELETE_DAILY, libraryId);
+	}
+
+	/**
+	 * @return libraryId → 주간 다운로드 수
+	 */
+	public Map<Long, Integer> findWeekCounts() {
+		Map<Long, Integer> weekCounts = new LinkedHashMap<>();
+		jdbcTemplate.query(SELECT_WEEK_COUNTS,
+			rs -> {
+				weekCounts.put(rs.getLong(1), rs.getInt(2));
+			});
+		return weekCounts;
+	}
+}
@@ -0,0 +1,36 @@
+package com.umc.cardify.repository;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.umc.cardify.domain.NoteBlob;
+
+public interface NoteBlobRepository extends JpaRepository<NoteBlob, String> {
+
+	/**
+	 * 같은 내용(hash)이 이미 있으면 last_used_at만 갱신 (동시에 같은 내용을 저장해도 충돌하지 않음)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO note_blob (hash, codec, raw_size, data, last_used_at)
+		VALUES (:hash, :codec, :rawSize, :data, NOW())
+		ON DUPLICATE KEY UPDATE last_used_at = NOW()
+		""", nativeQuery = true)
+	int upsert(@Param("hash") String hash, @Param("codec") int codec, @Param("rawSize") int rawSize,
+		@Param("data") byte[] data);
+
+	/**
+	 * 어떤 노트도 참조하지 않고 graceHours 동안 저장되지 않은 내용 삭제
+	 * (저장 직후 아직 커밋되지 않은 참조를 지우지 않도록 최근 내용은 제외)
+	 */
+	@Modifying
+	@Query(value = """
+		DELETE b FROM note_blob b
+		LEFT JOIN contents_note c ON c.blob_hash = b.hash
+		WHERE c.contents_id IS NULL
+		AND b.last_used_at < NOW() - INTERVAL :graceHours HOUR
+		""", nativeQuery = true)
+	int deleteUnreferenced(@Param("graceHours") int graceHours);
+}
@@ -0,0 +1,41 @@
+package com.umc.cardify.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Note 일괄 갱신 (엔티티를 읽지 않으므로 editDate(@UpdateTimestamp)는 바뀌지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteJdbcRepository {
+
+	// 더 최근 조회 시간이 이미 저장되어 있으면 갱신하지 않음
+	private static final String UPDATE_VIEW_AT = """
+		UPDATE note SET view_at = ?
+		WHERE note_id = ? AND (view_at IS NULL OR view_at < ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param viewAts noteId → 마지막 조회 시간
+	 */
+	public void updateViewAts(Map<Long, LocalDateTime> viewAts) {
+		if (viewAts.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(UPDATE_VIEW_AT, viewAts.entrySet().stream()
+			.map(entry -> {
+				Timestamp viewAt = Timestamp.valueOf(entry.getValue());
+				return new Object[] {viewAt, entry.getKey(), viewAt};
+			})
+			.toList());
+	}
+}
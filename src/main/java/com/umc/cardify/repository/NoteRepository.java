@@ -4,18 +4,33 @@ import com.umc.cardify.domain.Note;
 import com.umc.cardify.domain.Folder;
 import com.umc.cardify.domain.User;
 import com.umc.cardify.domain.enums.MarkStatus;
+import com.umc.cardify.dto.note.NoteListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
+    // 노트 목록 조회용 생성자 표현식 (폴더 정보, 카드 수, 업로드 여부 포함)
+    String NOTE_LIST_ROW = "SELECT new com.umc.cardify.dto.note.NoteListRow(n.noteId, n.name, f.folderId, f.name, f.color, " +
+            "n.markState, n.markAt, n.viewAt, n.editDate, n.createdAt, n.downloadLibId, " +
+            "(SELECT COUNT(c) FROM Card c WHERE c.note = n), " +
+            "CASE WHEN EXISTS (SELECT l FROM Library l WHERE l.note = n) THEN true ELSE false END) " +
+            "FROM Note n JOIN n.folder f ";
+
+    // 카드 수 필터 (null = 전체, card-most = 카드 있는 노트, card-less = 카드 없는 노트)
+    String CARD_FILTER = "AND (:filter IS NULL " +
+            "OR (:filter = 'card-most' AND EXISTS (SELECT c FROM Card c WHERE c.note = n)) " +
+            "OR (:filter = 'card-less' AND NOT EXISTS (SELECT c FROM Card c WHERE c.note = n))) ";
+
     List<Note> findByFolder(Folder folder);
 
     @Query("SELECT n FROM Note n WHERE n.folder.user = :user ORDER BY " +
@@ -55,6 +70,51 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
             "n.viewAt DESC ")
     Page<Note> findByUserOrderByViewAtDesc(User user, Pageable pageable);
 
+    @Query("SELECT n FROM Note n WHERE n.folder.user = :user AND n.noteId IN :noteIds")
+    List<Note> findByUserAndNoteIdIn(@Param("user") User user, @Param("noteIds") Collection<Long> noteIds);
+
+
+    /*
+     * 노트 이름, 전체 텍스트 전문 검색 (FULLTEXT ngram 인덱스 ft_note_search(name, total_text) 사용)
+     * query : MySQL boolean mode 검색식, 결과는 [note_id, score] (관련도 순)
+     */
+    @Query(value = "SELECT n.note_id, MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM note n " +
+            "WHERE n.folder_id = :folderId AND MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY score DESC, n.note_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchInFolder(@Param("folderId") Long folderId, @Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT n.note_id, MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM note n JOIN folder f ON f.folder_id = n.folder_id " +
+            "WHERE f.user_id = :userId AND MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY score DESC, n.note_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchByUser(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+
+    // 자료실에 업로드된 노트 검색, 결과는 [library_id, note_id, score]
+    @Query(value = "SELECT l.library_id, n.note_id, MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM note_library l JOIN note n ON n.note_id = l.note_id " +
+            "WHERE MATCH(n.name, n.total_text) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY score DESC, l.library_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchInLibrary(@Param("query") String query, @Param("limit") int limit);
+
+    /*
+     * 전문 검색으로 찾을 수 없는 짧은 검색어(ngram_token_size 미만)용 LIKE 검색, 범위는 전문 검색과 같음
+     * pattern : 이스케이프된 '%검색어%', 결과는 전문 검색과 같은 형태 (score = 0, 최근 노트 순)
+     */
+    @Query(value = "SELECT n.note_id, 0 AS score FROM note n " +
+            "WHERE n.folder_id = :folderId AND (n.name LIKE :pattern OR n.total_text LIKE :pattern) " +
+            "ORDER BY n.note_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchInFolderByLike(@Param("folderId") Long folderId, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    @Query(value = "SELECT n.note_id, 0 AS score FROM note n JOIN folder f ON f.folder_id = n.folder_id " +
+            "WHERE f.user_id = :userId AND (n.name LIKE :pattern OR n.total_text LIKE :pattern) " +
+            "ORDER BY n.note_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchByUserByLike(@Param("userId") Long userId, @Param("pattern") String pattern, @Param("limit") int limit);
+
+    @Query(value = "SELECT l.library_id, n.note_id, 0 AS score FROM note_library l JOIN note n ON n.note_id = l.note_id " +
+            "WHERE n.name LIKE :pattern OR n.total_text LIKE :pattern " +
+            "ORDER BY l.library_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchInLibraryByLike(@Param("pattern") String pattern, @Param("limit") int limit);
 
     Optional<Note> findByUuid(String UUID);
 
@@ -79,4 +139,29 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
             "WHERE n.folder = :folder " +
             "GROUP BY n.noteId")
     List<Object[]> findNoteCardCounts(@Param("folder") Folder folder);
+
+    // 유저가 자료실에서 다운로드한 노트를 수정 가능으로 변경 (note.download_lib_id 인덱스로 조회)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Note n SET n.isEdit = true WHERE n.downloadLibId = :libraryId " +
+            "AND n.folder IN (SELECT f FROM Folder f WHERE f.user = :user)")
+    int updateIsEditByUserAndDownloadLibId(@Param("user") User user, @Param("libraryId") Long libraryId);
+
+    // 폴더 내 노트 목록 (정렬은 pageable 기준)
+    @Query(value = NOTE_LIST_ROW + "WHERE n.folder = :folder",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.folder = :folder")
+    Page<NoteListRow> findNoteRowsByFolder(@Param("folder") Folder folder, Pageable pageable);
+
+    // 폴더 내 노트 목록 (즐겨찾기 우선, order 기준 정렬, 카드 수 필터)
+    @Query(value = NOTE_LIST_ROW + "WHERE n.folder = :folder " + CARD_FILTER + "ORDER BY " +
+            "CASE WHEN n.markState = 'ACTIVE' THEN 0 ELSE 1 END, " +
+            "CASE WHEN :order = 'asc' THEN n.name END ASC, " +
+            "CASE WHEN :order = 'desc' THEN n.name END DESC, " +
+            "CASE WHEN :order = 'create-newest' THEN n.createdAt END DESC, " +
+            "CASE WHEN :order = 'create-oldest' THEN n.createdAt END ASC, " +
+            "CASE WHEN :order = 'edit-newest' THEN n.editDate END DESC, " +
+            "CASE WHEN :order = 'edit-oldest' THEN n.editDate END ASC, " +
+            "n.noteId DESC",
+            countQuery = "SELECT COUNT(n) FROM Note n WHERE n.folder = :folder " + CARD_FILTER)
+    Page<NoteListRow> findNoteRowsByFolderAndSortFilter(@Param("folder") Folder folder, @Param("order") String order,
+                                                       @Param("filter") String filter, Pageable pageable);
 }
@@ -1,8 +1,10 @@
 package com.umc.cardify.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.umc.cardify.domain.Note;
@@ -20,4 +22,35 @@ public interface StudyCardSetRepository extends JpaRepository<StudyCardSet, Long
 
 	@Query("SELECT s FROM StudyCardSet s WHERE s.user.userId = :userId ORDER BY s.nextStudyDate ASC")
 	List<StudyCardSet> findByUserOrderByNextStudyDateAsc(@Param("userId") Long userId);
+
+	/**
+	 * 다음 학습 시간이 가장 이른 카드가 오래된 순서로 상위 pageable.size 개 세트 (빠른 학습)
+	 */
+	@Query("SELECT s FROM StudyCardSet s WHERE s.user.userId = :userId AND s.oldestDueAt IS NOT NULL ORDER BY s.oldestDueAt ASC")
+	List<StudyCardSet> findQuickLearningSets(@Param("userId") Long userId, Pageable pageable);
+
+	/**
+	 * 모든 카드의 다음 학습 시간이 now 이후인 세트 (학습 예정)
+	 */
+	@Query("SELECT s FROM StudyCardSet s WHERE s.user.userId = :userId AND s.oldestDueAt > :now ORDER BY s.nextStudyDate ASC")
+	List<StudyCardSet> findIntendedLearningSets(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+	/**
+	 * 세트 내 일반 카드 + 이미지 카드의 다음 학습 시간 범위
+	 * (study_card_set_id, learn_next_time) 인덱스로 테이블마다 MIN, MAX 한 번씩만 읽음
+	 * @return [가장 이른 다음 학습 시간, 가장 늦은 다음 학습 시간]
+	 */
+	@Query(value = """
+		SELECT MIN(t.min_time), MAX(t.max_time)
+		FROM (
+			SELECT MIN(c.learn_next_time) AS min_time, MAX(c.learn_next_time) AS max_time
+			FROM card c
+			WHERE c.study_card_set_id = :studyCardSetId
+			UNION ALL
+			SELECT MIN(ic.learn_next_time) AS min_time, MAX(ic.learn_next_time) AS max_time
+			FROM image_card ic
+			WHERE ic.study_card_set_id = :studyCardSetId
+		) AS t
+	""", nativeQuery = true)
+	List<Object[]> findDueRange(@Param("studyCardSetId") Long studyCardSetId);
 }
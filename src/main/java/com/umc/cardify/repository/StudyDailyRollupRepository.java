@@ -0,0 +1,97 @@
+package com.umc.cardify.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.umc.cardify.domain.StudyDailyRollup;
+
+public interface StudyDailyRollupRepository extends JpaRepository<StudyDailyRollup, Long> {
+
+	/**
+	 * 일자별 처음 학습한 카드 수
+	 * @return [study_day, card_count]
+	 */
+	@Query(value = """
+		SELECT r.study_day, SUM(r.card_count)
+		FROM study_daily_rollup r
+		WHERE r.user_id = :userId
+		AND r.study_day BETWEEN :start AND :end
+		GROUP BY r.study_day
+	""", nativeQuery = true)
+	List<Object[]> findDailyCardCounts(@Param("userId") Long userId, @Param("start") LocalDate start,
+		@Param("end") LocalDate end);
+
+	/**
+	 * 난이도별 처음 학습한 카드 수 (start, end가 null이면 전체 기간)
+	 * @return [difficulty, card_count]
+	 */
+	@Query(value = """
+		SELECT r.difficulty, SUM(r.card_count)
+		FROM study_daily_rollup r
+		WHERE r.user_id = :userId
+		AND (:start IS NULL OR r.study_day >= :start)
+		AND (:end IS NULL OR r.study_day <= :end)
+		GROUP BY r.difficulty
+	""", nativeQuery = true)
+	List<Object[]> findDifficultyCardCounts(@Param("userId") Long userId, @Param("start") LocalDate start,
+		@Param("end") LocalDate end);
+
+	/**
+	 * 일자별 학습 횟수
+	 * @return [study_day, daily_count]
+	 */
+	@Query(value = """
+		SELECT r.study_day, SUM(r.learn_count)
+		FROM study_daily_rollup r
+		WHERE r.user_id = :userId
+		AND r.study_day BETWEEN :start AND :end
+		GROUP BY r.study_day
+	""", nativeQuery = true)
+	List<Object[]> findDailyLearnCounts(@Param("userId") Long userId, @Param("start") LocalDate start,
+		@Param("end") LocalDate end);
+
+	/**
+	 * 집계 재생성 범위의 끝 (study_history, study_daily_rollup의 가장 큰 user_id, 없으면 0)
+	 */
+	@Query(value = """
+		SELECT GREATEST(COALESCE((SELECT MAX(sh.user_id) FROM study_history sh), 0),
+			COALESCE((SELECT MAX(r.user_id) FROM study_daily_rollup r), 0))
+	""", nativeQuery = true)
+	long findMaxRollupUserId();
+
+	/**
+	 * user_id가 fromUserId 이상 toUserId 이하인 유저의 집계를 study_history로 다시 계산 (있으면 덮어쓰기)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO study_daily_rollup (user_id, study_day, difficulty, card_count, learn_count)
+		SELECT sh.user_id, DATE(sh.study_date), sh.difficulty, COUNT(*), SUM(sh.total_learn_count)
+		FROM study_history sh
+		WHERE sh.user_id BETWEEN :fromUserId AND :toUserId
+		GROUP BY sh.user_id, DATE(sh.study_date), sh.difficulty
+		ON DUPLICATE KEY UPDATE card_count = VALUES(card_count), learn_count = VALUES(learn_count)
+	""", nativeQuery = true)
+	int upsertRollups(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+	/**
+	 * user_id가 fromUserId 이상 toUserId 이하인 유저의 집계 중 study_history에 더 이상 없는 일자, 난이도 삭제
+	 */
+	@Modifying
+	@Query(value = """
+		DELETE r FROM study_daily_rollup r
+		WHERE r.user_id BETWEEN :fromUserId AND :toUserId
+		AND NOT EXISTS (
+			SELECT 1 FROM study_history sh
+			WHERE sh.user_id = r.user_id
+			AND sh.difficulty = r.difficulty
+			AND sh.study_date >= r.study_day
+			AND sh.study_date < r.study_day + INTERVAL 1 DAY
+		)
+	""", nativeQuery = true)
+	int deleteStaleRollups(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
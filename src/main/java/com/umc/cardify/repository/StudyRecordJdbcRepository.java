@@ -0,0 +1,143 @@
+package com.umc.cardify.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.umc.cardify.dto.card.StudyEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StudyLog, StudyHistory 일괄 저장
+ * IDENTITY 전략 엔티티는 Hibernate가 insert를 batch로 묶지 못하므로 JDBC batch로 처리
+ * (datasource url의 rewriteBatchedStatements=true 필요)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyRecordJdbcRepository {
+
+	private static final String INSERT_STUDY_LOG = """
+		INSERT INTO study_log (study_card_set_id, user_id, card_id, image_card_id, study_date, difficulty, study_card_number)
+		VALUES (?, ?, ?, ?, ?, ?, 0)
+		""";
+
+	private static final String INSERT_STUDY_HISTORY = """
+		INSERT INTO study_history (user_id, card_id, image_card_id, study_date, difficulty, total_learn_count, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private static final String INCREASE_STUDY_HISTORY_COUNT = """
+		UPDATE study_history SET total_learn_count = total_learn_count + ?, updated_at = ?
+		WHERE study_history_id = ?
+		""";
+
+	private static final String UPSERT_DAILY_ROLLUP = """
+		INSERT INTO study_daily_rollup (user_id, study_day, difficulty, card_count, learn_count)
+		VALUES (?, ?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE card_count = card_count + VALUES(card_count), learn_count = learn_count + VALUES(learn_count)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public void insertStudyLogs(List<StudyEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_STUDY_LOG, events.stream()
+			.map(event -> new Object[] {event.studyCardSetId(), event.userId(), event.cardId(), event.imageCardId(),
+				Timestamp.valueOf(event.studyDate()), event.difficulty()})
+			.toList());
+	}
+
+	/**
+	 * @param events 카드별 첫 학습 이벤트
+	 * @param learnCounts events와 같은 순서의 카드별 학습 횟수
+	 */
+	public void insertStudyHistories(List<StudyEvent> events, List<Integer> learnCounts, LocalDateTime now) {
+		if (events.isEmpty()) {
+			return;
+		}
+		Timestamp auditTime = Timestamp.valueOf(now);
+		jdbcTemplate.batchUpdate(INSERT_STUDY_HISTORY, IntStream.range(0, events.size())
+			.mapToObj(i -> {
+				StudyEvent event = events.get(i);
+				return new Object[] {event.userId(), event.cardId(), event.imageCardId(),
+					Timestamp.valueOf(event.studyDate()), event.difficulty(), learnCounts.get(i), auditTime, auditTime};
+			})
+			.toList());
+	}
+
+	/**
+	 * @param learnCounts studyHistoryId → 증가할 학습 횟수
+	 */
+	public void increaseStudyHistoryCounts(Map<Long, Integer> learnCounts, LocalDateTime now) {
+		if (learnCounts.isEmpty()) {
+			return;
+		}
+		Timestamp auditTime = Timestamp.valueOf(now);
+		jdbcTemplate.batchUpdate(INCREASE_STUDY_HISTORY_COUNT, learnCounts.entrySet().stream()
+			.map(entry -> new Object[] {entry.getValue(), auditTime, entry.getKey()})
+			.toList());
+	}
+
+	/**
+	 * study_daily_rollup 증가 (userId, studyDay, difficulty 기준)
+	 * @param rows [userId, studyDay(LocalDate), difficulty, cardCount(증가량), learnCount(증가량)]
+	 */
+	public void increaseDailyRollups(List<Object[]> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(UPSERT_DAILY_ROLLUP, rows.stream()
+			.map(row -> new Object[] {row[0], Date.valueOf((LocalDate)row[1]), row[2], row[3], row[4]})
+			.toList());
+	}
+
+	/**
+	 * @return cardId → 기존 학습 기록
+	 */
+	public Map<Long, StudyHistoryRef> findCardHistories(Long userId, Collection<Long> cardIds) {
+		return findHistories("card_id", userId, cardIds);
+	}
+
+	/**
+	 * @return imageCardId → 기존 학습 기록
+	 */
+	public Map<Long, StudyHistoryRef> findImageCardHistories(Long userId, Collection<Long> imageCardIds) {
+		return findHistories("image_card_id", userId, imageCardIds);
+	}
+
+	private Map<Long, StudyHistoryRef> findHistories(String cardColumn, Long userId, Collection<Long> ids) {
+		Map<Long, StudyHistoryRef> histories = new HashMap<>();
+		if (ids.isEmpty()) {
+			return histories;
+		}
+		String sql = "SELECT " + cardColumn + ", study_history_id, study_date, difficulty FROM study_history"
+			+ " WHERE user_id = :userId AND " + cardColumn + " IN (:ids) ORDER BY study_history_id";
+		namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("userId", userId).addValue("ids", ids),
+			rs -> {
+				histories.putIfAbsent(rs.getLong(1), new StudyHistoryRef(rs.getLong(2),
+					rs.getTimestamp(3).toLocalDateTime().toLocalDate(), rs.getInt(4)));
+			});
+		return histories;
+	}
+
+	/**
+	 * 기존 학습 기록 (학습 횟수 증가, 일자별 집계 반영에 사용)
+	 */
+	public record StudyHistoryRef(Long studyHistoryId, LocalDate studyDay, int difficulty) {
+	}
+}
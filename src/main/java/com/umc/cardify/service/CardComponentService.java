@@ -7,17 +7,13 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.umc.cardify.auth.jwt.JwtTokenProvider;
 import com.umc.cardify.domain.*;
-import com.umc.cardify.domain.enums.AuthProvider;
 import com.umc.cardify.repository.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,7 +29,15 @@ import com.umc.cardify.domain.enums.CardType;
 import com.umc.cardify.domain.enums.Difficulty;
 import com.umc.cardify.domain.enums.StudyStatus;
 import com.umc.cardify.dto.card.CardRequest;
+import com.umc.cardify.dto.card.AnnualHeatmap;
 import com.umc.cardify.dto.card.CardResponse;
+import com.umc.cardify.dto.card.DueCardKey;
+import com.umc.cardify.dto.card.StudyEvent;
+import com.umc.cardify.service.scheduler.StudyScheduler;
+import com.umc.cardify.service.study.ContributionHeatmapCache;
+import com.umc.cardify.service.study.DueCalendarCache;
+import com.umc.cardify.service.study.StudyEventBuffer;
+import com.umc.cardify.service.study.StudyEventWriter;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -52,50 +56,32 @@ public class CardComponentService {
 	private final StudyCardSetRepository studyCardSetRepository;
 	private final StudyLogRepository studyLogRepository;
 	private final StudyHistoryRepository studyHistoryRepository;
-	private final UserRepository userRepository;
-	private final CardRepository cardRepository;
+	private final StudyDailyRollupRepository studyDailyRollupRepository;
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final StudyScheduler studyScheduler;
+	private final StudyEventWriter studyEventWriter;
+	private final StudyEventBuffer studyEventBuffer;
+	private final ContributionHeatmapCache contributionHeatmapCache;
+	private final DueCalendarCache dueCalendarCache;
 
-	private Long findUserId(String token) {
-		String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-		AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
+	public CardResponse.getExpectedStudyDateDTO getExpectedStudyDate(Long userId, int years, int month) {
+		// 해당 년월의 일자별 학습 예정 카드 수 (DB에서 일자별로 집계, 짧은 시간 캐시)
+		List<CardResponse.expectedDateCountDTO> expectedDateCounts = dueCalendarCache.get(userId,
+			YearMonth.of(years, month));
 
-		return userRepository.findByEmailAndProvider(email, provider)
-				.orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
-	}
-
-	@Transactional
-	public CardResponse.getExpectedStudyDateDTO getExpectedStudyDate(String token, int years, int month) {
-		Long userId = findUserId(token);
-
-		// 해당 년월의 첫날과 마지막 날 계산
-		YearMonth yearMonth = YearMonth.of(years, month);
-		LocalDateTime startDateTime = yearMonth.atDay(1).atStartOfDay(ZoneId.of("Asia/Seoul")).toLocalDateTime();
-		LocalDateTime endDateTime = yearMonth.atEndOfMonth().atTime(23, 59, 59).atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime();
-
-		// 해당 유저의 해당 기간의 카드를 조회
-		List<Card> cards = cardRepository.findAllByUserIdAndLearnNextTimeBetween(userId, startDateTime, endDateTime);
-		List<ImageCard> imageCards = imageCardRepository.findAllByUserIdAndLearnNextTimeBetween(userId, startDateTime, endDateTime);
-
-		// 카드를 모두 모아서 learn_next_time의 일자를 추출
-		List<Integer> expectedDates = Stream.concat(
-				cards.stream().map(card -> card.getLearnNextTime().toInstant().atZone(ZoneId.of("Asia/Seoul")).toLocalDate().getDayOfMonth()),
-				imageCards.stream().map(imageCard -> imageCard.getLearnNextTime().toInstant().atZone(ZoneId.of("Asia/Seoul")).toLocalDate().getDayOfMonth())
-			).distinct()
-			.sorted()
-			.collect(Collectors.toList());
+		List<Integer> expectedDates = expectedDateCounts.stream()
+			.map(CardResponse.expectedDateCountDTO::getDay)
+			.toList();
 
 		// DTO에 결과 반환
 		return CardResponse.getExpectedStudyDateDTO.builder()
 			.expectedDate(expectedDates)
+			.expectedDateCounts(expectedDateCounts)
 			.build();
 	}
 
 	@Transactional
-	public void reStudy(String token, Long cardId, int cardType) {
-		Long userId = findUserId(token);
-
+	public void reStudy(Long userId, Long cardId, int cardType) {
 		if (cardType == 0) {
 			Card card = cardModuleService.getCardById(cardId);
 			card.setCountLearn(0L);
@@ -103,6 +89,7 @@ public class CardComponentService {
 			card.setLearnLastTime(null);
 			card.setLearnNextTime(null);
 			cardModuleService.saveCard(card);
+			cardModuleService.refreshDueRange(card.getStudyCardSet());
 
 			// 해당 카드의 학습 로그 삭제
 			studyLogRepository.deleteByUser_UserIdAndCard_CardId(userId, cardId);
@@ -113,23 +100,20 @@ public class CardComponentService {
 			imageCard.setLearnLastTime(null);
 			imageCard.setLearnNextTime(null);
 			cardModuleService.saveImageCard(imageCard);
+			cardModuleService.refreshDueRange(imageCard.getStudyCardSet());
 
 			studyLogRepository.deleteByUser_UserIdAndImageCard_Id(userId, cardId);
 		}
 	}
 
 	@Transactional
-	public void deleteStudyCardSet(String token, Long studyCardSetId) {
-		Long userId = findUserId(token);
-
+	public void deleteStudyCardSet(Long userId, Long studyCardSetId) {
 		StudyCardSet studyCardSet = cardModuleService.getStudyCardSetById(studyCardSetId);
 		cardModuleService.deleteCardSet(studyCardSetId);
 	}
 
 	@Transactional
-	public List<CardResponse.getStudySuggestion> suggestionAnalyzeStudy(String token, Timestamp date) {
-		Long userId = findUserId(token);
-
+	public List<CardResponse.getStudySuggestion> suggestionAnalyzeStudy(Long userId, Timestamp date) {
 		List<Card> cards = cardModuleService.findAllCardsByUserIdAndLearnNextTimeOnDate(userId, date);
 		List<ImageCard> imageCards = cardModuleService.findAllImageCardsByUserIdAndLearnNextTimeOnDate(userId, date);
 
@@ -180,23 +164,27 @@ public class CardComponentService {
 	}
 
 	@Transactional
-	public String addImageCard(String token, MultipartFile image, CardRequest.addImageCard request, Note note) {
-		Long userId = findUserId(token);
+	public String addImageCard(Long userId, MultipartFile image, CardRequest.addImageCard request, Note note) {
 		String imgUrl = s3Service.upload(image, "imageCards");
 
 		ImageCard imageCard = ImageCard.builder()
 			.imageUrl(imgUrl)
 			.height(request.getBaseImageHeight())
 			.width(request.getBaseImageWidth())
+			.countLearn(0L)
+			.learnNextTime(Timestamp.valueOf(LocalDateTime.now())) // 노트에서 만든 이미지 카드와 같이 즉시 학습
 			.build();
 
 		StudyCardSet studyCardSet = cardModuleService.findStudyCardSetByNote(note);
 
 		imageCard.setStudyCardSet(studyCardSet);
-		cardModuleService.saveStudyCardSet(studyCardSet);
 
 		ImageCard savedImageCard = imageCardRepository.save(imageCard);
 
+		// 새 카드가 빠른 학습 대상에 바로 포함되도록 다음 학습 시간 범위 갱신
+		cardModuleService.refreshDueRange(studyCardSet);
+		cardModuleService.saveStudyCardSet(studyCardSet);
+
 		if (request.getOverlays() != null) {
 			for (CardRequest.addImageCardOverlay overlayRequest : request.getOverlays()) {
 				Overlay overlay = Overlay.builder()
@@ -215,9 +203,7 @@ public class CardComponentService {
 	}
 
 	@Transactional
-	public CardResponse.getImageCard viewImageCard(String token, Long imageCardId) {
-		Long userId = findUserId(token);
-
+	public CardResponse.getImageCard viewImageCard(Long userId, Long imageCardId) {
 		ImageCard imageCard = imageCardRepository.findById(imageCardId)
 			.orElseThrow(() -> new IllegalArgumentException("Image card not found with id: " + imageCardId));
 
@@ -241,9 +227,7 @@ public class CardComponentService {
 	}
 
 	@Transactional
-	public String editImageCard(String token, CardRequest.addImageCard request, Long imgCardId) {
-		Long userId = findUserId(token);
-
+	public String editImageCard(Long userId, CardRequest.addImageCard request, Long imgCardId) {
 		ImageCard existingImageCard = imageCardRepository.findById(imgCardId)
 			.orElseThrow(() -> new IllegalArgumentException("ImageCard not found with ID: " + imgCardId));
 
@@ -272,9 +256,8 @@ public class CardComponentService {
 	}
 
 	@Transactional
-	public List<CardResponse.getStudyCardSetLists> getStudyCardSetLists(String token, String order, String color,
+	public List<CardResponse.getStudyCardSetLists> getStudyCardSetLists(Long userId, String order, String color,
 		Integer studyStatus) {
-		Long userId = findUserId(token);
 		List<StudyCardSet> studyCardSets = cardModuleService.getStudyCardSetsByUser(userId);
 
 		if (studyStatus != null) {
@@ -340,92 +323,39 @@ public class CardComponentService {
 
 	/**
 	 * 각 카드의 '다음 학습 시간'까지 적게 남은 순서로 전달해야한다.
-	 * update date 2025.10.25
+	 * 대기열 전체를 메모리에 올려 정렬하지 않고 (study_card_set_id, learn_next_time, id) 인덱스 순서로 한 장만 조회
+	 * cursor가 있으면 cursor 다음 카드(keyset), 없으면 pageNumber 번째 카드
+	 * update date 2026.10.18
 	 *
 	 * @name getCardLists
-	 * @param token
+	 * @param userId
 	 * @param studyCardSetId
 	 * @param pageNumber
+	 * @param cursor 직전에 받은 카드의 (cardKind, cardId, learnNextTime), 없으면 null
 	 * @return Page<Object>
 	 */
 	@Transactional
-	public Page<Object> getCardLists(String token, Long studyCardSetId, int pageNumber) {
-		Long userId = findUserId(token);
+	public Page<Object> getCardLists(Long userId, Long studyCardSetId, int pageNumber, DueCardKey cursor) {
 		StudyCardSet studyCardSet = cardModuleService.getStudyCardSetById(studyCardSetId);
 
-		// 1) 일반 카드, 이미지 카드 모두 조회
-		List<Card> cards = cardModuleService.getCardsByStudyCardSet(studyCardSet);
-		List<ImageCard> imageCards = cardModuleService.getImageCardsByStudyCardSet(studyCardSet);
-
-		List<Object> allCards = new ArrayList<>();
-
-		// 2) 난이도가 NONE(0)가 아닌 카드들 또는 countLearn이 0인 카드들만 필터링하여 추가
-		allCards.addAll(
-			cards.stream()
-				.filter(card -> card.getDifficulty() != Difficulty.NONE || card.getCountLearn() == 0)
-				.collect(Collectors.toList())
-		);
-
-		allCards.addAll(
-			imageCards.stream()
-				.filter(imageCard -> imageCard.getDifficulty() != Difficulty.NONE || imageCard.getCountLearn() == 0)
-				.collect(Collectors.toList())
-		);
-
-		log.debug("모든 카드가 결합되고 필터링되었습니다: {}", allCards);
-
-		// 3) 다음 학습 시간 기준으로 오름차순 정렬(남은 시간 적음 -> 많음)
-		allCards.sort((a, b) -> {
-			LocalDateTime nextA = (a instanceof Card)
-					? Optional.ofNullable(((Card)a).getLearnNextTime())
-					.map(Timestamp::toLocalDateTime).orElse(LocalDateTime.MAX)
-					: Optional.ofNullable(((ImageCard)a).getLearnNextTime())
-					.map(Timestamp::toLocalDateTime).orElse(LocalDateTime.MAX);
-
-			LocalDateTime nextB = (b instanceof Card)
-					? Optional.ofNullable(((Card)b).getLearnNextTime())
-					.map(Timestamp::toLocalDateTime).orElse(LocalDateTime.MAX)
-					: Optional.ofNullable(((ImageCard)b).getLearnNextTime())
-					.map(Timestamp::toLocalDateTime).orElse(LocalDateTime.MAX);
-
-			int compareTime = nextA.compareTo(nextB);
-			if (compareTime != 0) {
-				return compareTime; // learnNextTime 기준 우선 정렬
-			}
-
-			// ⚙️ learnNextTime이 동일하면 cardId 기준으로 정렬
-			Long idA = (a instanceof Card)
-					? ((Card)a).getCardId()
-					: ((ImageCard)a).getId();
-			Long idB = (b instanceof Card)
-					? ((Card)b).getCardId()
-					: ((ImageCard)b).getId();
+		// 1) 난이도가 NONE(0)가 아닌 카드들 또는 countLearn이 0인 카드들의 수
+		long[] dueCounts = cardModuleService.countDueCards(studyCardSetId);
+		long totalCards = dueCounts[0] + dueCounts[1];
 
-			return idA.compareTo(idB);
-		});
+		// 2) 다음 학습 시간 오름차순(없으면 마지막), 같으면 cardId 순서로 한 장 조회
+		Optional<DueCardKey> dueCard = (cursor == null)
+			? cardModuleService.findDueCardAt(studyCardSetId, pageNumber, dueCounts[0])
+			: cardModuleService.findDueCardAfter(studyCardSetId, cursor);
 
-		int totalCards = allCards.size();
 		Pageable pageable = PageRequest.of(pageNumber, 1);
-
-		int start = (int)pageable.getOffset();
-		int end = Math.min((start + pageable.getPageSize()), totalCards);
-
-		List<Object> pagedCards = allCards.subList(start, end);
-
-		Page<Object> cardsPage = new PageImpl<>(pagedCards, pageable, totalCards);
-
-		return cardsPage.map(card -> {
-			if (card instanceof Card wordCard) {
-				log.debug("WordCard 매핑: {}", wordCard.getCardId());
-				return mapToWordCardResponse(wordCard, studyCardSet);
-			} else if (card instanceof ImageCard imageCard) {
-				log.debug("ImageCard 매핑: {}", imageCard.getId());
-				return mapToImageCardResponse(imageCard, studyCardSet);
-			} else {
-				log.error("예상치 못한 카드 유형이 발견되었습니다: {}", card.getClass().getName());
-				throw new IllegalStateException("예상치 못한 카드 유형입니다");
-			}
-		});
+		List<Object> pagedCards = dueCard
+			.<Object>map(key -> key.isImageCard()
+				? mapToImageCardResponse(cardModuleService.getImageCardById(key.cardId()), studyCardSet)
+				: mapToWordCardResponse(cardModuleService.getCardById(key.cardId()), studyCardSet))
+			.map(List::of)
+			.orElse(List.of());
+
+		return new PageImpl<>(pagedCards, pageable, totalCards);
 	}
 
 	private CardResponse.getCardLists mapToWordCardResponse(Card card, StudyCardSet studyCardSet) {
@@ -436,6 +366,7 @@ public class CardComponentService {
 				.contentsBack(card.getContentsBack())
 				.answer(card.getAnswer())
 				.cardId(card.getCardId())
+				.learnNextTime(toLocalDateTime(card.getLearnNextTime()))
 				.noteId(studyCardSet.getNote().getNoteId())
 				.folderId(studyCardSet.getFolder().getFolderId())
 				.cardType("blank")
@@ -446,6 +377,7 @@ public class CardComponentService {
 				.contentsBack(card.getContentsBack())
 				.answer(card.getAnswer())
 				.cardId(card.getCardId())
+				.learnNextTime(toLocalDateTime(card.getLearnNextTime()))
 				.noteId(studyCardSet.getNote().getNoteId())
 				.folderId(studyCardSet.getFolder().getFolderId())
 				.cardType("word")
@@ -460,6 +392,7 @@ public class CardComponentService {
 				.contentsBack(card.getContentsBack())
 				.answer(card.getAnswer())
 				.cardId(card.getCardId())
+				.learnNextTime(toLocalDateTime(card.getLearnNextTime()))
 				.noteId(studyCardSet.getNote().getNoteId())
 				.folderId(studyCardSet.getFolder().getFolderId())
 				.cardType("multi")
@@ -477,12 +410,17 @@ public class CardComponentService {
 			.baseImageHeight(imageCard.getHeight())
 			.overlays(convertOverlays(imageCard.getOverlays()))
 			.imageCardId(imageCard.getId())
+			.learnNextTime(toLocalDateTime(imageCard.getLearnNextTime()))
 			.noteId(studyCardSet.getNote().getNoteId())
 			.folderId(studyCardSet.getFolder().getFolderId())
 			.cardType("image")
 			.build();
 	}
 
+	private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+
 	private List<CardRequest.addImageCardOverlay> convertOverlays(List<Overlay> overlays) {
 		List<CardRequest.addImageCardOverlay> overlayDtos = new ArrayList<>();
 		for (Overlay overlay : overlays) {
@@ -501,19 +439,17 @@ public class CardComponentService {
 	 * update date 2025.10.25
 	 *
 	 * @name updateCardDifficulty
-	 * @param token
+	 * @param userId
 	 * @param request
 	 */
 	@Transactional
-	public void updateCardDifficulty(String token, CardRequest.difficulty request) {
-		Long userId = findUserId(token);
-
+	public void updateCardDifficulty(Long userId, CardRequest.difficulty request) {
 		if (request.getDifficulty() > 4 || request.getDifficulty() < 1) {
 			throw new BadRequestException(NOT_EXIST_DIFFICULTY_CODE);
 		}
 
 		// 카드 난이도 선택
-		if (request.getCardType() == 0 || request.getCardType() == 1 || request.getCardType() == 2) {
+		if (CardType.isTextCard(request.getCardType())) {
 			Card card = cardModuleService.getCardById(request.getCardId());
 			card.setDifficulty(request.getDifficulty());
 
@@ -527,13 +463,115 @@ public class CardComponentService {
 		}
 
 		// 카드 개별로 학습한 후에 분석학습이 완료됨
-		completeStudy(token, request.getCardId(), request.getCardType());
+		// completeStudy는 일반 카드 = 0, 이미지 카드 = 1 로 구분
+		completeStudy(userId, request.getCardId(), CardType.isTextCard(request.getCardType()) ? 0 : 1);
 	}
 
+	/**
+	 * 학습 세션의 난이도 일괄 반영 (오프라인 학습 동기화)
+	 * 학습한 순서대로 단건 난이도 선택(updateCardDifficulty)과 같은 결과가 되도록 반영하되,
+	 * 카드는 한 번씩만 조회하고 StudyLog, StudyHistory는 JDBC batch로, StudyCardSet은 세트별 한 번만 갱신
+	 * update date 2026.10.18
+	 *
+	 * @name updateCardDifficulties
+	 * @param userId
+	 * @param request
+	 */
 	@Transactional
-	public Page<CardResponse.getStudyLog> viewStudyLog(String token, Long studyCardSetId, int page, int size) {
-		Long userId = findUserId(token);
+	public void updateCardDifficulties(Long userId, CardRequest.difficultyBatch request) {
+		List<CardRequest.difficultyBatchItem> answers = request.getAnswers();
+
+		if (answers == null || answers.isEmpty()) {
+			throw new BadRequestException(REQUEST_ERROR);
+		}
+		for (CardRequest.difficultyBatchItem answer : answers) {
+			if (answer.getCardId() == null) {
+				throw new BadRequestException(REQUEST_ERROR);
+			}
+			if (answer.getDifficulty() > 4 || answer.getDifficulty() < 1) {
+				throw new BadRequestException(NOT_EXIST_DIFFICULTY_CODE);
+			}
+		}
 
+		// 1) 카드, 이미지 카드 한 번에 조회 (유저의 카드가 아니면 NOT_FOUND)
+		Map<Long, Card> cardMap = cardModuleService.getCardsByIds(userId, answers.stream()
+				.filter(answer -> CardType.isTextCard(answer.getCardType()))
+				.map(CardRequest.difficultyBatchItem::getCardId)
+				.collect(Collectors.toSet()))
+			.stream().collect(Collectors.toMap(Card::getCardId, card -> card));
+		Map<Long, ImageCard> imageCardMap = cardModuleService.getImageCardsByIds(userId, answers.stream()
+				.filter(answer -> !CardType.isTextCard(answer.getCardType()))
+				.map(CardRequest.difficultyBatchItem::getCardId)
+				.collect(Collectors.toSet()))
+			.stream().collect(Collectors.toMap(ImageCard::getId, imageCard -> imageCard));
+
+		// StudyEvent(학습 기록)는 completeStudy와 같이 KST, 카드의 학습 시간은 단건 API와 같이 시스템 시간대
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		List<StudyEvent> studyEvents = new ArrayList<>();
+		Map<StudyCardSet, Integer> completedCounts = new LinkedHashMap<>();
+		Map<StudyCardSet, Timestamp[]> lastStudyTimes = new HashMap<>();
+
+		// 2) 학습 순서대로 카드 상태 갱신 (단건 API와 동일하게 난이도 반영 → 학습 횟수 증가 → 다음 학습 시간 계산)
+		for (CardRequest.difficultyBatchItem answer : answers) {
+			LocalDateTime studyTime = resolveStudyTime(answer, now);
+			LocalDateTime cardTime = toSystemTime(studyTime);
+			StudyCardSet studyCardSet;
+
+			if (CardType.isTextCard(answer.getCardType())) {
+				Card card = cardMap.get(answer.getCardId());
+				card.setDifficulty(answer.getDifficulty());
+				calculateNextStudyTime(card, cardTime);
+				card.setCountLearn(card.getCountLearn() == null ? 1 : card.getCountLearn() + 1);
+				calculateNextStudyTime(card, cardTime);
+
+				studyCardSet = card.getStudyCardSet();
+				lastStudyTimes.put(studyCardSet, new Timestamp[] {card.getLearnLastTime(), card.getLearnNextTime()});
+				studyEvents.add(StudyEvent.ofCard(studyCardSet == null ? null : studyCardSet.getId(), userId,
+					card.getCardId(), answer.getDifficulty(), studyTime));
+			} else {
+				ImageCard imageCard = imageCardMap.get(answer.getCardId());
+				imageCard.setDifficulty(answer.getDifficulty());
+				calculateNextStudyTime(imageCard, cardTime);
+				imageCard.setCountLearn(imageCard.getCountLearn() == null ? 1 : imageCard.getCountLearn() + 1);
+				calculateNextStudyTime(imageCard, cardTime);
+
+				studyCardSet = imageCard.getStudyCardSet();
+				lastStudyTimes.put(studyCardSet, new Timestamp[] {imageCard.getLearnLastTime(), imageCard.getLearnNextTime()});
+				studyEvents.add(StudyEvent.ofImageCard(studyCardSet == null ? null : studyCardSet.getId(), userId,
+					imageCard.getId(), answer.getDifficulty(), studyTime));
+			}
+
+			if (studyCardSet != null) {
+				completedCounts.merge(studyCardSet, 1, Integer::sum);
+			}
+		}
+
+		// 3) StudyLog, StudyHistory 일괄 저장 (같은 트랜잭션)
+		studyEventWriter.write(studyEvents);
+
+		// 4) StudyCardSet 세트별 한 번만 갱신 (마지막으로 학습한 카드 기준)
+		completedCounts.forEach((scs, count) -> {
+			Timestamp[] times = lastStudyTimes.get(scs);
+			scs.setRecentStudyDate(times[0] == null ? null : times[0].toLocalDateTime());
+			scs.setNextStudyDate(times[1] == null ? null : times[1].toLocalDateTime());
+			scs.setCompletedCardsCount(scs.getCompletedCardsCount() + count);
+			cardModuleService.refreshDueRange(scs);
+		});
+		studyCardSetRepository.saveAll(completedCounts.keySet());
+	}
+
+	// KST 시각을 시스템 시간대 시각으로 변환 (카드의 learnLastTime, learnNextTime은 LocalDateTime.now() 기준)
+	private LocalDateTime toSystemTime(LocalDateTime kstTime) {
+		return kstTime.atZone(ZoneId.of("Asia/Seoul")).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+	}
+
+	// 학습 시각(KST)이 없거나 미래 시각이면 요청 시각으로 대체
+	private LocalDateTime resolveStudyTime(CardRequest.difficultyBatchItem answer, LocalDateTime now) {
+		return answer.getAnsweredAt() == null || answer.getAnsweredAt().isAfter(now) ? now : answer.getAnsweredAt();
+	}
+
+	@Transactional
+	public Page<CardResponse.getStudyLog> viewStudyLog(Long userId, Long studyCardSetId, int page, int size) {
 		Pageable pageable = PageRequest.of(page, size);
 
 		StudyCardSet studyCardSet = studyCardSetRepository.findById(studyCardSetId)
@@ -549,193 +587,64 @@ public class CardComponentService {
 
 	/**
 	 * 실제 난이도에 따른 다음 학습 시간 계산하여 DB 업데이트
-	 * update date 2025.10.25
+	 * update date 2026.10.18
 	 *
 	 * @name calculateNextStudyTime(Card)
 	 * @param card
 	 * @return Timestamp
 	 */
 	public Timestamp calculateNextStudyTime(Card card) {
-		LocalDateTime currentTime = LocalDateTime.now();
-		long baseInterval; // 기본 학습 간격 (분 단위로 계산)
-		double increaseFactor; // 증가 비율
-		long nextInterval; // 계산된 다음 학습 간격 (분)
-
-		switch (card.getDifficulty()) {
-			case EXPERT: // 난이도 1
-				baseInterval = 0; // 즉시 학습
-				increaseFactor = 0.0;
-				break;
-			case HARD: // 난이도 2
-				baseInterval = 10; // 10분
-				increaseFactor = 1.0;
-				break;
-			case NORMAL: // 난이도 3
-				baseInterval = 30; // 30분
-				increaseFactor = 1.5;
-				break;
-			case EASY: // 난이도 4
-				baseInterval = 24 * 60; // 24시간 (1일)
-				increaseFactor = 2.0;
-				break;
-			default:
-				baseInterval = 0; // 재학습 or 새로 만든 카드라면, 즉시학습으로 지정되어 baseInterval 0, increaseFactor = 0.0
-				increaseFactor = 0.0;
-		}
-
-		log.debug("Card {} - Difficulty: {}", card.getCardId(), card.getDifficulty());
-		log.debug("Card {} - Base Interval (minutes): {}", card.getCardId(), baseInterval);
-		log.debug("Card {} - Increase Factor: {}", card.getCardId(), increaseFactor);
-
-		// 1. 학습 간격 계산
-		if (card.getCountLearn() == 0L) {
-			// 첫 학습인 경우
-			nextInterval = baseInterval;
-			log.debug("Card {} - First Learning: using base interval {}", card.getCardId(), baseInterval);
-		} else {
-			// 누적 간격 증가
-			long prevInterval = baseInterval;
-			if (card.getLearnLastTime() != null && card.getLearnNextTime() != null) {
-				try {
-					prevInterval = ChronoUnit.MINUTES.between(
-							card.getLearnLastTime().toLocalDateTime(),
-							card.getLearnNextTime().toLocalDateTime()
-					);
-					if (prevInterval <= 0) {
-						// 만약 prevInterval이 0 이하라면 baseInterval로 보정
-						prevInterval = baseInterval > 0 ? baseInterval : 1;
-					}
-				} catch (Exception e) {
-					log.warn("prevInterval 계산 실패, fallback to baseInterval", e);
-					prevInterval = baseInterval > 0 ? baseInterval : 1;
-				}
-			}
-			nextInterval = (long) Math.round(prevInterval * increaseFactor);
-			log.debug("countLearn>0 -> prevInterval={} * increaseFactor={} => nextInterval={}",
-					prevInterval, increaseFactor, nextInterval);
-		}
+		return calculateNextStudyTime(card, LocalDateTime.now());
+	}
 
-		// 2. EXPERT 즉시학습
-		LocalDateTime nextStudyTime;
-		if (card.getDifficulty() == Difficulty.EXPERT) {
-			nextStudyTime = currentTime;
-			nextInterval = 0;
-		} else {
-			nextStudyTime = currentTime.plusMinutes(nextInterval);
-		}
+	private Timestamp calculateNextStudyTime(Card card, LocalDateTime currentTime) {
+		long nextInterval = studyScheduler.nextIntervalMinutes(card.getDifficulty().getValue(),
+			card.getCountLearn() == null ? 0 : card.getCountLearn(),
+			toEpochMinute(card.getLearnLastTime()), toEpochMinute(card.getLearnNextTime()));
 
 		card.setLearnLastTime(Timestamp.valueOf(currentTime));
-		card.setLearnNextTime(Timestamp.valueOf(nextStudyTime));
+		card.setLearnNextTime(Timestamp.valueOf(currentTime.plusMinutes(nextInterval)));
 
-		log.debug("Card {} - Current Interval (minutes): {}", card.getCardId(), nextInterval);
-		log.debug("Card {} - Next Study Time: {}", card.getCardId(), card.getLearnNextTime());
+		log.debug("Card {} - Difficulty: {}, Interval (minutes): {}, Next Study Time: {}",
+			card.getCardId(), card.getDifficulty(), nextInterval, card.getLearnNextTime());
 
 		return card.getLearnNextTime();
 	}
 
 	/**
 	 * 실제 난이도에 따른 다음 학습 시간 계산하여 DB 업데이트
-	 * update date 2025.10.25
+	 * update date 2026.10.18
 	 *
 	 * @name calculateNextStudyTime(ImageCard)
 	 * @param imageCard
-	 * @return Timestamp
+	 * @return Timestamp (난이도가 NONE이면 null)
 	 */
 	public Timestamp calculateNextStudyTime(ImageCard imageCard) {
-		LocalDateTime currentTime = LocalDateTime.now();
-		long baseInterval; // 기본 학습 간격 (분 단위로 계산)
-		double increaseFactor; // 증가 비율
-		long nextInterval; // 다음 학습 간격
+		return calculateNextStudyTime(imageCard, LocalDateTime.now());
+	}
 
-		// 난이도가 NONE인 경우, 학습을 하지 않으므로 null 반환
+	private Timestamp calculateNextStudyTime(ImageCard imageCard, LocalDateTime currentTime) {
+		// 난이도가 NONE인 경우, 학습을 하지 않으므로 학습 시간을 바꾸지 않고 null 반환
 		if (imageCard.getDifficulty() == Difficulty.NONE) {
 			log.debug("ImageCard {} has difficulty NONE, skipping calculation.", imageCard.getId());
 			return null;
 		}
 
-		switch (imageCard.getDifficulty()) {
-			case EXPERT: // 난이도 1
-				baseInterval = 0; // 즉시 학습
-				increaseFactor = 0;
-				break;
-			case HARD: // 난이도 2
-				baseInterval = 10; // 10분
-				increaseFactor = 1;
-				break;
-			case NORMAL: // 난이도 3
-				baseInterval = 30; // 30분
-				increaseFactor = 1.5;
-				break;
-			case EASY: // 난이도 4
-				baseInterval = 24 * 60; // 24시간 (1일)
-				increaseFactor = 2;
-				break;
-			default:
-				baseInterval = 0; // 기본적으로 현재 난이도가 없는 경우(새로 만든 경우 or 학습횟수가 0으로 돌아간 경우)
-				increaseFactor = 1;
-		}
-
-		log.debug("ImageCard {} - Difficulty: {}", imageCard.getId(), imageCard.getDifficulty());
-		log.debug("ImageCard {} - Base Interval (minutes): {}", imageCard.getId(), baseInterval);
-		log.debug("ImageCard {} - Increase Factor: {}", imageCard.getId(), increaseFactor);
-
-		// 1. 학습 간격 계산
-		if (imageCard.getCountLearn() == 0) {
-			// 첫 학습인 경우
-			nextInterval = baseInterval;
-			log.debug("ImageCard {} - First Learning: using base interval {}", imageCard.getId(), baseInterval);
-		} else {
-			// 누적 간격 증가
-			long prevInterval = 0;
-			if (imageCard.getLearnLastTime() != null && imageCard.getLearnNextTime() != null) {
-				try {
-					prevInterval = ChronoUnit.MINUTES.between(
-							imageCard.getLearnLastTime().toLocalDateTime(),
-							imageCard.getLearnNextTime().toLocalDateTime()
-					);
-					if (prevInterval <= 0) {
-						// 만약 prevInterval이 0 이하라면 baseInterval로 보정
-						prevInterval = baseInterval > 0 ? baseInterval : 1;
-					}
-				} catch (Exception e) {
-					log.warn("prevInterval 계산 실패, fallback to baseInterval", e);
-					prevInterval = baseInterval > 0 ? baseInterval : 1;
-				}
-			}
-			nextInterval = (long) Math.round(prevInterval * increaseFactor);
-			log.debug("countLearn>0 -> prevInterval={} * increaseFactor={} => nextInterval={}",
-					prevInterval, increaseFactor, nextInterval);
-		}
-
-		// 2. EXPERT 즉시학습
-		LocalDateTime nextStudyTime;
-		if (imageCard.getDifficulty() == Difficulty.EXPERT) {
-			nextStudyTime = currentTime;
-			nextInterval = 0;
-		} else {
-			nextStudyTime = currentTime.plusMinutes(nextInterval);
-		}
+		long nextInterval = studyScheduler.nextIntervalMinutes(imageCard.getDifficulty().getValue(),
+			imageCard.getCountLearn() == null ? 0 : imageCard.getCountLearn(),
+			toEpochMinute(imageCard.getLearnLastTime()), toEpochMinute(imageCard.getLearnNextTime()));
 
 		imageCard.setLearnLastTime(Timestamp.valueOf(currentTime));
-		imageCard.setLearnNextTime(Timestamp.valueOf(nextStudyTime));
-		imageCard.setCountLearn(imageCard.getCountLearn() + 1);
+		imageCard.setLearnNextTime(Timestamp.valueOf(currentTime.plusMinutes(nextInterval)));
 
-		log.debug("ImageCard {} - Current Interval (minutes): {}", imageCard.getId(), nextInterval);
-		log.debug("ImageCard {} - Next Study Time: {}", imageCard.getId(), imageCard.getLearnNextTime());
+		log.debug("ImageCard {} - Difficulty: {}, Interval (minutes): {}, Next Study Time: {}",
+			imageCard.getId(), imageCard.getDifficulty(), nextInterval, imageCard.getLearnNextTime());
 
 		return imageCard.getLearnNextTime();
 	}
 
-
-	public void addCardToNote(Card card, Note note) {
-		Card newCard = Card.builder()
-			.note(note)
-			.contentsFront(card.getContentsFront())
-			.contentsBack(card.getContentsBack())
-			.countLearn(0L)
-			.build();
-
-		cardModuleService.saveCard(newCard);
+	private long toEpochMinute(Timestamp timestamp) {
+		return timestamp == null ? StudyScheduler.NO_TIME : Math.floorDiv(timestamp.getTime(), 60_000L);
 	}
 
 	/**
@@ -743,13 +652,12 @@ public class CardComponentService {
 	 * update date 2025.10.25
 	 *
 	 * @name completeStudy
-	 * @param token
+	 * @param userId
 	 * @param cardId
 	 * @param cardType
 	 */
 	// NOTE : findByUserAndCard, findByUserAndImageCard 유의
-	private void completeStudy(String token, Long cardId, int cardType) {
-		Long userId = findUserId(token);
+	private void completeStudy(Long userId, Long cardId, int cardType) {
 		int difficulty = cardModuleService.getCardDifficulty(cardId, cardType);
 		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
 
@@ -762,26 +670,9 @@ public class CardComponentService {
 			//card.setLearnNextTime(nextStudyTime);
 			cardModuleService.saveCard(card);
 
-			// StudyLog
-			studyLogRepository.save(StudyLog.builder()
-					.user(card.getStudyCardSet().getUser())
-					.card(card)
-					.difficulty(difficulty)
-					.studyDate(now)
-					.build());
-
-			// StudyHistory 갱신
-			StudyHistory history = studyHistoryRepository.findByUserAndCard(card.getStudyCardSet().getUser(), card)
-					.orElse(StudyHistory.builder()
-							.user(card.getStudyCardSet().getUser())
-							.card(card)
-							.studyDate(LocalDateTime.now())
-							.difficulty(difficulty)
-							.totalLearnCount(0)
-							.build());
-
-			history.setTotalLearnCount(history.getTotalLearnCount() + 1);
-			studyHistoryRepository.save(history);
+			// StudyLog, StudyHistory (write-behind)
+			studyEventBuffer.publish(StudyEvent.ofCard(card.getStudyCardSet().getId(),
+					card.getStudyCardSet().getUser().getUserId(), card.getCardId(), difficulty, now));
 
 			// StudyCardSet 갱신
 			StudyCardSet scs = card.getStudyCardSet();
@@ -795,6 +686,7 @@ public class CardComponentService {
 				// completedCardsCount 증가 (null 안전 처리)
 				Integer prev = scs.getCompletedCardsCount();
 				scs.setCompletedCardsCount(prev == null ? 1 : prev + 1);
+				cardModuleService.refreshDueRange(scs);
 
 				studyCardSetRepository.save(scs); // 반드시 저장
 			}
@@ -809,25 +701,9 @@ public class CardComponentService {
 			//imageCard.setLearnNextTime(nextStudyTime);
 			cardModuleService.saveImageCard(imageCard);
 
-			studyLogRepository.save(StudyLog.builder()
-					.user(imageCard.getStudyCardSet().getUser())
-					.imageCard(imageCard)
-					.difficulty(difficulty)
-					.studyDate(now)
-					.build());
-
-			StudyHistory history = studyHistoryRepository.findByUserAndImageCard(
-							imageCard.getStudyCardSet().getUser(), imageCard)
-					.orElse(StudyHistory.builder()
-							.user(imageCard.getStudyCardSet().getUser())
-							.imageCard(imageCard)
-							.studyDate(LocalDateTime.now())
-							.difficulty(difficulty)
-							.totalLearnCount(0)
-							.build());
-
-			history.setTotalLearnCount(history.getTotalLearnCount() + 1);
-			studyHistoryRepository.save(history);
+			// StudyLog, StudyHistory (write-behind)
+			studyEventBuffer.publish(StudyEvent.ofImageCard(imageCard.getStudyCardSet().getId(),
+					imageCard.getStudyCardSet().getUser().getUserId(), imageCard.getId(), difficulty, now));
 
 			// StudyCardSet 갱신
 			StudyCardSet scs = imageCard.getStudyCardSet();
@@ -838,6 +714,7 @@ public class CardComponentService {
 						imageCard.getLearnNextTime().toLocalDateTime());
 				Integer prev = scs.getCompletedCardsCount();
 				scs.setCompletedCardsCount(prev == null ? 1 : prev + 1);
+				cardModuleService.refreshDueRange(scs);
 
 				studyCardSetRepository.save(scs);
 			}
@@ -846,14 +723,10 @@ public class CardComponentService {
 
 	/**
 	 * 주간 학습 결과 반환
-	 * @param token
+	 * @param userId
 	 * @return CardResponse.weeklyResultDTO
 	 */
-	public CardResponse.weeklyResultDTO getCardByWeek(String token) {
-		Long userId = findUserId(token);
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new BadRequestException(INVALID_USERID));
-
+	public CardResponse.weeklyResultDTO getCardByWeek(Long userId) {
 		LocalDate today = LocalDate.now();
 		LocalDate startOfWeek = today.with(DayOfWeek.MONDAY); //DayOfWeek.of(1)
 		LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
@@ -861,14 +734,10 @@ public class CardComponentService {
 		LocalDate startOfLastWeek = startOfWeek.minusWeeks(1);
 		LocalDate endOfLastWeek = endOfWeek.minusWeeks(1);
 
-		List<StudyHistory> thisWeekHistory = studyHistoryRepository
-				.findByUserAndStudyDateBetween(user, startOfWeek.atStartOfDay(), endOfWeek.atTime(LocalTime.MAX));
-
-		List<StudyHistory> lastWeekHistory = studyHistoryRepository
-				.findByUserAndStudyDateBetween(user, startOfLastWeek.atStartOfDay(), endOfLastWeek.atTime(LocalTime.MAX));
-
-		Map<Integer, Long> dailyThisWeekStudy = calculateDailyStudyHistoryCount(thisWeekHistory);
-		Map<Integer, Long> dailyLastWeekStudy = calculateDailyStudyHistoryCount(lastWeekHistory);
+		Map<Integer, Long> dailyThisWeekStudy = calculateDailyStudyCount(
+				studyDailyRollupRepository.findDailyCardCounts(userId, startOfWeek, endOfWeek));
+		Map<Integer, Long> dailyLastWeekStudy = calculateDailyStudyCount(
+				studyDailyRollupRepository.findDailyCardCounts(userId, startOfLastWeek, endOfLastWeek));
 
 		Map<Integer, Long> weekStudyResult = initializeWeekStudyResult(dailyThisWeekStudy);
 		Map<Integer, Long> lastWeekStudyResult = initializeWeekStudyResult(dailyLastWeekStudy);
@@ -883,12 +752,14 @@ public class CardComponentService {
 			.build();
 	}
 
-	private Map<Integer, Long> calculateDailyStudyHistoryCount(List<StudyHistory> histories) {
-		return histories.stream()
-				.collect(Collectors.groupingBy(
-						h -> h.getStudyDate().toLocalDate().getDayOfWeek().getValue(),
-						Collectors.counting()
-				));
+	// [study_day, card_count] → 요일(1 ~ 7)별 학습 카드 수
+	private Map<Integer, Long> calculateDailyStudyCount(List<Object[]> rows) {
+		Map<Integer, Long> dailyCount = new HashMap<>();
+		for (Object[] row : rows) {
+			LocalDate day = ((java.sql.Date) row[0]).toLocalDate();
+			dailyCount.merge(day.getDayOfWeek().getValue(), ((Number) row[1]).longValue(), Long::sum);
+		}
+		return dailyCount;
 	}
 
 	private Map<Integer, Long> initializeWeekStudyResult(Map<Integer, Long> dailyStudyCount) {
@@ -902,52 +773,36 @@ public class CardComponentService {
 
 	/**
 	 * 주간 학습 카드 난이도 통계 반환
-	 * @param token
+	 * @param userId
 	 * @param range all=1, week=2
 	 * @return
 	 */
-	public CardResponse.cardStudyGraph viewStudyCardGraph(String token, Integer range) {
-		Long userId = findUserId(token);
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new BadRequestException(INVALID_USERID));
-
-		List<StudyHistory> histories;
+	public CardResponse.cardStudyGraph viewStudyCardGraph(Long userId, Integer range) {
+		List<Object[]> rows;
 
 		// range가 all이면 전체 카드를 계산, range가 week이면 이번주에 학습한 카드만 계산
 		if (range == 1) {
 			// 1) 전체(all=1) 조회
-			histories = studyHistoryRepository.findByUser(user);
+			rows = studyDailyRollupRepository.findDifficultyCardCounts(userId, null, null);
 
 		} else if (range == 2) {
 			LocalDate today = LocalDate.now();
 			LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
 			LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
 
-			histories = studyHistoryRepository.findByUserAndStudyDateBetween(
-					user,
-					startOfWeek.atStartOfDay(),
-					endOfWeek.atTime(LocalTime.MAX)
-			);
+			rows = studyDailyRollupRepository.findDifficultyCardCounts(userId, startOfWeek, endOfWeek);
 		}
 		// 3) 예외 처리
 		else {
 			throw new BadRequestException(ErrorResponseStatus.INVALID_VALUE);
 		}
 
-		// 4) 학습이 없을 경우
-		if (histories.isEmpty()) {
-			return CardResponse.cardStudyGraph.builder()
-					.easyCardsNumber(0).normalCardsNumber(0)
-					.hardCardsNumber(0).expertCardsNumber(0)
-					.easyCardsPercent(0).normalCardsPercent(0)
-					.hardCardsPercent(0).expertCardsPercent(0)
-					.build();
+		// 4) 난이도별 개수 집계 (학습이 없으면 모두 0)
+		Map<Integer, Long> difficultyCount = new HashMap<>();
+		for (Object[] row : rows) {
+			difficultyCount.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
 		}
 
-		// 5) 난이도별 개수 집계
-		Map<Integer, Long> difficultyCount = histories.stream()
-				.collect(Collectors.groupingBy(StudyHistory::getDifficulty, Collectors.counting()));
-
 		int easyCount = difficultyCount.getOrDefault(1, 0L).intValue();
 		int normalCount = difficultyCount.getOrDefault(2, 0L).intValue();
 		int hardCount = difficultyCount.getOrDefault(3, 0L).intValue();
@@ -955,13 +810,13 @@ public class CardComponentService {
 
 		int total = easyCount + normalCount + hardCount + expertCount;
 
-		// 6) 비율 계산
+		// 5) 비율 계산
 		int easyPercent = total == 0 ? 0 : (easyCount * 100) / total;
 		int normalPercent = total == 0 ? 0 : (normalCount * 100) / total;
 		int hardPercent = total == 0 ? 0 : (hardCount * 100) / total;
 		int expertPercent = total == 0 ? 0 : (expertCount * 100) / total;
 
-		// 7) 최종 반환
+		// 6) 최종 반환
 		return CardResponse.cardStudyGraph.builder()
 				.easyCardsNumber(easyCount)
 				.normalCardsNumber(normalCount)
@@ -979,55 +834,20 @@ public class CardComponentService {
 	 * 다음 학습시간 <= now로 작동되는 기능
 	 * limit에 따라 조회되는 크기 달라짐
 	 * 카드 세트 내부 카드들의 learnNextTime 중 가장 오래된(가장 과거인) 값 : 스페이스트 리피티션(SRS) 원리 사용
-	 * update date 2025.11.23
+	 * update date 2026.10.18
 	 *
-	 * @param token
+	 * @param userId
 	 * @return List<CardResponse.getExpectedCardSetListDTO>
 	 */
-	public List<CardResponse.getExpectedCardSetListDTO> getStudyCardSetsForQuickLearning(String token, int limit) {
-		Long userId = findUserId(token);
-
-		// 1. 사용자 모든 카드 조회 (Card + ImageCard 포함)
-		List<Card> cards = cardRepository.findByUser(userId);
-		List<ImageCard> imageCards = imageCardRepository.findByUser(userId);
-
-		LocalDateTime now = LocalDateTime.now();
-
-		// 2. (Card + ImageCard) 모두 통합하여 카드세트 기준으로 묶기
-		Map<Long, List<LocalDateTime>> setOverdueMap = new HashMap<>();
-
-		// 일반 카드 처리
-		for (Card card : cards) {
-			if (card.getStudyCardSet() != null) {
-				setOverdueMap
-						.computeIfAbsent(card.getStudyCardSet().getId(), k -> new ArrayList<>())
-						.add(card.getLearnNextTime().toLocalDateTime());
-			}
-		}
-
-		// 이미지 카드 처리
-		for (ImageCard card : imageCards) {
-			if (card.getStudyCardSet() != null) {
-				setOverdueMap
-						.computeIfAbsent(card.getStudyCardSet().getId(), k -> new ArrayList<>())
-						.add(card.getLearnNextTime().toLocalDateTime());
-			}
+	public List<CardResponse.getExpectedCardSetListDTO> getStudyCardSetsForQuickLearning(Long userId, int limit) {
+		if (limit <= 0) {
+			return new ArrayList<>();
 		}
 
-		// 3. 카드세트별 가장 오래 지난 learnNextTime 계산
-		List<StudyCardSet> sets = cardModuleService.getStudyCardSetsByUser(userId);
-
-		List<StudyCardSet> sortedSets = sets.stream()
-				.filter(set -> setOverdueMap.containsKey(set.getId())) // 카드 없는 경우 제외
-				.sorted((a, b) -> {
-					LocalDateTime aOldest = Collections.min(setOverdueMap.get(a.getId()));
-					LocalDateTime bOldest = Collections.min(setOverdueMap.get(b.getId()));
-					return aOldest.compareTo(bOldest); // 과거일수록 우선
-				})
-				.limit(limit)
-				.collect(Collectors.toList());
+		// 카드세트별 가장 오래 지난 learnNextTime(oldestDueAt) 순서로 상위 limit개 조회
+		List<StudyCardSet> sortedSets = studyCardSetRepository.findQuickLearningSets(userId, PageRequest.of(0, limit));
 
-		// 4. DTO 변환
+		// DTO 변환
 		return sortedSets.stream()
 				.map(set -> CardResponse.getExpectedCardSetListDTO.builder()
 						.studyCardSetId(set.getId())
@@ -1082,43 +902,13 @@ public class CardComponentService {
 	 * @return 예측되는 다음 학습 시각(LocalDateTime)
 	 */
 	private LocalDateTime calculateExpectedNextStudyTime(Difficulty difficulty, int countLearn, LocalDateTime currentTime) {
-		long baseInterval;
-		double increaseFactor;
-
-		switch (difficulty) {
-			case EXPERT: // 난이도 1
-				baseInterval = 0; // 즉시 학습
-				increaseFactor = 0.0;
-				break;
-			case HARD: // 난이도 2
-				baseInterval = 10; // 10분
-				increaseFactor = 1.0;
-				break;
-			case NORMAL: // 난이도 3
-				baseInterval = 30; // 30분
-				increaseFactor = 1.5;
-				break;
-			case EASY: // 난이도 4
-				baseInterval = 24 * 60; // 24시간 (1일)
-				increaseFactor = 2.0;
-				break;
-			default:
-				return null;
-		}
-
-
-		// 학습 횟수에 따른 누적 간격 계산
-		// countLearn = 0 → 첫 학습 = baseInterval
-		// countLearn ≥ 1 → baseInterval * (increaseFactor ^ countLearn)
-		double totalMinutes = baseInterval * Math.pow(increaseFactor, countLearn > 0 ? countLearn : 1);
-
-		// EXPERT의 경우 즉시 복습 처리
-		if (difficulty == Difficulty.EXPERT) {
-			return currentTime; // 즉시 복습 (지금)
+		if (difficulty == Difficulty.NONE) {
+			return null;
 		}
 
-		// 계산된 간격을 현재 시각에 더함
-		LocalDateTime nextTime = currentTime.plusMinutes((long) totalMinutes);
+		// 계산된 간격을 현재 시각에 더함 (EXPERT는 즉시 복습)
+		LocalDateTime nextTime = currentTime.plusMinutes(
+			studyScheduler.expectedIntervalMinutes(difficulty.getValue(), countLearn));
 
 		// 한국 시간대 명시 (서버가 UTC일 수 있으므로)
 		return nextTime.atZone(ZoneId.systemDefault())
@@ -1128,125 +918,28 @@ public class CardComponentService {
 
 	/**
 	 * 365일치 DTO 리스트 반환
-	 * update date 2025.11.2
+	 * 유저, 연도별로 캐시하고 학습 기록 저장 시 해당 일자만 갱신 (ContributionHeatmapCache)
+	 * update date 2026.10.18
 	 *
 	 * @name getCardByYear
-	 * @param token
+	 * @param userId
 	 * @param year
-	 * @return CardResponse.AnnualResultDTO
+	 * @return AnnualHeatmap (CardResponse.AnnualResultDTO 형태로 직렬화)
 	 */
-	public CardResponse.AnnualResultDTO getCardByYear(String token, int year) {
-		Long userId = findUserId(token);
-
-		LocalDate startOfYear = LocalDate.of(year, 1, 1);
-		LocalDate endOfYear = LocalDate.of(year, 12, 31);
-
-		LocalDateTime start = startOfYear.atStartOfDay();
-		LocalDateTime end = endOfYear.atTime(LocalTime.MAX);
-
-		long t0 = System.nanoTime();
-		List<Object[]> rows = studyHistoryRepository.findDailyCountWithWeekMaxNative(userId, start, end);
-		long t1 = System.nanoTime();
-
-		// Map<날짜, [count, weekMax]>
-		Map<LocalDate, long[]> daily = new HashMap<>();
-		for (Object[] row : rows) {
-			java.sql.Date sqlDate = (java.sql.Date) row[0];
-			Number countNum = (Number) row[1];
-			Number weekMaxNum = (Number) row[2];
-			LocalDate date = sqlDate.toLocalDate();
-			long count = countNum == null ? 0 : countNum.longValue();
-			long weekMax = weekMaxNum == null ? 0 : weekMaxNum.longValue();
-
-			daily.put(date, new long[]{count, weekMax});
-		}
-
-		// 1년치 데이터 순회
-		List<CardResponse.DailyContribution> contributions = new ArrayList<>();
-		int maxStreak = 0, currentStreak = 0;
-
-		LocalDate currentDate = startOfYear;
-		while (!currentDate.isAfter(endOfYear)) {
-			long count = 0, weekMax = 0;
-			if (daily.containsKey(currentDate)) {
-				count = daily.get(currentDate)[0];
-				weekMax = daily.get(currentDate)[1];
-			}
-
-			// 비율 측정 : 일주일 단위 내에서 비교하여 비율 측정
-			String color;
-			if (count == 0 || weekMax == 0) {
-				color = "1";
-				currentStreak = 0;
-			} else {
-				double ratio = (double) count / (double) weekMax;
-				if (ratio >= 0.75) color = "4";
-				else if (ratio >= 0.5) color = "3";
-				else if (ratio >= 0.25) color = "2";
-				else color = "1";
-				currentStreak++;
-			}
-
-			maxStreak = Math.max(maxStreak, currentStreak);
-			contributions.add(new CardResponse.DailyContribution(currentDate, count, color));
-
-			currentDate = currentDate.plusDays(1);
-		}
-
-		long t2 = System.nanoTime();
-
-		return new CardResponse.AnnualResultDTO(contributions, maxStreak);
-
+	public AnnualHeatmap getCardByYear(Long userId, int year) {
+		return contributionHeatmapCache.get(userId, year);
 	}
 
 	/**
 	 *  다음 학습시간 > now 로 작동되는 기능
-	 *  update date 2025.11.23
+	 *  update date 2026.10.18
 	 *
-	 * @param token
+	 * @param userId
 	 * @return List<CardResponse.getExpectedCardSetListDTO> 전체 카드셋 출력
 	 */
-	public List<CardResponse.getExpectedCardSetListDTO> getIntendedLearningSets(String token) {
-		Long userId = findUserId(token);
-
-		List<Card> cards = cardRepository.findByUser(userId);
-		List<ImageCard> imageCards = imageCardRepository.findByUser(userId);
-		LocalDateTime now = LocalDateTime.now();
-
-		// 2. 일반, 이미지카드 통합하여 카드세트 묶기
-		Map<Long, List<LocalDateTime>> setTimeMap = new HashMap<>();
-
-		// 2-1. 일반 카드
-		for (Card card : cards) {
-			if (card.getStudyCardSet() != null) {
-				setTimeMap
-						.computeIfAbsent(card.getStudyCardSet().getId(), k -> new ArrayList<>())
-						.add(card.getLearnNextTime().toLocalDateTime());
-			}
-		}
-
-		// 2-2. 이미지 카드
-		for (ImageCard card : imageCards) {
-			if (card.getStudyCardSet() != null) {
-				setTimeMap
-						.computeIfAbsent(card.getStudyCardSet().getId(), k -> new ArrayList<>())
-						.add(card.getLearnNextTime().toLocalDateTime());
-			}
-		}
-
-		// 3. 학습시간에 도달하지 않은 세트
-		List<StudyCardSet> sets = cardModuleService.getStudyCardSetsByUser(userId);
-
-		List<StudyCardSet> notYetSets = sets.stream()
-				.filter(set -> {
-					List<LocalDateTime> times = setTimeMap.get(set.getId());
-					if (times == null) return false;
-
-					// 모든 카드의 learnNextTime이 미래인 세트 = 학습 시간 안 된 세트
-					return times.stream().allMatch(t -> t.isAfter(now));
-				})
-				.sorted(Comparator.comparing(StudyCardSet::getNextStudyDate))
-				.collect(Collectors.toList());
+	public List<CardResponse.getExpectedCardSetListDTO> getIntendedLearningSets(Long userId) {
+		// 모든 카드의 learnNextTime이 미래인 세트 = 학습 시간 안 된 세트 (oldestDueAt > now)
+		List<StudyCardSet> notYetSets = studyCardSetRepository.findIntendedLearningSets(userId, LocalDateTime.now());
 
 		return notYetSets.stream()
 				.map(set -> CardResponse.getExpectedCardSetListDTO.builder()
@@ -4,8 +4,15 @@ import static com.umc.cardify.config.exception.ErrorResponseStatus.*;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,11 +35,14 @@ import com.umc.cardify.domain.User;
 import com.umc.cardify.domain.enums.CardType;
 import com.umc.cardify.domain.enums.StudyStatus;
 import com.umc.cardify.dto.card.CardRequest;
+import com.umc.cardify.dto.card.DueCardKey;
+import com.umc.cardify.repository.CardJdbcRepository;
 import com.umc.cardify.repository.CardRepository;
 import com.umc.cardify.repository.ImageCardRepository;
 import com.umc.cardify.repository.NoteRepository;
 import com.umc.cardify.repository.OverlayRepository;
 import com.umc.cardify.repository.StudyCardSetRepository;
+import com.umc.cardify.service.study.DueCalendarCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,11 +51,13 @@ import lombok.RequiredArgsConstructor;
 public class CardModuleService {
 
 	private final CardRepository cardRepository;
+	private final CardJdbcRepository cardJdbcRepository;
 	private final StudyCardSetRepository studyCardSetRepository;
 	private final ImageCardRepository imageCardRepository;
 	private final OverlayRepository overlayRepository;
 	private final NoteRepository noteRepository;
 	private final S3Service s3Service;
+	private final DueCalendarCache dueCalendarCache;
     private final ObjectMapper objectMapper;
 
 	// note : 카드 타입 조회
@@ -83,6 +95,10 @@ public class CardModuleService {
 		StudyCardSet studyCardSet = studyCardSetRepository.findByNote(note)
 			.orElseThrow(() -> new DatabaseException(NOT_FOUND_ERROR));
 		imageCardRepository.deleteAllByStudyCardSet(studyCardSet);
+
+		// 일반 카드(deleteAllCardsByNoteId)와 이미지 카드가 모두 삭제된 뒤 다음 학습 시간 범위 갱신
+		refreshDueRange(studyCardSet);
+		studyCardSetRepository.save(studyCardSet);
 	}
 
 	public List<Card> findAllCardsByUserIdAndLearnNextTimeOnDate(Long userId, Timestamp date) {
@@ -92,31 +108,243 @@ public class CardModuleService {
 		return imageCardRepository.findAllByUserIdAndLearnNextTimeOnDate(userId, date);
 	}
 
-	// 카드 노드 처리
-	public void processCardNode(Node node, StringBuilder input, Note note, Queue<MultipartFile> imageQueue) {
-		if (isImageCard(node)) {
-			processImageCard(node, note, imageQueue);
-		} else {
-			processTextCard(node, input, note);
-		}
+	// 카드 노드의 텍스트를 노트 전체 텍스트에 추가
+	public void appendCardText(Node node, StringBuilder input) {
+		String questionFront = getOrDefault(node.getAttrs().getQuestion_front(), "");
+		String questionBack = getOrDefault(node.getAttrs().getQuestion_back(), "");
+		String answer = String.join(", ", node.getAttrs().getAnswer());
+		input.append(buildNodeText(questionFront, answer, questionBack));
 	}
 
-	private boolean isImageCard(Node node) {
+	public boolean isImageCard(Node node) {
 		return node.getType().equals("image_card");
 	}
 
-	private void processImageCard(Node node, Note note, Queue<MultipartFile> imageQueue) {
-		MultipartFile image = imageQueue.poll();
-		if (image == null) {
+	public boolean isTextCard(Node node) {
+		return cardTypeOf(node.getType()) != null;
+	}
+
+	/**
+	 * 노트 재작성 시 카드 동기화 1단계 : 이미지 카드 이미지 업로드 (트랜잭션 밖)
+	 * 이미지 URL은 내용의 SHA-256이라 업로드 전에 계산할 수 있으므로, 기존 이미지 카드에 없는 이미지만 업로드
+	 *
+	 * @param imageNodes 노트 순회 순서대로 모은 image_card 노드
+	 * @param imageQueue 이미지 카드 노드 순서대로 전달된 이미지
+	 * @return 이미지 카드 노드 순서대로의 이미지 URL
+	 */
+	public List<String> uploadCardImages(Note note, List<Node> imageNodes, Queue<MultipartFile> imageQueue) {
+		if (imageQueue.size() < imageNodes.size()) {
 			throw new BadRequestException(NOT_FOUND_IMAGE);
 		}
+		List<MultipartFile> images = new ArrayList<>(imageNodes.size());
+		for (int i = 0; i < imageNodes.size(); i++) {
+			images.add(imageQueue.poll());
+		}
+		List<String> imgUrls = images.stream().map(image -> s3Service.urlOf(image, "imageCards")).toList();
+		if (images.isEmpty()) {
+			return imgUrls;
+		}
+
+		Set<String> existingUrls = studyCardSetRepository.findByNote(note)
+			.map(studyCardSet -> imageCardRepository.findByStudyCardSet(studyCardSet).stream()
+				.map(ImageCard::getImageUrl)
+				.collect(Collectors.toSet()))
+			.orElseGet(HashSet::new);
+		Set<String> pendingUrls = new HashSet<>();
+		List<MultipartFile> uploads = new ArrayList<>();
+		for (int i = 0; i < images.size(); i++) {
+			String imgUrl = imgUrls.get(i);
+			if (imgUrl != null && !existingUrls.contains(imgUrl) && pendingUrls.add(imgUrl)) {
+				uploads.add(images.get(i));
+			}
+		}
+		s3Service.uploadAll(uploads, "imageCards");
+		return imgUrls;
+	}
+
+	/**
+	 * 노트 재작성 시 카드 동기화 2단계 : 카드 반영 (한 트랜잭션)
+	 * 기존 카드를 모두 지우고 다시 만드는 대신 새 카드 노드와 비교해 바뀐 카드만 추가, 수정, 삭제
+	 * 일반 카드 : attrs.id, 없으면 노드 내용(JSON)이 같은 카드로 매칭
+	 * 이미지 카드 : 이미지 URL(내용의 SHA-256)로 매칭
+	 * 매칭된 카드는 다음 학습 시간 등 학습 기록이 유지된다.
+	 *
+	 * @param textNodes 노트 순회 순서대로 모은 일반 카드 노드
+	 * @param imageNodes 노트 순회 순서대로 모은 image_card 노드
+	 * @param imgUrls uploadCardImages로 업로드한 이미지 URL (imageNodes 순서)
+	 */
+	@Transactional
+	public void syncCards(Note note, List<Node> textNodes, List<Node> imageNodes, List<String> imgUrls) {
+		Optional<StudyCardSet> existingSet = studyCardSetRepository.findByNote(note);
+		if (existingSet.isEmpty() && textNodes.isEmpty() && imageNodes.isEmpty()) {
+			return;
+		}
+		StudyCardSet studyCardSet = existingSet.orElseGet(() -> createNewStudyCardSet(note));
+
+		boolean textChanged = syncTextCards(note, studyCardSet, textNodes);
+		boolean imageChanged = syncImageCards(studyCardSet, imageNodes, imgUrls);
+		if (textChanged || imageChanged) {
+			refreshDueRange(studyCardSet);
+			updateCardCount(studyCardSet);
+		}
+	}
+
+	private boolean syncTextCards(Note note, StudyCardSet studyCardSet, List<Node> textNodes) {
+		List<String> contents = textNodes.stream().map(this::writeNode).toList();
+		List<String> nodeIds = textNodes.stream().map(node -> node.getAttrs().getId()).toList();
+		List<Card> existing = cardRepository.findByNote(note);
+		boolean attached = attachToStudyCardSet(existing, studyCardSet);
+
+		NoteCardDiff.Result<Card> diff = NoteCardDiff.diff(existing, textNodes.size(),
+			List.of(this::nodeIdOf, Card::getContents),
+			List.of(nodeIds::get, contents::get),
+			(card, i) -> !contents.get(i).equals(card.getContents()));
+		if (diff.isEmpty()) {
+			if (attached) {
+				cardRepository.saveAll(existing);
+			}
+			return attached;
+		}
+
+		List<Card> inserts = diff.inserts().stream()
+			.map(i -> {
+				Card card = buildCard(textNodes.get(i), note, contents.get(i));
+				card.setStudyCardSet(studyCardSet);
+				return card;
+			})
+			.toList();
+		diff.updates().forEach((card, i) -> {
+			Node node = textNodes.get(i);
+			Attr attrs = node.getAttrs();
+			CardType cardType = cardTypeOf(node.getType());
+			card.updateContents(contents.get(i), getOrDefault(attrs.getQuestion_front(), ""),
+				cardType == CardType.BLANK ? getOrDefault(attrs.getQuestion_back(), "") : null,
+				String.join(", ", attrs.getAnswer()), cardType.getValue());
+		});
+
+		cardRepository.deleteAll(diff.deletes());
+		if (attached) {
+			List<Card> kept = new ArrayList<>(existing);
+			kept.removeAll(diff.deletes());
+			cardRepository.saveAll(kept);
+		} else {
+			cardRepository.saveAll(diff.updates().keySet());
+		}
+		cardJdbcRepository.insertCards(inserts, LocalDateTime.now());
+		return true;
+	}
+
+	// 학습 카드셋 없이 저장된 카드(이전 버전에서 다운로드한 카드 등)를 노트의 학습 카드셋에 즉시 학습으로 추가
+	private boolean attachToStudyCardSet(List<Card> cards, StudyCardSet studyCardSet) {
+		boolean attached = false;
+		for (Card card : cards) {
+			if (card.getStudyCardSet() == null) {
+				card.setStudyCardSet(studyCardSet);
+				if (card.getLearnNextTime() == null) {
+					card.setLearnNextTime(Timestamp.valueOf(LocalDateTime.now()));
+				}
+				attached = true;
+			}
+		}
+		return attached;
+	}
+
+	/**
+	 * 자료실 다운로드 시 원본 노트의 카드를 새 노트로 복사
+	 * studyable이면 새 노트의 학습 카드셋을 만들어 복사한 카드를 바로 학습할 수 있게 하고,
+	 * 아니면 기존처럼 학습 카드셋 없이 복사만 한다. (카드 미포함 다운로드)
+	 */
+	public void copyCards(Note source, Note target, boolean studyable) {
+		if (!studyable) {
+			cardJdbcRepository.copyCards(source.getNoteId(), target.getNoteId(), null, LocalDateTime.now());
+			return;
+		}
+		if (cardRepository.countByNoteId(source.getNoteId()) == 0) {
+			return;
+		}
+		StudyCardSet studyCardSet = createNewStudyCardSet(target);
+		cardJdbcRepository.copyCards(source.getNoteId(), target.getNoteId(), studyCardSet.getId(),
+			LocalDateTime.now());
+		refreshDueRange(studyCardSet);
+		updateCardCount(studyCardSet);
+	}
+
+	private boolean syncImageCards(StudyCardSet studyCardSet, List<Node> imageNodes, List<String> imgUrls) {
+		List<ImageCard> existing = imageCardRepository.findByStudyCardSet(studyCardSet);
+
+		NoteCardDiff.Result<ImageCard> diff = NoteCardDiff.diff(existing, imageNodes.size(),
+			List.of(ImageCard::getImageUrl),
+			List.of(imgUrls::get),
+			(imageCard, i) -> !sameImageLayout(imageCard, imageNodes.get(i).getAttrs()));
+		if (diff.isEmpty()) {
+			return false;
+		}
 
-		String imgUrl = s3Service.upload(image, "imageCards");
-		ImageCard imageCard = buildImageCard(imgUrl, node.getAttrs());
-		imageCard.setStudyCardSet(findStudyCardSetByNote(note));
+		List<ImageCard> inserts = new ArrayList<>(diff.inserts().size());
+		for (int i : diff.inserts()) {
+			Node node = imageNodes.get(i);
+			ImageCard imageCard = buildImageCard(imgUrls.get(i), node.getAttrs());
+			imageCard.setStudyCardSet(studyCardSet);
+			addOverlays(imageCard, node.getAttrs().getOverlays());
+			inserts.add(imageCard);
+		}
+		diff.updates().forEach((imageCard, i) -> {
+			Attr attrs = imageNodes.get(i).getAttrs();
+			imageCard.setWidth(attrs.getBaseImageWidth());
+			imageCard.setHeight(attrs.getBaseImageHeight());
+			imageCard.getOverlays().clear();
+			addOverlays(imageCard, attrs.getOverlays());
+		});
+
+		// Overlay는 ImageCard에서 cascade 저장
+		imageCardRepository.deleteAll(diff.deletes());
+		imageCardRepository.saveAll(inserts);
+		imageCardRepository.saveAll(diff.updates().keySet());
+		return true;
+	}
+
+	private String writeNode(Node node) {
+		try {
+			return objectMapper.writeValueAsString(node);
+		} catch (JsonProcessingException e) {
+			throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+		}
+	}
 
-		ImageCard savedImageCard = imageCardRepository.save(imageCard);
-		saveOverlays(node.getAttrs().getOverlays(), savedImageCard);
+	// 저장된 카드 내용(JSON)의 attrs.id
+	private String nodeIdOf(Card card) {
+		if (card.getContents() == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readTree(card.getContents()).path("attrs").path("id").textValue();
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
+
+	private boolean sameImageLayout(ImageCard imageCard, Attr attrs) {
+		if (!Objects.equals(imageCard.getWidth(), attrs.getBaseImageWidth())
+			|| !Objects.equals(imageCard.getHeight(), attrs.getBaseImageHeight())) {
+			return false;
+		}
+		List<CardRequest.addImageCardOverlay> overlayRequests =
+			attrs.getOverlays() != null ? attrs.getOverlays() : List.of();
+		List<Overlay> overlays = imageCard.getOverlays();
+		if (overlays.size() != overlayRequests.size()) {
+			return false;
+		}
+		for (int i = 0; i < overlays.size(); i++) {
+			Overlay overlay = overlays.get(i);
+			CardRequest.addImageCardOverlay overlayRequest = overlayRequests.get(i);
+			if (!Objects.equals(overlay.getXPosition(), overlayRequest.getPositionOfX())
+				|| !Objects.equals(overlay.getYPosition(), overlayRequest.getPositionOfY())
+				|| !Objects.equals(overlay.getWidth(), overlayRequest.getWidth())
+				|| !Objects.equals(overlay.getHeight(), overlayRequest.getHeight())) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	// NOTE : 이미지 카드 최초 생성 시 다음 학습시간은 즉시 학습으로 지정
@@ -130,12 +358,9 @@ public class CardModuleService {
 			.build();
 	}
 
-	private void saveOverlays(List<CardRequest.addImageCardOverlay> overlayRequests, ImageCard imageCard) {
+	private void addOverlays(ImageCard imageCard, List<CardRequest.addImageCardOverlay> overlayRequests) {
 		if (overlayRequests != null) {
-			overlayRequests.forEach(overlayRequest -> {
-				Overlay overlay = buildOverlay(overlayRequest, imageCard);
-				overlayRepository.save(overlay);
-			});
+			overlayRequests.forEach(overlayRequest -> imageCard.addOverlay(buildOverlay(overlayRequest, imageCard)));
 		}
 	}
 
@@ -149,26 +374,14 @@ public class CardModuleService {
 			.build();
 	}
 
-	private void processTextCard(Node node, StringBuilder input, Note note) {
+	private Card buildCard(Node node, Note note, String contents) {
 		String questionFront = getOrDefault(node.getAttrs().getQuestion_front(), "");
 		String questionBack = getOrDefault(node.getAttrs().getQuestion_back(), "");
 		String answer = String.join(", ", node.getAttrs().getAnswer());
 
-		String nodeText = buildNodeText(questionFront, answer, questionBack);
-		input.append(nodeText);
-
-        String content;
-        try {
-            content = objectMapper.writeValueAsString(node);
-        } catch (JsonProcessingException e){
-            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
-        }
-
-            Card card = createCardBasedOnType(node.getType(), note, content, questionFront, questionBack, answer);
-		if (card != null) {
-			cardRepository.save(card);
-			addCardToStudyCardSet(card, note);
-		}
+		CardType cardType = cardTypeOf(node.getType());
+		return createCard(note, contents, questionFront, cardType == CardType.BLANK ? questionBack : null, answer,
+			cardType);
 	}
 
 	private String buildNodeText(String questionFront, String answer, String questionBack) {
@@ -183,18 +396,17 @@ public class CardModuleService {
 		return value != null ? value : defaultValue;
 	}
 
-	private Card createCardBasedOnType(String type, Note note, String contents, String questionFront, String questionBack,
-		String answer) {
+	private CardType cardTypeOf(String type) {
 		switch (type) {
             case "blank_card":
             case "blankcard":
-				return createCard(note, contents, questionFront, questionBack, answer, CardType.BLANK);
+				return CardType.BLANK;
 			case "multi_card":
             case "multicard":
-				return createCard(note, contents, questionFront, null, answer, CardType.MULTI);
+				return CardType.MULTI;
 			case "word_card":
             case "wordcard":
-				return createCard(note, contents, questionFront, null, answer, CardType.WORD);
+				return CardType.WORD;
 			default:
 				return null;
 		}
@@ -235,7 +447,7 @@ public class CardModuleService {
 	/**
 	 * 2025.11.16 추가 by 임수빈
 	 * studyCardSet에 allCardCount 저장하기 위한 로직
-	 * createCard - createNewStudyCard 이후에 addCardToStudyCardSet에서 실행도어야 allCardsCount가 업데이트됨
+	 * 노트 카드 동기화(syncCards)가 끝난 뒤 한 번만 실행
 	 *
 	 * @param studyCardSet
 	 */
@@ -245,11 +457,32 @@ public class CardModuleService {
 		studyCardSetRepository.save(studyCardSet);
 	}
 
-	public void addCardToStudyCardSet(Card card, Note note) {
-		StudyCardSet studyCardSet = findStudyCardSetByNote(note);
-		updateCardCount(studyCardSet);
-		card.setStudyCardSet(studyCardSet);
-		studyCardSetRepository.save(studyCardSet);
+	/**
+	 * 카드의 다음 학습 시간이 바뀐 뒤(학습, 재학습, 카드 삭제) 세트의 oldestDueAt, newestDueAt 갱신
+	 * 유저의 학습 예정 달력 캐시도 함께 삭제
+	 *
+	 * @param studyCardSet
+	 */
+	public void refreshDueRange(StudyCardSet studyCardSet) {
+		if (studyCardSet == null) {
+			return;
+		}
+		cardRepository.flush();
+		imageCardRepository.flush();
+		List<Object[]> rows = studyCardSetRepository.findDueRange(studyCardSet.getId());
+		Object[] row = rows.isEmpty() ? new Object[2] : rows.get(0);
+		studyCardSet.setOldestDueAt(toLocalDateTime(row[0]));
+		studyCardSet.setNewestDueAt(toLocalDateTime(row[1]));
+		if (studyCardSet.getUser() != null) {
+			dueCalendarCache.evict(studyCardSet.getUser().getUserId());
+		}
+	}
+
+	private LocalDateTime toLocalDateTime(Object value) {
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime();
+		}
+		return value instanceof LocalDateTime localDateTime ? localDateTime : null;
 	}
 
 	public void saveStudyCardSet(StudyCardSet studyCardSet) {
@@ -273,10 +506,71 @@ public class CardModuleService {
 		return imageCardRepository.findByStudyCardSet(studyCardSet);
 	}
 
+	// 학습 대기열 크기 [다음 학습 시간이 있는 카드 수, 다음 학습 시간이 없는 카드 수]
+	public long[] countDueCards(Long studyCardSetId) {
+		List<Object[]> rows = cardRepository.countDueCards(studyCardSetId);
+		if (rows.isEmpty()) {
+			return new long[] {0, 0};
+		}
+		Object[] row = rows.get(0);
+		return new long[] {((Number)row[0]).longValue(), ((Number)row[1]).longValue()};
+	}
+
+	// 학습 대기열의 position 번째 카드 (페이지 번호 방식)
+	public Optional<DueCardKey> findDueCardAt(Long studyCardSetId, int position, long scheduledCount) {
+		List<Object[]> rows;
+		if (position < scheduledCount) {
+			rows = cardRepository.findScheduledDueCardKeys(studyCardSetId, null, null, null, position + 1, 1, position);
+		} else {
+			int offset = (int)(position - scheduledCount);
+			rows = cardRepository.findUnscheduledDueCardKeys(studyCardSetId, null, null, offset + 1, 1, offset);
+		}
+		return rows.stream().findFirst().map(DueCardKey::fromRow);
+	}
+
+	// 학습 대기열에서 cursor 바로 다음 카드 (keyset 방식)
+	public Optional<DueCardKey> findDueCardAfter(Long studyCardSetId, DueCardKey cursor) {
+		if (cursor.learnNextTime() != null) {
+			List<Object[]> rows = cardRepository.findScheduledDueCardKeys(studyCardSetId, cursor.learnNextTime(),
+				cursor.cardId(), cursor.cardKind(), 1, 1, 0);
+			if (!rows.isEmpty()) {
+				return Optional.of(DueCardKey.fromRow(rows.get(0)));
+			}
+			// 다음 학습 시간이 있는 카드를 모두 지나면 다음 학습 시간이 없는 카드의 처음부터
+			return cardRepository.findUnscheduledDueCardKeys(studyCardSetId, null, null, 1, 1, 0)
+				.stream().findFirst().map(DueCardKey::fromRow);
+		}
+		return cardRepository.findUnscheduledDueCardKeys(studyCardSetId, cursor.cardId(), cursor.cardKind(), 1, 1, 0)
+			.stream().findFirst().map(DueCardKey::fromRow);
+	}
+
 	public Card getCardById(Long id) {
 		return cardRepository.findById(id).orElseThrow(() -> new DatabaseException(NOT_FOUND_ERROR));
 	}
 
+	// 유저의 카드만 조회, 없는 카드나 다른 유저의 카드가 있으면 NOT_FOUND
+	public List<Card> getCardsByIds(Long userId, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		List<Card> cards = cardRepository.findAllByCardIdInAndUserId(ids, userId);
+		if (cards.size() != ids.size()) {
+			throw new BadRequestException(NOT_FOUND_ERROR);
+		}
+		return cards;
+	}
+
+	public List<ImageCard> getImageCardsByIds(Long userId, Collection<Long> imageCardIds) {
+		if (imageCardIds.isEmpty()) {
+			return List.of();
+		}
+		List<ImageCard> imageCards = imageCardRepository.findAllByIdInAndUserId(imageCardIds, userId);
+		if (imageCards.size() != imageCardIds.size()) {
+			throw new BadRequestException(NOT_FOUND_ERROR);
+		}
+		return imageCards;
+	}
+
 	public ImageCard getImageCardById(Long imageCardId) {
 		return imageCardRepository.findById(imageCardId).orElseThrow(() -> new DatabaseException((NOT_FOUND_ERROR)));
 	}
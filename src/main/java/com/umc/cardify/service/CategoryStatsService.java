@@ -0,0 +1,42 @@
+package com.umc.cardify.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.umc.cardify.repository.CategoryStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * category_stats 갱신
+ * 공유, 공유 취소 시 해당 카테고리만 같은 트랜잭션에서 다시 계산하고, 주간 업로드 수는 매일 자정에 전체를 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryStatsService {
+
+	private static final int WEEK_DAYS = 7;
+
+	private final CategoryStatsRepository categoryStatsRepository;
+
+	@Transactional
+	public void refresh(Collection<Long> categoryIds) {
+		if (categoryIds.isEmpty()) {
+			return;
+		}
+		categoryStatsRepository.refreshStats(categoryIds, LocalDateTime.now().minusDays(WEEK_DAYS));
+	}
+
+	@Scheduled(cron = "${library.category.rollover-cron:0 0 0 * * ?}") // 매일 자정에 실행
+	@Transactional
+	public void refreshAll() {
+		int rows = categoryStatsRepository.refreshAllStats(LocalDateTime.now().minusDays(WEEK_DAYS));
+		log.info("Refreshed category stats: {} rows", rows);
+	}
+}
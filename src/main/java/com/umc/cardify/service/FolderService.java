@@ -7,7 +7,6 @@ import com.umc.cardify.domain.Folder;
 import com.umc.cardify.domain.Note;
 import com.umc.cardify.domain.User;
 import com.umc.cardify.domain.enums.MarkStatus;
-import com.umc.cardify.domain.enums.SubscriptionStatus;
 import com.umc.cardify.dto.folder.FolderComparator;
 import com.umc.cardify.dto.folder.FolderRequest;
 import com.umc.cardify.dto.folder.FolderResponse;
@@ -15,6 +14,7 @@ import com.umc.cardify.dto.note.NoteResponse;
 import com.umc.cardify.repository.FolderRepository;
 import com.umc.cardify.repository.NoteRepository;
 import com.umc.cardify.repository.UserRepository;
+import com.umc.cardify.service.user.UserIdentityCache;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +46,7 @@ public class FolderService {
     private final FolderRepository folderRepository;
     private final NoteRepository noteRepository;
     private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
     private final NoteConverter noteConverter;
 
     public void checkOwnership(User user, Folder folder){
@@ -193,8 +194,7 @@ public class FolderService {
         User user = userRepository.findById(userId)
                 .orElseThrow(()-> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
 
-        boolean isSubscribed = user.getSubscriptions().stream()
-                .anyMatch(subscription -> subscription.getStatus() == SubscriptionStatus.ACTIVE);
+        boolean isSubscribed = userIdentityCache.isSubscriptionActive(user.getUserId());
 
         // 유료 결제 여부에 따른 상위 폴더 개수 제한
         int folderCount = folderRepository.countByUserAndParentFolderIsNull(user);
@@ -239,8 +239,7 @@ public class FolderService {
             throw new BadRequestException(ErrorResponseStatus.SUBFOLDER_CREATION_NOT_ALLOWED);
         }
 
-        boolean isSubscribed = user.getSubscriptions().stream()
-                .anyMatch(subscription -> subscription.getStatus() == SubscriptionStatus.ACTIVE);
+        boolean isSubscribed = userIdentityCache.isSubscriptionActive(user.getUserId());
 
         // 유료 결제 여부에 따른 하위 폴더 개수 제한
         if (!isSubscribed && subFolderCount >= 9) { // 무료 사용자 제한
@@ -351,7 +350,7 @@ public class FolderService {
         if(folderList.get(MarkStatus.ACTIVE) != null)
             folderList.get(MarkStatus.ACTIVE).sort(Comparator.comparing(FolderResponse.FolderInfoDTO::getMarkDate).reversed());
 
-        Map<MarkStatus, List<NoteResponse.NoteInfoDTO>> noteList =  noteRepository.findByFolder(folder).stream()
+        Map<MarkStatus, List<NoteResponse.NoteInfoDTO>> noteList =  noteRepository.findNoteRowsByFolder(folder, Pageable.unpaged()).stream()
                 .map(noteConverter::toNoteInfoDTO)
                 .collect(Collectors.groupingBy(NoteResponse.NoteInfoDTO::getMarkState));
 
@@ -0,0 +1,134 @@
+package com.umc.cardify.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.umc.cardify.repository.LibraryStatsJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자료실 주간 다운로드 순위
+ * note_library.download_week_count 기준으로 정렬된 순위를 메모리에 두고, 다운로드, 공유, 공유 취소 시 증분 반영한다.
+ * 트랜잭션 중이면 메모리 순위는 커밋 후에 반영한다. (롤백된 다운로드, 공유는 반영하지 않음)
+ * 주간 집계는 매일 자정에 일별 버킷으로 다시 계산하고, 다른 서버에서 반영된 다운로드는 주기적으로 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class LibraryLeaderboard {
+
+	// 주간 다운로드 수 내림차순, 같으면 먼저 공유된(id가 작은) 자료 먼저
+	private static final Comparator<Entry> RANK_ORDER = Comparator.comparingInt(Entry::weekCount).reversed()
+		.thenComparingLong(Entry::libraryId);
+
+	private record Entry(long libraryId, int weekCount) {
+	}
+
+	private final LibraryStatsJdbcRepository libraryStatsJdbcRepository;
+	private final int windowDays;
+	private final TreeSet<Entry> ranking = new TreeSet<>(RANK_ORDER);
+	private final Map<Long, Entry> entries = new HashMap<>();
+	private boolean loaded = false;
+
+	public LibraryLeaderboard(LibraryStatsJdbcRepository libraryStatsJdbcRepository,
+		@Value("${library.download.window-days:7}") int windowDays) {
+		this.libraryStatsJdbcRepository = libraryStatsJdbcRepository;
+		this.windowDays = windowDays;
+	}
+
+	/**
+	 * 새 다운로드 저장 (전체, 주간, 오늘 버킷 +1)
+	 */
+	public void recordDownload(Long libraryId) {
+		libraryStatsJdbcRepository.increaseDownload(libraryId, LocalDate.now());
+		afterCommit(() -> {
+			synchronized (this) {
+				Entry entry = entries.get(libraryId);
+				put(libraryId, entry == null ? 1 : entry.weekCount() + 1);
+			}
+		});
+	}
+
+	public void register(Long libraryId) {
+		afterCommit(() -> {
+			synchronized (this) {
+				if (!entries.containsKey(libraryId)) {
+					put(libraryId, 0);
+				}
+			}
+		});
+	}
+
+	public void remove(Long libraryId) {
+		libraryStatsJdbcRepository.deleteDailyCounts(libraryId);
+		afterCommit(() -> {
+			synchronized (this) {
+				Entry entry = entries.remove(libraryId);
+				if (entry != null) {
+					ranking.remove(entry);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return 주간 다운로드 순위대로 정렬된 libraryId
+	 */
+	public synchronized List<Long> ranking() {
+		if (!loaded) {
+			reload();
+		}
+		return ranking.stream().map(Entry::libraryId).toList();
+	}
+
+	@Scheduled(cron = "${library.download.rollover-cron:0 0 0 * * ?}") // 매일 자정에 실행
+	public void rollover() {
+		int rows = libraryStatsJdbcRepository.refreshWeekCounts(LocalDate.now().minusDays(windowDays - 1));
+		log.info("Refreshed weekly download counts of {} libraries", rows);
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${library.download.reload-interval-ms:600000}",
+		initialDelayString = "${library.download.reload-interval-ms:600000}")
+	public synchronized void reload() {
+		Map<Long, Integer> weekCounts = libraryStatsJdbcRepository.findWeekCounts();
+		ranking.clear();
+		entries.clear();
+		weekCounts.forEach(this::put);
+		loaded = true;
+	}
+
+	// 트랜잭션 중이면 커밋 후, 아니면 바로 실행
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private void put(Long libraryId, int weekCount) {
+		Entry old = entries.get(libraryId);
+		if (old != null) {
+			ranking.remove(old);
+		}
+		Entry entry = new Entry(libraryId, weekCount);
+		entries.put(libraryId, entry);
+		ranking.add(entry);
+	}
+}
@@ -5,32 +5,46 @@ import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.converter.LibraryConverter;
 import com.umc.cardify.domain.*;
 import com.umc.cardify.domain.ProseMirror.Node;
+import com.umc.cardify.domain.enums.LibrarySort;
+import com.umc.cardify.dto.library.LibraryCursor;
 import com.umc.cardify.dto.library.LibraryRequest;
 import com.umc.cardify.dto.library.LibraryResponse;
 import com.umc.cardify.repository.*;
+import com.umc.cardify.service.user.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.weaver.ast.Not;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LibraryService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final FolderRepository folderRepository;
     private final NoteRepository noteRepository;
     private final LibraryRepository libraryRepository;
     private final CategoryRepository categoryRepository;
-    private final LibraryCategoryRepository libraryCategoryRepository;
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final LibraryQueryJdbcRepository libraryQueryJdbcRepository;
     private final DownloadRepository downloadRepository;
-    private final ContentsNoteRepository contentsNoteRepository;
+    private final NoteContentsStore noteContentsStore;
+    private final LibraryLeaderboard libraryLeaderboard;
 
-    private final CardComponentService cardComponentService;
+    private final CardModuleService cardModuleService;
+    private final UserIdentityCache userIdentityCache;
 
     private final LibraryConverter libraryConverter;
     public Boolean isUploadLib(Note note){
@@ -41,19 +55,17 @@ public class LibraryService {
             return false;
     }
     public List<LibraryResponse.CategoryInfoDTO> getCategory(){
-        List<Category> categoryList = categoryRepository.findAll();
-        List<LibraryResponse.CategoryInfoDTO> resultDTO = categoryList.stream()
-                .map(category -> {
-                    int count = libraryCategoryRepository.findByCategory(category).size();
-                    return LibraryResponse.CategoryInfoDTO.builder()
-                            .categoryId(category.getCategoryId())
-                            .categoryName(category.getName())
-                            .cntNote(count)
-                            .build();
-                })
+        // [category_id, name, note_count, week_upload_count, last_upload_at]
+        List<LibraryResponse.CategoryInfoDTO> resultDTO = categoryStatsRepository.findAllCategoryStats().stream()
+                .map(row -> LibraryResponse.CategoryInfoDTO.builder()
+                        .categoryId(((Number) row[0]).longValue())
+                        .categoryName((String) row[1])
+                        .cntNote(((Number) row[2]).intValue())
+                        .build())
                 .collect(Collectors.toList());
         return resultDTO;
     }
+    @Transactional
     public LibraryResponse.DownloadLibDTO downloadLib(Long userId, LibraryRequest.DownloadLibDto request){
         User user = userRepository.findById(userId).orElseThrow(()-> new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));
         Folder folder = folderRepository.findById(request.getFolderId()).orElseThrow(()-> new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));
@@ -70,8 +82,8 @@ public class LibraryService {
         Download download = downloadRepository.findByUserAndLibrary(user, library);
         Note note_down = library.getNote();
         Integer point_current = user.getPoint();
-        List<Card> cardList = note_down.getCards();
-        if(download == null) {      //다운받은 적 없는 노트일때
+        boolean isNewDownload = download == null;
+        if(isNewDownload) {      //다운받은 적 없는 노트일때
             download = Download.builder()
                     .user(user)
                     .library(library)
@@ -92,6 +104,9 @@ public class LibraryService {
             }
         }
         downloadRepository.save(download);
+        if(isNewDownload)
+            libraryLeaderboard.recordDownload(library.getLibraryId());
+        userIdentityCache.evict(userId);     //포인트 변경
 
         Note note_new = Note.builder()
                 .folder(folder)
@@ -102,59 +117,53 @@ public class LibraryService {
                 .build();
         noteRepository.save(note_new);
 
-        String contents_down = contentsNoteRepository.findById(note_down.getContentsNote().getContentsId()).get().getContents();
+        // 내용은 복사하지 않고 같은 note_blob을 공유 (수정되면 새 내용으로 분리)
         ContentsNote contentsNote = ContentsNote.builder()
-                .contents(contents_down)
                 .note(note_new)
                 .build();
-        contentsNoteRepository.save(contentsNote);
+        noteContentsStore.share(note_down.getContentsNote(), contentsNote);
 
         note_new.setContentsNote(contentsNote);
         noteRepository.save(note_new);
 
-        if(cardList != null)
-            cardList.forEach(card -> cardComponentService.addCardToNote(card, note_new));
+        // 카드는 엔티티로 읽지 않고 INSERT ... SELECT 한 번으로 복사
+        // 카드 포함 다운로드만 새 학습 카드셋을 만들어 학습 대상으로 추가
+        cardModuleService.copyCards(note_down, note_new, download.getIsContainCard());
         return LibraryResponse.DownloadLibDTO.builder()
                 .noteId(note_new.getNoteId())
                 .build();
     }
     public void changeIsEditPossible(User user, Long libId){
-        folderRepository.findByUser(user).forEach(folder -> folder.getNotes().stream()
-                .filter(note -> note.getDownloadLibId() != null)
-                .filter(note -> note.getDownloadLibId().equals(libId))
-                .toList()
-                .forEach(note -> {
-                    note.setIsEdit(true);
-                    noteRepository.save(note);
-                }));
+        noteRepository.updateIsEditByUserAndDownloadLibId(user, libId);
     }
     public List<LibraryResponse.LibInfoDTO> getTopNote(Long userId){
-        List<Library> libraryList = libraryRepository.findAll();
-        List<LibraryResponse.LibInfoDTO> resultDto = libraryList.stream()
-                .map(library ->  libraryConverter.toLibInfo(library, userId))
-                .sorted(Comparator.comparing(LibraryResponse.LibInfoDTO::getCntDownloadWeek).reversed())
-                .collect(Collectors.toList());
+        // 주간 다운로드 순위대로 조회 (순위 계산 후 삭제된 자료는 제외)
+        List<Long> ranking = libraryLeaderboard.ranking();
+        Map<Long, Library> libraryMap = libraryRepository.findAllWithUploaderByLibraryIdIn(ranking).stream()
+                .collect(Collectors.toMap(Library::getLibraryId, Function.identity()));
+        List<Library> libraryList = ranking.stream()
+                .map(libraryMap::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        return resultDto;
+        return libraryConverter.toLibInfoList(libraryList, userId);
     }
     public List<LibraryResponse.CategoryInfoDTO> getTopCategory(){
-        List<Category> categoryList = categoryRepository.findAll();
-        List<LibraryResponse.CategoryInfoDTO> resultCateDTO = categoryList.stream()
-                .map(category -> {
-                    List<LibraryCategory> uploadList = libraryCategoryRepository.findByCategory(category).stream()
-                            .filter(upload-> upload.getCreatedAt().isAfter(LocalDateTime.now().minusDays(7)))
-                            .sorted(Comparator.comparing(LibraryCategory::getCreatedAt).reversed())
-                            .toList();
-                    int count = uploadList.size();
-                    LocalDateTime uploadAt = LocalDateTime.now().minusDays(7);  //가능한 날짜의 최대값을 초기값으로 설정
-
-                    if(count > 0)
-                        uploadAt = uploadList.get(0).getCreatedAt();
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);   //가능한 날짜의 최대값을 초기값으로 설정
+        List<LibraryResponse.CategoryInfoDTO> resultCateDTO = categoryStatsRepository.findAllCategoryStats().stream()
+                .map(row -> {
+                    // 최근 7일 업로드가 없으면 weekAgo
+                    LocalDateTime lastUploadAt = null;
+                    if (row[4] instanceof Timestamp timestamp)
+                        lastUploadAt = timestamp.toLocalDateTime();
+                    else if (row[4] instanceof LocalDateTime localDateTime)
+                        lastUploadAt = localDateTime;
+                    LocalDateTime uploadAt = lastUploadAt != null && lastUploadAt.isAfter(weekAgo) ? lastUploadAt : weekAgo;
 
                     return LibraryResponse.CategoryInfoDTO.builder()
-                            .categoryId(category.getCategoryId())
-                            .categoryName(category.getName())
-                            .cntNote(count)
+                            .categoryId(((Number) row[0]).longValue())
+                            .categoryName((String) row[1])
+                            .cntNote(((Number) row[3]).intValue())
                             .uploadAt(uploadAt)
                             .build();
                 })
@@ -162,24 +171,17 @@ public class LibraryService {
                 .collect(Collectors.toList());
         return resultCateDTO;
     }
-    public List<LibraryResponse.LibInfoDTO> getNoteToCategory(String input, String order, Long userId) {
+    public List<LibraryResponse.LibInfoDTO> getNoteToCategory(String input, String order, Long userId, String cursor,
+                                                              Integer size) {
         Category category = categoryRepository.findByName(input);
-        Comparator<LibraryResponse.LibInfoDTO> comparator;
         if(category == null)
             throw new BadRequestException(ErrorResponseStatus.NOT_FOUND_CATEGORY);
-        comparator = switch (order.toLowerCase()) {
-            case "asc" -> Comparator.comparing(LibraryResponse.LibInfoDTO::getNoteName);
-            case "desc" -> Comparator.comparing(LibraryResponse.LibInfoDTO::getNoteName).reversed();
-            case "upload-newest" -> Comparator.comparing(LibraryResponse.LibInfoDTO::getUploadAt).reversed();
-            case "upload-oldest" -> Comparator.comparing(LibraryResponse.LibInfoDTO::getUploadAt);
-            case "download" -> Comparator.comparing(LibraryResponse.LibInfoDTO::getCntDownloadAll).reversed();
-            default -> throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
-        };
-        List<LibraryResponse.LibInfoDTO> resultList = libraryCategoryRepository.findByCategory(category).stream()
-                .map(upload -> libraryConverter.toLibInfo(upload.getLibrary(), userId))
-                .sorted(comparator)
-                .toList();
-        return resultList;
+        LibrarySort sort = LibrarySort.fromOrder(order);
+        if(sort == null)
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+
+        return libraryQueryJdbcRepository.findLibraryPage(userId, List.of(category.getCategoryId()), null, sort,
+                toCursor(cursor, sort), pageSize(size));
     }
     public LibraryResponse.SearchLibDTO searchLib(LibraryRequest.SearchLibDto request, Long userId){
         String searchTxt;
@@ -188,16 +190,10 @@ public class LibraryService {
         else
             searchTxt = request.getSearchTxt();
 
-        List<Library> resultLib;
         List<Category> categoryList;
-        if(request.getCategoryList() == null){
-            resultLib = libraryCategoryRepository.findAll().stream()
-                    .map(LibraryCategory::getLibrary)
-                    .toList();
+        if(request.getCategoryList() == null)
             categoryList = new ArrayList<>();
-        }
         else {
-            resultLib = new ArrayList<>();
             categoryList = request.getCategoryList().stream()
                     .map(str -> {
                         Category category = categoryRepository.findByName(str);
@@ -206,22 +202,16 @@ public class LibraryService {
                         return category;
                     })
                     .toList();
-
-            categoryList.forEach(category -> {
-                List<LibraryCategory> uploadList = libraryCategoryRepository.findByCategory(category);
-                List<Library> libList = uploadList.stream()
-                        .map(LibraryCategory::getLibrary)
-                        .toList();
-                resultLib.addAll(libList);
-            });
         }
 
-        List<LibraryResponse.LibInfoDTO> resultList = resultLib.stream()
-                .distinct()
-                .filter(library -> library.getNote().getName().contains(searchTxt))
-                .map(library ->  libraryConverter.toLibInfo(library, userId))
-                .sorted(Comparator.comparing(LibraryResponse.LibInfoDTO::getCntDownloadWeek).reversed())
-                .toList();
+        // 정렬 기준 미입력 시 주간 다운로드 순
+        LibrarySort sort = request.getOrder() == null ? LibrarySort.DOWNLOAD_WEEK : LibrarySort.fromOrder(request.getOrder());
+        if(sort == null)
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+
+        List<Long> categoryIds = categoryList.stream().map(Category::getCategoryId).toList();
+        List<LibraryResponse.LibInfoDTO> resultList = libraryQueryJdbcRepository.findLibraryPage(userId, categoryIds,
+                searchTxt, sort, toCursor(request.getCursor(), sort), pageSize(request.getSize()));
 
         return LibraryResponse.SearchLibDTO.builder()
                 .searchTxt(searchTxt)
@@ -229,6 +219,19 @@ public class LibraryService {
                 .resultNote(resultList)
                 .build();
     }
+    // 직전 페이지 마지막 자료의 cursor (정렬 기준이 다르거나 형식이 잘못되면 REQUEST_ERROR)
+    private LibraryCursor toCursor(String cursor, LibrarySort sort){
+        if(cursor == null || cursor.isEmpty())
+            return null;
+        return LibraryCursor.decode(cursor, sort);
+    }
+    private int pageSize(Integer size){
+        if(size == null)
+            return DEFAULT_PAGE_SIZE;
+        if(size < 1 || size > MAX_PAGE_SIZE)
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+        return size;
+    }
     public LibraryResponse.CheckDownloadDTO checkDownload(Long userId, Long libraryId){
         User user = userRepository.findById(userId).orElseThrow(()-> new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));;
         Library library = libraryRepository.findById(libraryId).orElseThrow(()-> new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));;
@@ -0,0 +1,86 @@
+package com.umc.cardify.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 노트 재작성 시 기존 카드와 새 카드 노드를 비교해 추가, 수정, 삭제할 카드만 계산
+ * 키 목록의 앞쪽(예 : 노드 id)부터 차례로 매칭하고, 어느 키로도 매칭되지 않은 노드는 추가, 남은 기존 카드는 삭제
+ * 같은 키가 여러 개면 문서 순서대로 짝지음
+ */
+public final class NoteCardDiff {
+
+	private NoteCardDiff() {
+	}
+
+	/**
+	 * @param inserts 새로 생성할 노드 인덱스
+	 * @param updates 내용이 바뀐 기존 카드 -> 노드 인덱스
+	 * @param deletes 삭제할 기존 카드
+	 */
+	public record Result<E>(List<Integer> inserts, Map<E, Integer> updates, List<E> deletes) {
+		public boolean isEmpty() {
+			return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+		}
+	}
+
+	/**
+	 * @param existing 기존 카드
+	 * @param nodeCount 새 카드 노드 수
+	 * @param existingKeys 기존 카드의 매칭 키 (우선순위 순, 키가 없으면 null)
+	 * @param nodeKeys 노드의 매칭 키 (existingKeys와 같은 순서)
+	 * @param changed 매칭된 카드의 내용이 바뀌었는지 여부
+	 */
+	public static <E> Result<E> diff(List<E> existing, int nodeCount, List<Function<E, String>> existingKeys,
+		List<IntFunction<String>> nodeKeys, BiPredicate<E, Integer> changed) {
+		List<E> matched = new ArrayList<>(Collections.nCopies(nodeCount, null));
+		Set<E> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+		remaining.addAll(existing);
+
+		for (int level = 0; level < existingKeys.size(); level++) {
+			Map<String, Deque<E>> byKey = new HashMap<>();
+			for (E card : existing) {
+				String key = remaining.contains(card) ? existingKeys.get(level).apply(card) : null;
+				if (key != null) {
+					byKey.computeIfAbsent(key, k -> new ArrayDeque<>()).add(card);
+				}
+			}
+			for (int i = 0; i < nodeCount; i++) {
+				if (matched.get(i) != null) {
+					continue;
+				}
+				String key = nodeKeys.get(level).apply(i);
+				Deque<E> candidates = key == null ? null : byKey.get(key);
+				if (candidates != null && !candidates.isEmpty()) {
+					E card = candidates.poll();
+					matched.set(i, card);
+					remaining.remove(card);
+				}
+			}
+		}
+
+		List<Integer> inserts = new ArrayList<>();
+		Map<E, Integer> updates = new LinkedHashMap<>();
+		for (int i = 0; i < nodeCount; i++) {
+			E card = matched.get(i);
+			if (card == null) {
+				inserts.add(i);
+			} else if (changed.test(card, i)) {
+				updates.put(card, i);
+			}
+		}
+		List<E> deletes = existing.stream().filter(remaining::contains).toList();
+		return new Result<>(inserts, updates, deletes);
+	}
+}
@@ -0,0 +1,191 @@
+package com.umc.cardify.service;
+
+import static com.umc.cardify.config.exception.ErrorResponseStatus.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.domain.ContentsNote;
+import com.umc.cardify.domain.NoteBlob;
+import com.umc.cardify.repository.ContentsNoteRepository;
+import com.umc.cardify.repository.NoteBlobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노트 내용(ProseMirror JSON) 저장소
+ * 내용은 deflate(ProseMirror JSON용 preset dictionary)로 압축해 note_blob에 SHA-256 키로 저장하고,
+ * contents_note에는 키(blob_hash)만 저장한다. 라이브러리 다운로드는 키만 복사하고, 수정되면 새 키로 바뀐다.
+ * blob_hash가 없는 이전 형식의 노트는 contents 컬럼을 그대로 읽고, 다음 저장 시 note_blob으로 옮긴다.
+ */
+@Slf4j
+@Service
+public class NoteContentsStore {
+
+	// 압축 방식 : deflate + DICTIONARY_V1 (사전을 바꾸면 새 codec 번호를 추가할 것)
+	public static final int CODEC_DEFLATE_V1 = 1;
+
+	/**
+	 * ProseMirror JSON에 자주 나오는 문자열 (deflate는 사전 뒤쪽 문자열을 더 짧게 참조하므로 자주 나오는 것을 뒤에 둠)
+	 */
+	private static final byte[] DICTIONARY_V1 = String.join("",
+		"{\"type\":\"doc\",\"content\":[",
+		"\"baseImageWidth\":", "\"baseImageHeight\":", "\"overlays\":[{\"positionOfX\":", "\"positionOfY\":",
+		"\"width\":", "\"height\":", "{\"type\":\"image_card\",\"attrs\":{",
+		"{\"type\":\"multi_card\",\"attrs\":{", "{\"type\":\"word_card\",\"attrs\":{",
+		"{\"type\":\"blank_card\",\"attrs\":{", "\"question_front\":\"", "\"question_back\":\"", "\"answer\":[\"",
+		"{\"type\":\"hardBreak\"}", "{\"type\":\"horizontalRule\"}", "{\"type\":\"bulletList\",\"content\":[",
+		"{\"type\":\"orderedList\",\"attrs\":{\"start\":1},\"content\":[", "{\"type\":\"listItem\",\"content\":[",
+		"{\"type\":\"heading\",\"attrs\":{\"level\":", "\"color\":\"", "\"backgroundColor\":\"",
+		"{\"type\":\"highlight\",\"attrs\":{", "{\"type\":\"textStyle\",\"attrs\":{", "{\"type\":\"underline\"}",
+		"{\"type\":\"italic\"}", "{\"type\":\"bold\"}", "\"marks\":[",
+		"]},{\"type\":\"paragraph\"},", "]}]},", "{\"type\":\"paragraph\",\"content\":[{\"type\":\"text\",\"text\":\"",
+		"\"},{\"type\":\"text\",\"text\":\"", "\"}]},{\"type\":\"paragraph\",\"content\":[{\"type\":\"text\",\"text\":\""
+	).getBytes(StandardCharsets.UTF_8);
+
+	private final ContentsNoteRepository contentsNoteRepository;
+	private final NoteBlobRepository noteBlobRepository;
+	private final int gcGraceHours;
+
+	public NoteContentsStore(ContentsNoteRepository contentsNoteRepository, NoteBlobRepository noteBlobRepository,
+		@Value("${note.blob.gc-grace-hours:24}") int gcGraceHours) {
+		this.contentsNoteRepository = contentsNoteRepository;
+		this.noteBlobRepository = noteBlobRepository;
+		this.gcGraceHours = gcGraceHours;
+	}
+
+	/**
+	 * 노트 내용 조회
+	 * @return ProseMirror JSON (작성된 적 없으면 null)
+	 */
+	public String read(ContentsNote contentsNote) {
+		if (contentsNote.getBlobHash() == null) {
+			return contentsNote.getContents();
+		}
+		NoteBlob blob = noteBlobRepository.findById(contentsNote.getBlobHash())
+			.orElseThrow(() -> new BadRequestException(INVALID_NOTE_TEXT));
+		return decompress(blob);
+	}
+
+	/**
+	 * 노트 내용 버전 (내용이 같으면 같은 값, 내용을 읽거나 압축을 풀지 않음)
+	 */
+	public String versionOf(ContentsNote contentsNote) {
+		if (contentsNote == null) {
+			return "none";
+		}
+		if (contentsNote.getBlobHash() != null) {
+			return contentsNote.getBlobHash();
+		}
+		return contentsNote.getContents() == null ? "empty"
+			: sha256(contentsNote.getContents().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 노트 내용 저장 (같은 내용이 이미 있으면 압축본을 공유)
+	 */
+	@Transactional
+	public void write(ContentsNote contentsNote, String contents) {
+		if (contents == null) {
+			contentsNote.setBlobHash(null);
+			contentsNote.setContents(null);
+			contentsNoteRepository.save(contentsNote);
+			return;
+		}
+		byte[] raw = contents.getBytes(StandardCharsets.UTF_8);
+		String hash = sha256(raw);
+		if (!hash.equals(contentsNote.getBlobHash())) {
+			noteBlobRepository.upsert(hash, CODEC_DEFLATE_V1, raw.length, compress(raw));
+			contentsNote.setBlobHash(hash);
+		}
+		contentsNote.setContents(null);
+		contentsNoteRepository.save(contentsNote);
+	}
+
+	/**
+	 * source와 같은 내용을 target에 연결 (내용을 읽거나 복사하지 않음)
+	 * source가 이전 형식이면 먼저 note_blob으로 옮긴다.
+	 */
+	@Transactional
+	public void share(ContentsNote source, ContentsNote target) {
+		if (source.getBlobHash() == null && source.getContents() != null) {
+			write(source, source.getContents());
+		}
+		target.setBlobHash(source.getBlobHash());
+		target.setContents(null);
+		contentsNoteRepository.save(target);
+	}
+
+	@Scheduled(cron = "${note.blob.gc-cron:0 30 4 * * ?}") // 매일 새벽 4시 30분에 실행
+	@Transactional
+	public void deleteUnreferencedBlobs() {
+		int deleted = noteBlobRepository.deleteUnreferenced(gcGraceHours);
+		log.info("Deleted {} unreferenced note blobs", deleted);
+	}
+
+	private byte[] compress(byte[] raw) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setDictionary(DICTIONARY_V1);
+			deflater.setInput(raw);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private String decompress(NoteBlob blob) {
+		if (blob.getCodec() != CODEC_DEFLATE_V1) {
+			throw new IllegalStateException("Unknown note blob codec: " + blob.getCodec());
+		}
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(blob.getData());
+			byte[] raw = new byte[blob.getRawSize()];
+			int length = 0;
+			while (!inflater.finished() && length < raw.length) {
+				int read = inflater.inflate(raw, length, raw.length - length);
+				if (read == 0 && inflater.needsDictionary()) {
+					inflater.setDictionary(DICTIONARY_V1);
+				} else if (read == 0 && inflater.needsInput()) {
+					break;
+				}
+				length += read;
+			}
+			if (length != raw.length) {
+				throw new IllegalStateException("Corrupted note blob: " + blob.getHash());
+			}
+			return new String(raw, StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Corrupted note blob: " + blob.getHash(), e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private String sha256(byte[] raw) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm not available", e);
+		}
+	}
+}
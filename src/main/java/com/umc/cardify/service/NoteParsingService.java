@@ -1,32 +1,170 @@
 package com.umc.cardify.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.domain.Note;
 import com.umc.cardify.domain.ProseMirror.Node;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 @Service
 @RequiredArgsConstructor
 public class NoteParsingService {
     private final CardModuleService cardModuleService;
+    private final ObjectMapper objectMapper;
 
-    public void parsingNode(Node node, StringBuilder input, Note note, Queue<MultipartFile> imageQueue) {
+    /**
+     * 노트 작성 요청(NoteRequest.WriteNoteDto JSON)을 JsonParser로 한 번만 읽어 파싱
+     * 문서 전체를 Node 객체로 만들지 않고, 카드 노드만 Node로 변환
+     *
+     * @param noteId 노트 id
+     * @param name 노트 이름
+     * @param mode 작성 모드 (없으면 null)
+     * @param contents 요청의 contents 원문 (다시 직렬화하지 않고 그대로 저장)
+     * @param totalText 노트 전체 텍스트 (검색용)
+     * @param textNodes 문서 순서대로 모은 일반 카드 노드
+     * @param imageNodes 문서 순서대로 모은 image_card 노드
+     */
+    public record ParsedNote(Long noteId, String name, String mode, String contents, String totalText,
+                             List<Node> textNodes, List<Node> imageNodes) {
+    }
+
+    public ParsedNote parse(byte[] request) {
+        Long noteId = null;
+        String name = null;
+        String mode = null;
+        String contents = null;
+        StringBuilder totalText = new StringBuilder();
+        List<Node> textNodes = new ArrayList<>();
+        List<Node> imageNodes = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(request)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "noteId" -> noteId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+                    case "name" -> name = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "mode" -> mode = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "contents" -> {
+                        if (value != JsonToken.START_OBJECT) {
+                            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+                        }
+                        int start = (int) parser.currentTokenLocation().getByteOffset();
+                        parseNode(request, parser, totalText, textNodes, imageNodes);
+                        int end = (int) parser.currentLocation().getByteOffset();
+                        contents = new String(request, start, end - start, StandardCharsets.UTF_8);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+        }
+
+        if (noteId == null || name == null || contents == null) {
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+        }
+        return new ParsedNote(noteId, name, mode, contents, totalText.toString(), textNodes, imageNodes);
+    }
+
+    /**
+     * 파싱한 카드 노드를 기존 카드와 비교해 일괄 반영
+     * 순회 중에는 저장, 업로드하지 않고, 순회가 끝난 뒤 새 이미지를 먼저 업로드하고
+     * 바뀐 카드만 한 트랜잭션에서 추가, 수정, 삭제 (업로드 동안 DB 커넥션, 락을 잡지 않음)
+     */
+    public void syncCards(Note note, ParsedNote parsedNote, Queue<MultipartFile> imageQueue) {
+        List<String> imgUrls = cardModuleService.uploadCardImages(note, parsedNote.imageNodes(), imageQueue);
+        cardModuleService.syncCards(note, parsedNote.textNodes(), parsedNote.imageNodes(), imgUrls);
+    }
+
+    // parser가 노드의 START_OBJECT에 있을 때 호출, 끝나면 해당 END_OBJECT에 위치
+    private void parseNode(byte[] request, JsonParser parser, StringBuilder input, List<Node> textNodes,
+                           List<Node> imageNodes) throws IOException {
+        int start = (int) parser.currentTokenLocation().getByteOffset();
+        String type = null;
+        String text = null;
+        JsonNode deferredContent = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("type")) {
+                type = parser.getText();
+            } else if (field.equals("text") && value != JsonToken.VALUE_NULL) {
+                text = parser.getText();
+            } else if (field.equals("content") && value == JsonToken.START_ARRAY) {
+                if (type == null) {
+                    // type보다 content가 먼저 오면 카드 여부를 알 수 없으므로 하위 노드만 트리로 보관
+                    deferredContent = parser.readValueAsTree();
+                } else if (type.endsWith("card")) {
+                    parser.skipChildren();
+                } else {
+                    JsonToken child;
+                    while ((child = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (child == JsonToken.START_OBJECT) {
+                            parseNode(request, parser, input, textNodes, imageNodes);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (type != null && type.endsWith("card")) {
+            // 카드 노드는 원문 구간만 Node로 변환
+            int end = (int) parser.currentLocation().getByteOffset();
+            Node node = objectMapper.readValue(request, start, end - start, Node.class);
+            parsingNode(node, input, textNodes, imageNodes);
+            return;
+        }
+        if ("text".equals(type) && text != null) {
+            processTextNode(text, input);
+        }
+        if (deferredContent != null) {
+            for (JsonNode child : deferredContent) {
+                parsingNode(objectMapper.treeToValue(child, Node.class), input, textNodes, imageNodes);
+            }
+        }
+    }
+
+    private void parsingNode(Node node, StringBuilder input, List<Node> textNodes, List<Node> imageNodes) {
         if (node.getType().endsWith("card")) {
-            cardModuleService.processCardNode(node, input, note, imageQueue);
+            if (cardModuleService.isImageCard(node)) {
+                imageNodes.add(node);
+            } else {
+                cardModuleService.appendCardText(node, input);
+                if (cardModuleService.isTextCard(node)) {
+                    textNodes.add(node);
+                }
+            }
         } else if (node.getType().equals("text")) {
-            processTextNode(node, input);
+            processTextNode(node.getText(), input);
         }
 
         if (node.getContent() != null) {
-            node.getContent().forEach(content -> parsingNode(content, input, note, imageQueue));
+            node.getContent().forEach(content -> parsingNode(content, input, textNodes, imageNodes));
         }
     }
 
-    private void processTextNode(Node node, StringBuilder input) {
-        String nodeText = node.getText();
+    private void processTextNode(String nodeText, StringBuilder input) {
         if (!nodeText.endsWith("."))
             nodeText += ".";
         input.append(nodeText);
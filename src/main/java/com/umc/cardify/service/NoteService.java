@@ -1,48 +1,59 @@
 package com.umc.cardify.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.umc.cardify.config.exception.BadRequestException;
 import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.converter.NoteConverter;
 import com.umc.cardify.domain.*;
-import com.umc.cardify.domain.ProseMirror.Node;
 import com.umc.cardify.domain.enums.MarkStatus;
-import com.umc.cardify.domain.enums.SubscriptionStatus;
-import com.umc.cardify.dto.note.NoteComparator;
+import com.umc.cardify.dto.note.NoteListRow;
 import com.umc.cardify.dto.note.NoteRequest;
 import com.umc.cardify.dto.note.NoteResponse;
 import com.umc.cardify.repository.*;
+import com.umc.cardify.service.user.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.weaver.ast.Not;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NoteService {
+    private static final Set<String> NOTE_ORDERS =
+            Set.of("asc", "desc", "create-newest", "create-oldest", "edit-newest", "edit-oldest");
+
     private final NoteRepository noteRepository;
     private final LibraryRepository libraryRepository;
     private final CategoryRepository categoryRepository;
     private final LibraryCategoryRepository libraryCategoryRepository;
     private final ContentsNoteRepository contentsNoteRepository;
+    private final NoteContentsStore noteContentsStore;
+    private final NoteViewTracker noteViewTracker;
+    private final LibraryLeaderboard libraryLeaderboard;
+    private final CategoryStatsService categoryStatsService;
+
+    @Value("${note.search.max-hits:200}")
+    private int searchMaxHits;
     private final FolderRepository folderRepository;
     private final SearchHistoryRepository searchHistoryRepository;
+    private final UserIdentityCache userIdentityCache;
 
     private final NoteConverter noteConverter;
-    private final ObjectMapper objectMapper;
 
     private static final int PREVIEW_LIMIT = 300;
 
@@ -90,9 +101,7 @@ public class NoteService {
      * @return 개수 확인 결과 (true -> 초과하지 않음, 노트 추가 가능)
      */
     public Boolean checkNoteCnt(User user){
-        if(user.getSubscriptions()
-                .stream()
-                .anyMatch(subscription -> subscription.getStatus() == SubscriptionStatus.ACTIVE))
+        if(userIdentityCache.isSubscriptionActive(user.getUserId()))
             return true;
 
         int note_cnt = 0;
@@ -151,7 +160,7 @@ public class NoteService {
                     PageRequest.of(page, size, Sort.by(Sort.Order.asc("markAt"), Sort.Order.asc("createdAt")));
             default -> throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
         };
-        Page<Note> notes_all = noteRepository.findByFolder(folder, pageable);
+        Page<NoteListRow> notes_all = noteRepository.findNoteRowsByFolder(folder, pageable);
 
         return noteConverter.toGetNoteToFolderResult(folder, notes_all);
     }
@@ -176,54 +185,22 @@ public class NoteService {
     }
 
     /**
-     * 노트 작성 매서드
-     * @param note 작성할 노트 객체
-     * @param node 작성할 내용
-     * @param images 노트 내 삽입할 이미지 리스트
+     * 노트 내용 저장
+     * @param note 작성할 노트 객체 (편집 가능 상태가 아니면 DB_UPDATE_ERROR)
+     * @param contents 요청의 contents 원문 (다시 직렬화하지 않음)
      * @return 매서드 성공 여부
      */
     @Transactional
-    public Boolean writeNote(Note note, Node node, List<MultipartFile> images) {
+    public Boolean writeNote(Note note, String contents) {
         if (!note.getIsEdit()) {
             log.warn("IsEdit is : {}", false);
             throw new BadRequestException(ErrorResponseStatus.DB_UPDATE_ERROR);
         }
 
-/*
-        // 작성 모드 설정 (Controller 내부로 이동 예정)
-        String mode = request.getMode();
-        if(mode == null || mode.isEmpty())
-            mode = "standard";
-        if(!mode.equals("standard") && !mode.equals("light"))
-            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
-
-        if (cardModuleService.existsByNote(note) && mode.equals("standard")) {
-            cardModuleService.deleteAllCardsByNoteId(note.getNoteId());
-            cardModuleService.deleteAllImageCardsByNoteId(note.getNoteId());
-        }
-
-        note.setName(request.getName());
-
-        if(mode.equals("standard")) {
-            StringBuilder totalText = new StringBuilder();
-
-            Queue<MultipartFile> imageQueue = new LinkedList<>(images != null ? images : Collections.emptyList());
-            noteParsingService.searchCard(node, totalText, note, imageQueue);
-            note.setTotalText(totalText.toString());
-        }
-*/
-
         ContentsNote contentsNote = contentsNoteRepository.findByNote(note)
                 .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));
 
-        String content;
-        try {
-            content = objectMapper.writeValueAsString(node);
-        } catch (JsonProcessingException e){
-            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
-        }
-        contentsNote.setContents(content);
-        contentsNoteRepository.save(contentsNote);
+        noteContentsStore.write(contentsNote, contents);
 
         noteRepository.save(note);
 
@@ -241,13 +218,14 @@ public class NoteService {
         if (search.trim().equals("."))
             return null;
 
-        List<Note> notes = noteRepository.findByFolder(folder)
-                .stream()
-                .filter(note -> note.getName().contains(search) | note.getTotalText().contains(search))
-                .toList();
-        List<NoteResponse.SearchNoteResDTO> searchList = notes.stream()
-                .map(list -> noteConverter.toSearchNoteResult(list, search))
-                .collect(Collectors.toList());
+        List<NoteResponse.SearchNoteResDTO> searchList = search.isBlank() ? List.of()
+                : loadSearchHits(searchRows(search,
+                        query -> noteRepository.searchInFolder(folder.getFolderId(), query, searchMaxHits),
+                        pattern -> noteRepository.searchInFolderByLike(folder.getFolderId(), pattern, searchMaxHits)),
+                        0, search)
+                        .stream()
+                        .map(hit -> noteConverter.toSearchNoteResult(hit.note(), search, hit.score()))
+                        .collect(Collectors.toList());
 
         return NoteResponse.SearchNoteDTO.builder()
                 .searchTxt(search)
@@ -266,26 +244,37 @@ public class NoteService {
         if (search.trim().equals("."))
             return null;
 
-        //User가 갖고 있는 Folder 조회
-        List<Folder> folderList = folderRepository.findByUser(user);
-        //Folder내 검색어가 포함된 노트 조회
-        List<NoteResponse.SearchNoteToUserDTO> noteToUserDTO = new ArrayList<>(folderList.stream()
-                .map(folder -> {
-                    List<NoteResponse.SearchNoteResDTO> folderToNote = noteRepository.findByFolder(folder).stream()
-                            .filter(note -> note.getName().contains(search) | note.getTotalText().contains(search))
-                            .map(note -> noteConverter.toSearchNoteResult(note, search))
-                            .toList();
-                    if (!folderToNote.isEmpty())
-                        return noteConverter.toSearchNoteUser(folder, folderToNote);
-                    return null;
-                }).toList());
-        noteToUserDTO.remove(null);
+        if (search.isBlank())
+            return NoteResponse.SearchNoteAllDTO.builder()
+                    .searchTxt(search).noteToUserList(new ArrayList<>()).noteToLibList(List.of())
+                    .build();
+
+        //유저 노트 중 검색어가 포함된 노트 조회 (관련도 순, 폴더별로 묶음)
+        Map<Long, List<NoteResponse.SearchNoteResDTO>> folderToNote = new LinkedHashMap<>();
+        Map<Long, Folder> folders = new HashMap<>();
+        loadSearchHits(searchRows(search,
+                        query -> noteRepository.searchByUser(user.getUserId(), query, searchMaxHits),
+                        pattern -> noteRepository.searchByUserByLike(user.getUserId(), pattern, searchMaxHits)),
+                        0, search)
+                .forEach(hit -> {
+                    Folder folder = hit.note().getFolder();
+                    folders.putIfAbsent(folder.getFolderId(), folder);
+                    folderToNote.computeIfAbsent(folder.getFolderId(), id -> new ArrayList<>())
+                            .add(noteConverter.toSearchNoteResult(hit.note(), search, hit.score()));
+                });
+        List<NoteResponse.SearchNoteToUserDTO> noteToUserDTO = new ArrayList<>(folderToNote.entrySet().stream()
+                .map(entry -> noteConverter.toSearchNoteUser(folders.get(entry.getKey()), entry.getValue()))
+                .toList());
         //Library내 검색어가 포함된 노트 조회
-        List<NoteResponse.SearchNoteToLibDTO> noteToLibDTO = libraryRepository.findAll().stream()
-                .filter(library -> library.getNote().getName().contains(search) | library.getNote().getTotalText().contains(search))
-                .map(library -> NoteResponse.SearchNoteToLibDTO.builder()
-                        .libraryId(library.getLibraryId())
-                        .note(noteConverter.toSearchNoteResult(library.getNote(), search))
+        List<Object[]> libraryRows = searchRows(search,
+                query -> noteRepository.searchInLibrary(query, searchMaxHits),
+                pattern -> noteRepository.searchInLibraryByLike(pattern, searchMaxHits));
+        Map<Long, Long> libraryIds = new HashMap<>();
+        libraryRows.forEach(row -> libraryIds.put(((Number) row[1]).longValue(), ((Number) row[0]).longValue()));
+        List<NoteResponse.SearchNoteToLibDTO> noteToLibDTO = loadSearchHits(libraryRows, 1, search).stream()
+                .map(hit -> NoteResponse.SearchNoteToLibDTO.builder()
+                        .libraryId(libraryIds.get(hit.note().getNoteId()))
+                        .note(noteConverter.toSearchNoteResult(hit.note(), search, hit.score()))
                         .build())
                 .toList();
 
@@ -294,6 +283,63 @@ public class NoteService {
                 .build();
     }
 
+    private record SearchHit(Note note, Double score) {
+    }
+
+    /**
+     * 검색 후보 조회
+     * 전문 검색식을 만들 수 있으면 FULLTEXT 인덱스로, 모든 단어가 ngram_token_size(2)보다 짧으면 같은 범위를 LIKE로 조회
+     * (1글자는 ngram 토큰의 앞 글자로만 찾을 수 있어 전문 검색으로는 결과가 빠짐)
+     */
+    private List<Object[]> searchRows(String search, Function<String, List<Object[]>> fullTextSearch,
+                                      Function<String, List<Object[]>> likeSearch) {
+        String query = toFullTextQuery(search);
+        return query != null ? fullTextSearch.apply(query) : likeSearch.apply("%" + escapeLike(search) + "%");
+    }
+
+    /**
+     * 검색어를 MySQL boolean mode 전문 검색식으로 변환
+     * 공백으로 나눈 단어 중 2글자 이상(ngram_token_size = 2 기준)인 단어를 모두 포함하는 구문 검색
+     * 짧은 단어는 인덱스로 찾을 수 없으므로 식에서 빼고, 검색어 전체 포함 여부는 loadSearchHits에서 확인
+     * @return 검색식 (2글자 이상인 단어가 없으면 null)
+     */
+    private String toFullTextQuery(String search) {
+        String cleaned = search.replaceAll("[+\\-<>()~*\"@.]", " ").trim();
+        if (cleaned.isEmpty())
+            return null;
+        StringBuilder query = new StringBuilder();
+        for (String term : cleaned.split("\\s+")) {
+            if (term.length() >= 2)
+                query.append("+\"").append(term).append("\" ");
+        }
+        return query.isEmpty() ? null : query.toString().trim();
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 전문 검색 결과 행을 노트로 변환 (관련도 순서 유지)
+     * 인덱스는 후보만 찾으므로 검색어를 그대로 포함하는 노트만 남긴다.
+     * @param rows 검색 결과 행 (noteIdIndex 위치에 note_id, 마지막 위치에 score)
+     */
+    private List<SearchHit> loadSearchHits(List<Object[]> rows, int noteIdIndex, String search) {
+        List<Long> noteIds = rows.stream().map(row -> ((Number) row[noteIdIndex]).longValue()).toList();
+        Map<Long, Note> notes = noteRepository.findAllById(noteIds).stream()
+                .collect(Collectors.toMap(Note::getNoteId, note -> note));
+        List<SearchHit> hits = new ArrayList<>();
+        rows.forEach(row -> {
+            Note note = notes.get(((Number) row[noteIdIndex]).longValue());
+            if (note == null)
+                return;
+            String totalText = note.getTotalText() == null ? "" : note.getTotalText();
+            if (note.getName().contains(search) || totalText.contains(search))
+                hits.add(new SearchHit(note, ((Number) row[row.length - 1]).doubleValue()));
+        });
+        return hits;
+    }
+
     /**
      * 노트 검색 기록 추가 매서드
      * @param user 검색 유저
@@ -360,18 +406,23 @@ public class NoteService {
      * @param categoryListStr 노트 카테고리
      * @return 매서드 실행 결과
      */
+    @Transactional
     public Boolean shareLib(Note note, List<String> categoryListStr) {
         if (note.getDownloadLibId() != null)
             throw new BadRequestException(ErrorResponseStatus.DB_INSERT_ERROR);
         //기존에 공유되어 있던 데이터를 삭제
         Library library = note.getLibrary();
+        Set<Long> categoryIds = new HashSet<>();
         if (library != null) {
+            categoryIds.addAll(categoryIdsOf(library));
             note.setLibrary(null);
             libraryRepository.delete(library);
+            libraryLeaderboard.remove(library.getLibraryId());
         }
 
         Library library_new = Library.builder().note(note).uploadAt(LocalDateTime.now()).build();
         libraryRepository.save(library_new);
+        libraryLeaderboard.register(library_new.getLibraryId());
 
         List<Category> categoryList = null;
         if (!categoryListStr.isEmpty() && categoryListStr.size() <= 3) {
@@ -394,6 +445,9 @@ public class NoteService {
 
         note.setIsEdit(false);
         noteRepository.save(note);
+
+        categoryList.forEach(category -> categoryIds.add(category.getCategoryId()));
+        categoryStatsService.refresh(categoryIds);
         return true;
     }
 
@@ -402,6 +456,7 @@ public class NoteService {
      * @param note 대상 노트 객체
      * @return 매서드 실행 결과
      */
+    @Transactional
     public Boolean cancelShare(Note note) {
         Library library = note.getLibrary();
 
@@ -409,21 +464,27 @@ public class NoteService {
         note.setIsEdit(true);
         noteRepository.save(note);
 
-        if (library != null)
+        if (library != null) {
+            List<Long> categoryIds = categoryIdsOf(library);
             libraryRepository.delete(library);
+            libraryLeaderboard.remove(library.getLibraryId());
+            categoryStatsService.refresh(categoryIds);
+        }
         return true;
     }
 
+    private List<Long> categoryIdsOf(Library library) {
+        return library.getCategoryList().stream()
+                .map(libraryCategory -> libraryCategory.getCategory().getCategoryId())
+                .toList();
+    }
+
     /**
      * 노트 내용 조회 매서드
      * @param note 대상 노트 객체
      * @return 노트 내용
      */
     public NoteResponse.getNoteDTO getNote(Note note) {
-        //노트 조회 시간 갱신
-        note.setViewAt(LocalDateTime.now());
-        noteRepository.save(note);
-
         //노트 내용 반환
         List<NoteResponse.getNoteCardDTO> cardDTO = note.getCards().stream().map(card -> {
             return NoteResponse.getNoteCardDTO.builder()
@@ -438,6 +499,35 @@ public class NoteService {
         return noteConverter.getNoteDTO(note, cardDTO);
     }
 
+    /**
+     * 노트 조회 시간 기록 (NoteViewTracker에서 모아서 저장, editDate는 바뀌지 않으므로 ETag에 영향 없음)
+     * @param note 조회한 노트
+     */
+    public void markViewed(Note note) {
+        noteViewTracker.record(note.getFolder().getUser().getUserId(), note.getNoteId());
+    }
+
+    /**
+     * 노트 조회 응답의 버전 (ETag)
+     * 수정 시간, 내용 hash, 즐겨찾기, 편집 가능, 라이브러리 업로드 여부가 같으면 같은 값
+     * @param note 대상 노트
+     * @return 따옴표로 감싼 ETag
+     */
+    public String getNoteETag(Note note) {
+        String version = note.getNoteId()
+                + "|" + (note.getEditDate() != null ? note.getEditDate().getTime() : 0)
+                + "|" + noteContentsStore.versionOf(note.getContentsNote())
+                + "|" + note.getMarkState()
+                + "|" + note.getIsEdit()
+                + "|" + (libraryRepository.findByNote(note) != null);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
     /**
      * 최근 조회 노트 반환 매서드
      * @param user 대상 유저
@@ -449,9 +539,38 @@ public class NoteService {
         int recentNoteSize = (size != null) ? size : 5;
         Pageable pageable = PageRequest.of(page, recentNoteSize);
 
-        Page<Note> notes = noteRepository.findByUserOrderByViewAtDesc(user, pageable);
+        // 아직 저장되지 않은 조회 시간이 있는 유저의 노트
+        Map<Long, LocalDateTime> pendingViews = noteViewTracker.pendingViews(user.getUserId());
+        List<Note> viewedNotes = pendingViews.isEmpty() ? List.of()
+                : noteRepository.findByUserAndNoteIdIn(user, pendingViews.keySet());
+        if (viewedNotes.isEmpty()) {
+            Page<Note> notes = noteRepository.findByUserOrderByViewAtDesc(user, pageable);
+            return notes.stream().map(noteConverter::recentNoteInfoDTO).collect(Collectors.toList());
+        }
 
-        return notes.stream().map(noteConverter::recentNoteInfoDTO).collect(Collectors.toList());
+        // 저장된 순서 상위 (요청 페이지 끝 + 조회 시간이 바뀐 노트 수) 개와 조회 시간이 바뀐 노트를 합쳐 다시 정렬
+        int end = (page + 1) * recentNoteSize;
+        Map<Long, Note> candidates = new LinkedHashMap<>();
+        noteRepository.findByUserOrderByViewAtDesc(user, PageRequest.of(0, end + viewedNotes.size()))
+                .forEach(note -> candidates.put(note.getNoteId(), note));
+        viewedNotes.forEach(note -> candidates.putIfAbsent(note.getNoteId(), note));
+
+        Map<Long, LocalDateTime> viewAts = new HashMap<>();
+        candidates.values().forEach(note -> {
+            LocalDateTime pendingViewAt = pendingViews.get(note.getNoteId());
+            LocalDateTime viewAt = note.getViewAt();
+            if (pendingViewAt != null && (viewAt == null || pendingViewAt.isAfter(viewAt)))
+                viewAt = pendingViewAt;
+            viewAts.put(note.getNoteId(), viewAt);
+        });
+
+        return candidates.values().stream()
+                .sorted(Comparator.comparing((Note note) -> viewAts.get(note.getNoteId()),
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .skip((long) page * recentNoteSize)
+                .limit(recentNoteSize)
+                .map(note -> noteConverter.recentNoteInfoDTO(note, viewAts.get(note.getNoteId())))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -464,109 +583,38 @@ public class NoteService {
      * @return 조회 결과
      */
     public NoteResponse.NoteListDTO getNotesBySortFilter(Integer page, Integer size, String order, String filter, Folder folder) {
-        try {
-            // 4. 페이징 설정
-            int getNotePage = (page != null) ? page : 0;
-            int getNoteSize = (size != null) ? size : Integer.MAX_VALUE;
-
-            // 5. 모든 노트 조회 (기본 북마크 + 수정일 최신순 정렬)
-            Sort defaultSort = Sort.by(Sort.Order.desc("markState"))
-                    .and(Sort.by(Sort.Order.desc("editDate")));
-            List<Note> allNotes = noteRepository.findByFolder(folder, defaultSort);
-
-            if (allNotes.isEmpty()) {
-                return noteConverter.createEmptyNoteListDTO(getNotePage, getNoteSize);
-            }
-
-            // 6. 카드 개수 정보 조회 (필터링에 필요)
-            Map<Long, Long> cardCountMap = getCardCountMap(folder);
-
-            // 7. 필터 적용
-            List<Note> filteredNotes = filterNotesByCardCount(allNotes, filter, cardCountMap);
-
-            // 8. 정렬 적용
-            List<Note> sortedNotes = sortNotes(filteredNotes, order);
-
-            // 9. 페이징 적용
-            List<Note> pagedNotes = pagingNotes(sortedNotes, getNotePage, getNoteSize);
-
-            // 10. DTO 변환
-            List<NoteResponse.NoteInfoDTO> noteInfos = pagedNotes.stream()
-                    .map(note -> noteConverter.convertToNoteInfoDTO(note, cardCountMap))
-                    .collect(Collectors.toList());
-
-            log.info("DTO 변환 완료: {} 개의 노트", noteInfos.size());
-
-            // 11. 페이징 정보 계산
-            int totalElements = sortedNotes.size();
-            int totalPages = (totalElements + getNoteSize - 1) / getNoteSize;
-
-            return NoteResponse.NoteListDTO.builder()
-                    .noteList(noteInfos)
-                    .listsize(getNoteSize)
-                    .currentPage(getNotePage + 1)
-                    .totalPage(totalPages)
-                    .totalElements((long) totalElements)
-                    .isFirst(getNotePage == 0)
-                    .isLast(getNotePage == totalPages - 1)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("노트 조회 중 오류 발생", e);
-            throw new BadRequestException(ErrorResponseStatus.RESPONSE_ERROR);
-        }
-    }
-
-    private Map<Long, Long> getCardCountMap(Folder folder) {
-        try {
-            List<Object[]> cardCounts = noteRepository.findNoteCardCounts(folder);
-            return cardCounts.stream()
-                    .collect(Collectors.toMap(
-                            arr -> (Long) arr[0],  // noteId
-                            arr -> (Long) arr[1]   // card count
-                    ));
-        } catch (Exception e) {
-            log.warn("카드 개수 조회 실패, 기본값 사용", e);
-            return new HashMap<>();
-        }
-    }
+        int getNotePage = (page != null) ? page : 0;
+        int getNoteSize = (size != null) ? size : Integer.MAX_VALUE;
+
+        // 정렬 기준이 없거나 모르는 값이면 수정일 최신순
+        if (order == null || !NOTE_ORDERS.contains(order))
+            order = "edit-newest";
+        if (filter != null && filter.isEmpty())
+            filter = null;
+        if (filter != null && !filter.equals("card-most") && !filter.equals("card-less"))
+            throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
 
-    // 카드 개수별 필터링
-    private List<Note> filterNotesByCardCount(List<Note> notes, String filter, Map<Long, Long> cardCountMap) {
-        if (filter == null || filter.isEmpty()) {
-            return notes;
-        }
+        // 정렬, 필터, 페이징은 쿼리에서 처리 (size 미입력 시 전체)
+        Pageable pageable = (size != null) ? PageRequest.of(getNotePage, size) : Pageable.unpaged();
+        Page<NoteListRow> notePage = noteRepository.findNoteRowsByFolderAndSortFilter(folder, order, filter, pageable);
 
-        switch (filter) {
-            case "card-most":
-                // 카드가 1개 이상인 노트만 반환
-                return notes.stream()
-                        .filter(note -> cardCountMap.getOrDefault(note.getNoteId(), 0L) >= 1)
-                        .collect(Collectors.toList());
-
-            case "card-less":
-                // 카드가 0개인 노트만 반환
-                return notes.stream()
-                        .filter(note -> cardCountMap.getOrDefault(note.getNoteId(), 0L) == 0)
-                        .collect(Collectors.toList());
-
-            default:
-                throw new BadRequestException(ErrorResponseStatus.REQUEST_ERROR);
+        if (notePage.getTotalElements() == 0) {
+            return noteConverter.createEmptyNoteListDTO(getNotePage, getNoteSize);
         }
-    }
 
-    // 노트 정렬 (북마크 상태 + 조건별 정렬)
-    private List<Note> sortNotes(List<Note> notes, String order) {
-        return notes.stream()
-                .sorted(new NoteComparator(order))
+        List<NoteResponse.NoteInfoDTO> noteInfos = notePage.stream()
+                .map(noteConverter::toNoteInfoDTO)
                 .collect(Collectors.toList());
-    }
 
-    // 페이징 적용
-    private List<Note> pagingNotes(List<Note> notes, int page, int size) {
-        int start = page * size;
-        int end = Math.min((page + 1) * size, notes.size());
-        return notes.subList(start, end);
+        return NoteResponse.NoteListDTO.builder()
+                .noteList(noteInfos)
+                .listsize(getNoteSize)
+                .currentPage(getNotePage + 1)
+                .totalPage(notePage.getTotalPages())
+                .totalElements(notePage.getTotalElements())
+                .isFirst(notePage.isFirst())
+                .isLast(notePage.isLast())
+                .build();
     }
 
     /**
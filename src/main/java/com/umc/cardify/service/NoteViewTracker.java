@@ -0,0 +1,145 @@
+package com.umc.cardify.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.umc.cardify.repository.NoteJdbcRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노트 조회 시간(viewAt) 기록
+ * 조회할 때마다 UPDATE 하지 않고 노트별 마지막 조회 시간만 노트 소유자별로 메모리에 모았다가 주기적으로 한 번에 저장
+ * 저장 전 조회 시간은 pendingViews(userId)로 해당 유저의 최근 조회 노트 목록에 반영한다.
+ * 대기 노트 수가 max-pending을 넘으면 별도 스레드에서 바로 저장하고, drop-threshold를 넘으면 새 노트의 조회는 기록하지 않는다.
+ * 비정상 종료 시 저장되지 않은 조회 시간은 유실될 수 있음 (최근 조회 목록 용도이므로 허용)
+ */
+@Slf4j
+@Component
+public class NoteViewTracker {
+
+	private final NoteJdbcRepository noteJdbcRepository;
+	private final int maxPending;
+	private final int dropThreshold;
+	// userId → (noteId → 마지막 조회 시간), 유저별 맵은 pending.compute 안에서만 변경
+	private final Map<Long, Map<Long, LocalDateTime>> pending = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "note-view-flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Counter recordedCounter;
+	private final Counter flushedCounter;
+	private final Counter droppedCounter;
+
+	public NoteViewTracker(NoteJdbcRepository noteJdbcRepository, MeterRegistry meterRegistry,
+		@Value("${note.view.max-pending:10000}") int maxPending,
+		@Value("${note.view.drop-threshold:50000}") int dropThreshold) {
+		this.noteJdbcRepository = noteJdbcRepository;
+		this.maxPending = maxPending;
+		this.dropThreshold = Math.max(dropThreshold, maxPending);
+		this.recordedCounter = meterRegistry.counter("cardify.note.view", "result", "recorded");
+		this.flushedCounter = meterRegistry.counter("cardify.note.view", "result", "flushed");
+		this.droppedCounter = meterRegistry.counter("cardify.note.view", "result", "dropped");
+		meterRegistry.gauge("cardify.note.view.pending", pendingCount);
+	}
+
+	/**
+	 * @param userId 노트 소유자
+	 */
+	public void record(Long userId, Long noteId) {
+		LocalDateTime now = LocalDateTime.now();
+		pending.compute(userId, (id, views) -> {
+			if (views == null) {
+				views = new ConcurrentHashMap<>();
+			}
+			if (views.containsKey(noteId)) {
+				views.merge(noteId, now, (saved, viewed) -> viewed.isAfter(saved) ? viewed : saved);
+				recordedCounter.increment();
+			} else if (pendingCount.get() < dropThreshold) {
+				views.put(noteId, now);
+				pendingCount.incrementAndGet();
+				recordedCounter.increment();
+			} else {
+				droppedCounter.increment();
+			}
+			return views.isEmpty() ? null : views;
+		});
+		if (pendingCount.get() > maxPending) {
+			requestFlush();
+		}
+	}
+
+	/**
+	 * 해당 유저 노트의 아직 저장되지 않은 조회 시간 (noteId → 마지막 조회 시간)
+	 */
+	public Map<Long, LocalDateTime> pendingViews(Long userId) {
+		Map<Long, LocalDateTime> views = pending.get(userId);
+		return views == null ? Map.of() : Map.copyOf(views);
+	}
+
+	@Scheduled(fixedDelayString = "${note.view.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		Map<Long, LocalDateTime> batch = new HashMap<>();
+		pending.values().forEach(batch::putAll);
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			noteJdbcRepository.updateViewAts(batch);
+		} catch (RuntimeException e) {
+			// 다음 주기에 다시 저장
+			log.warn("Failed to flush {} note views", batch.size(), e);
+			return;
+		}
+		// 저장하는 동안 다시 조회된 노트는 남겨둠
+		for (Long userId : pending.keySet()) {
+			pending.computeIfPresent(userId, (id, views) -> {
+				views.entrySet().removeIf(entry -> {
+					boolean flushed = entry.getValue().equals(batch.get(entry.getKey()));
+					if (flushed) {
+						pendingCount.decrementAndGet();
+					}
+					return flushed;
+				});
+				return views.isEmpty() ? null : views;
+			});
+		}
+		flushedCounter.increment(batch.size());
+	}
+
+	// 요청 스레드에서 저장하지 않도록 별도 스레드에서 한 번만 실행
+	private void requestFlush() {
+		if (!flushRequested.compareAndSet(false, true)) {
+			return;
+		}
+		flushExecutor.execute(() -> {
+			try {
+				flush();
+			} finally {
+				flushRequested.set(false);
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flushExecutor.shutdown();
+		flush();
+	}
+}
@@ -2,14 +2,23 @@ package com.umc.cardify.service;
 
 import static com.umc.cardify.config.exception.ErrorResponseStatus.*;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -20,8 +29,11 @@ import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.umc.cardify.config.exception.AwsS3Exception;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,9 +45,51 @@ public class S3Service {
 	private final AmazonS3 amazonS3Client;
 
 	private final AmazonS3 s3Client;
+	private final TransferManager transferManager;
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
 
+	@Value("${cloud.aws.s3.multipart-threshold:8388608}")
+	private long multipartThreshold;
+
+	@Value("${cloud.aws.s3.upload.threads:16}")
+	private int uploadThreads;
+
+	@Value("${cloud.aws.s3.upload.queue-capacity:256}")
+	private int uploadQueueCapacity;
+
+	@Value("${cloud.aws.s3.upload.concurrency-per-request:4}")
+	private int uploadConcurrencyPerRequest;
+
+	@Value("${cloud.aws.s3.upload.timeout-seconds:30}")
+	private long uploadTimeoutSeconds;
+
+	private ThreadPoolExecutor uploadExecutor;
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		// 큐가 가득 차면 요청 스레드에서 직접 업로드 (backpressure)
+		uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(uploadQueueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		uploadExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * MultipartFile을 임시 파일 없이 InputStream 그대로 S3에 업로드
+	 * 키는 내용의 SHA-256 (dirName/{sha256}.{확장자}) 이므로 같은 이미지는 한 번만 업로드된다.
+	 * multipartThreshold 이상인 파일은 TransferManager의 멀티파트 업로드 사용
+	 *
+	 * @param multipartFile 업로드할 파일
+	 * @param dirName 디렉터리
+	 * @return 업로드된 파일 URL (빈 파일이면 null)
+	 */
 	public String upload(MultipartFile multipartFile, String dirName) {
 		if (multipartFile.getSize() <= 0) {
 			log.debug("Empty file received, upload skipped");
@@ -44,51 +98,155 @@ public class S3Service {
 
 		log.debug("Attempting to upload file [{}] to directory [{}]", multipartFile.getOriginalFilename(), dirName);
 
-		File uploadFile = null;
 		try {
-			uploadFile = convert(multipartFile)
-				.orElseThrow(() -> new IllegalArgumentException("Failed to convert MultipartFile to File"));
-
-			return uploadToS3(uploadFile, dirName);
+			String fileName = keyOf(multipartFile, dirName);
+			if (amazonS3Client.doesObjectExist(bucket, fileName)) {
+				log.debug("File [{}] already exists in S3 bucket [{}], upload skipped", fileName, bucket);
+			} else {
+				uploadToS3(multipartFile, fileName);
+			}
+			return amazonS3Client.getUrl(bucket, fileName).toString();
 		} catch (IOException e) {
 			log.error("Error uploading file to S3", e);
 			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
-		} finally {
-			if (uploadFile != null && !uploadFile.delete()) {
-				log.error("Failed to delete temporary file [{}]", uploadFile.getPath());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Interrupted while uploading file to S3", e);
+			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
+		}
+	}
+
+	/**
+	 * 업로드 없이 파일이 업로드될 URL 계산 (키가 내용의 SHA-256이므로 이미 올라간 이미지와 비교 가능)
+	 *
+	 * @return 파일 URL (빈 파일이면 null)
+	 */
+	public String urlOf(MultipartFile multipartFile, String dirName) {
+		if (multipartFile.getSize() <= 0) {
+			return null;
+		}
+		try {
+			return amazonS3Client.getUrl(bucket, keyOf(multipartFile, dirName)).toString();
+		} catch (IOException e) {
+			log.error("Error reading file for S3 key", e);
+			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
+		}
+	}
+
+	private String keyOf(MultipartFile multipartFile, String dirName) throws IOException {
+		return dirName + "/" + sha256(multipartFile) + extensionOf(multipartFile.getOriginalFilename());
+	}
+
+	/**
+	 * 여러 파일을 업로드 풀에서 동시에 업로드 (요청당 동시 업로드 수 제한, 전체 제한 시간 적용)
+	 * 전체 소요 시간은 파일 수의 합이 아닌 가장 느린 업로드 수준
+	 *
+	 * @param multipartFiles 업로드할 파일 목록
+	 * @param dirName 디렉터리
+	 * @return 업로드된 파일 URL 목록 (multipartFiles와 같은 순서)
+	 */
+	public List<String> uploadAll(List<MultipartFile> multipartFiles, String dirName) {
+		if (multipartFiles.isEmpty()) {
+			return List.of();
+		}
+		if (multipartFiles.size() == 1) {
+			return Collections.singletonList(upload(multipartFiles.get(0), dirName));
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(uploadTimeoutSeconds);
+		Semaphore permits = new Semaphore(uploadConcurrencyPerRequest);
+		List<Future<String>> futures = new ArrayList<>(multipartFiles.size());
+		try {
+			for (MultipartFile multipartFile : multipartFiles) {
+				if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+					throw new TimeoutException();
+				}
+				futures.add(uploadExecutor.submit(() -> {
+					try {
+						return upload(multipartFile, dirName);
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+
+			List<String> urls = new ArrayList<>(futures.size());
+			for (Future<String> future : futures) {
+				urls.add(future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS));
 			}
+			return urls;
+		} catch (TimeoutException e) {
+			futures.forEach(future -> future.cancel(true));
+			log.error("Timed out uploading {} files to S3 after {}s", multipartFiles.size(), uploadTimeoutSeconds);
+			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			if (e.getCause() instanceof AwsS3Exception awsS3Exception) {
+				throw awsS3Exception;
+			}
+			log.error("Error uploading files to S3", e.getCause());
+			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new AwsS3Exception(IMAGE_UPLOAD_ERROR);
 		}
 	}
 
-	private String uploadToS3(File uploadFile, String dirName) {
-		String fileName = dirName + "/" + uploadFile.getName();
-		log.debug("Uploading file [{}] to S3 bucket [{}]", fileName, bucket);
-		amazonS3Client.putObject(
-			new PutObjectRequest(bucket, fileName, uploadFile)
-				.withCannedAcl(CannedAccessControlList.PublicRead)
-		);
-		String fileUrl = amazonS3Client.getUrl(bucket, fileName).toString();
-		log.info("File [{}] uploaded successfully to URL [{}]", fileName, fileUrl);
-		return fileUrl;
+	private long remainingNanos(long deadline) {
+		return Math.max(0L, deadline - System.nanoTime());
 	}
 
-	private Optional<File> convert(MultipartFile file) throws IOException {
-		File convertFile = new File(System.getProperty("java.io.tmpdir") + "/" + file.getOriginalFilename());
-		log.debug("Creating temporary file [{}] for conversion", convertFile.getPath());
+	private void uploadToS3(MultipartFile multipartFile, String fileName) throws IOException, InterruptedException {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(multipartFile.getSize());
+		objectMetadata.setContentType(multipartFile.getContentType());
 
-		if (convertFile.createNewFile()) {
-			try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-				fos.write(file.getBytes());
-				log.info("Temporary file [{}] created successfully", convertFile.getPath());
-				return Optional.of(convertFile);
-			} catch (IOException e) {
-				log.error("Failed to write to temporary file [{}]", convertFile.getPath(), e);
-				throw e;
+		log.debug("Uploading file [{}] to S3 bucket [{}]", fileName, bucket);
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			PutObjectRequest request = new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+				.withCannedAcl(CannedAccessControlList.PublicRead);
+			if (multipartFile.getSize() >= multipartThreshold) {
+				transferManager.upload(request).waitForCompletion();
+			} else {
+				amazonS3Client.putObject(request);
+			}
+		}
+		log.info("File [{}] uploaded successfully", fileName);
+	}
+
+	// 파일 내용의 SHA-256 (스트림으로 읽어 힙에 전체를 복사하지 않음)
+	private String sha256(MultipartFile file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm not available", e);
+		}
+		try (InputStream inputStream = file.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
 			}
-		} else {
-			log.error("Failed to create new file [{}]", convertFile.getPath());
-			return Optional.empty();
 		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	// 원본 파일명의 확장자 (영문, 숫자만 허용, 없으면 빈 문자열)
+	private String extensionOf(String originalFilename) {
+		if (originalFilename == null || originalFilename.lastIndexOf('.') < 0) {
+			return "";
+		}
+		String extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1);
+		return extension.matches("[A-Za-z0-9]{1,10}") ? "." + extension.toLowerCase() : "";
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// S3 클라이언트는 다른 곳에서도 사용하므로 함께 종료하지 않음
+		uploadExecutor.shutdownNow();
+		transferManager.shutdownNow(false);
 	}
 
 	// 여러개의 파일 업로드
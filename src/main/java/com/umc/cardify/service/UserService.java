@@ -8,6 +8,7 @@ import com.umc.cardify.domain.enums.AuthProvider;
 import com.umc.cardify.dto.user.UserRequest;
 import com.umc.cardify.dto.user.UserResponse;
 import com.umc.cardify.repository.UserRepository;
+import com.umc.cardify.service.user.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,35 +21,35 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;  // JwtUtil 대신 JwtTokenProvider 사용
+    private final UserIdentityCache userIdentityCache;
 
     public User getUser(String email, AuthProvider provider){
         return userRepository.findByEmailAndProvider(email, provider)
                 .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
     }
+
+    // 인증 필터에서 확인한 userId로 조회
+    public User getUser(Long userId){
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    }
     // 로그아웃
     @Transactional
-    public void logout(String token) {
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", ""));
-
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public void logout(Long userId) {
+        User user = getUser(userId);
 
         if (user.getRefreshToken() == null) {
             throw new BadRequestException(ErrorResponseStatus.TOKEN_NOT_FOUND);
         }
         user.setRefreshToken(null);
         userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
     }
 
     // 마이페이지 조회
     @Transactional(readOnly = true)
-    public UserResponse.MyPageInfo getMyPageInfo(String token) {
-
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public UserResponse.MyPageInfo getMyPageInfo(Long userId) {
+        User user = getUser(userId);
 
         return UserResponse.MyPageInfo.builder()
                 .userId(user.getUserId())
@@ -64,15 +65,12 @@ public class UserService {
 
     // 프로필 이미지 수정
     @Transactional
-    public UserResponse.UpdatedProfileImage updateProfileImage(String token, UserRequest.UpdateProfileImage request) {
-
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public UserResponse.UpdatedProfileImage updateProfileImage(Long userId, UserRequest.UpdateProfileImage request) {
+        User user = getUser(userId);
 
         user.setProfileImage(request.getProfileImage());
         User updatedUser = userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
 
         return UserResponse.UpdatedProfileImage.builder()
                 .profileImage(updatedUser.getProfileImage())
@@ -81,15 +79,12 @@ public class UserService {
 
     // 이름 수정
     @Transactional
-    public UserResponse.UpdatedName updateName(String token, UserRequest.UpdateName request) {
-
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public UserResponse.UpdatedName updateName(Long userId, UserRequest.UpdateName request) {
+        User user = getUser(userId);
 
         user.setName(request.getName());
         User updatedUser = userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
 
         return UserResponse.UpdatedName.builder()
                 .name(updatedUser.getName())
@@ -98,15 +93,12 @@ public class UserService {
 
     // 알림 설정 변경
     @Transactional
-    public UserResponse.UpdatedNotification updateNotification(String token, UserRequest.UpdateNotification request) {
-
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public UserResponse.UpdatedNotification updateNotification(Long userId, UserRequest.UpdateNotification request) {
+        User user = getUser(userId);
 
         user.setNotificationEnabled(request.getNotificationEnabled());
         User updatedUser = userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
 
         return UserResponse.UpdatedNotification.builder()
                 .notificationEnabled(updatedUser.isNotificationEnabled())
@@ -114,16 +106,13 @@ public class UserService {
     }
 
     @Transactional
-    public void attendanceCheck(String token) {
-
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-        User user = userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID));
+    public void attendanceCheck(Long userId) {
+        User user = getUser(userId);
 
         user.setPoint(user.getPoint() + 100);
         user.setTodayCheck(1);
         userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
@@ -150,6 +139,7 @@ public class UserService {
         // 리프레시 토큰 업데이트
         user.setRefreshToken(newRefreshToken);
         userRepository.save(user);
+        userIdentityCache.evict(user.getUserId());
 
         return UserResponse.TokenInfo.builder()
             .accessToken(newAccessToken)
@@ -165,6 +155,7 @@ public class UserService {
                     // 기존 사용자 정보 업데이트
                     existingUser.setName(name);
                     existingUser.setProfileImage(profileImage);
+                    userIdentityCache.evict(existingUser.getUserId());
                     return userRepository.save(existingUser);
                 })
                 .orElseGet(() -> {
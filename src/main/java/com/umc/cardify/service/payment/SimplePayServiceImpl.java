@@ -19,6 +19,7 @@ import com.umc.cardify.dto.payment.webhook.WebhookRequest;
 import com.umc.cardify.repository.*;
 import com.umc.cardify.service.alert.NotificationService;
 import com.umc.cardify.service.subscription.SubscriptionServiceImpl;
+import com.umc.cardify.service.user.UserIdentityCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +49,7 @@ public class SimplePayServiceImpl implements SimplePayService {
   private final SubscriptionServiceImpl subscriptionServiceImpl;
   private final BillingKeyRequestRepository billingKeyRequestRepository;
   private final NotificationService notificationService;
+  private final UserIdentityCache userIdentityCache;
 
   @Value("${portone.kakaopay_pg_code}")
   private String KAKAOPAY_PG_CODE;
@@ -345,6 +347,7 @@ public class SimplePayServiceImpl implements SimplePayService {
     subscription.setEndDate(LocalDateTime.now());
     subscription.setAutoRenew(false);
     subscriptionRepository.save(subscription);
+    userIdentityCache.evict(subscription.getUser().getUserId());
 
     log.info("결제 취소 완료: subscriptionId={}, paymentId={}", subscription.getId(), subscriptionPayment.getId());
     return true;
@@ -654,6 +657,7 @@ public class SimplePayServiceImpl implements SimplePayService {
       subscription.setAutoRenew(false);
       subscription.setEndDate(LocalDateTime.now());
       subscriptionRepository.save(subscription);
+      userIdentityCache.evict(subscription.getUser().getUserId());
     }
 
     // 결제 정보 업데이트
@@ -7,9 +7,9 @@ import java.util.List;
 
 public interface PaymentMethodService {
 
-  PaymentMethodResponse.PaymentMethodInfoRes createPaymentMethod(PaymentMethodRequest.RegisterPaymentReq request, String token);
-  List<PaymentMethodResponse.PaymentMethodInfoRes> getPaymentMethods(String token);
-  void deletePaymentMethod(Long id, String token);
-  PaymentMethodResponse.PaymentMethodInfoRes setDefaultPaymentMethod(Long id, String token);
+  PaymentMethodResponse.PaymentMethodInfoRes createPaymentMethod(PaymentMethodRequest.RegisterPaymentReq request, Long userId);
+  List<PaymentMethodResponse.PaymentMethodInfoRes> getPaymentMethods(Long userId);
+  void deletePaymentMethod(Long id, Long userId);
+  PaymentMethodResponse.PaymentMethodInfoRes setDefaultPaymentMethod(Long id, Long userId);
   void clearDefaultPaymentMethod(Long userId);
 }
@@ -1,11 +1,9 @@
 package com.umc.cardify.service.paymentMethod;
 
-import com.umc.cardify.auth.jwt.JwtTokenProvider;
 import com.umc.cardify.config.exception.BadRequestException;
 import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.config.exception.ResourceNotFoundException;
 import com.umc.cardify.domain.PaymentMethod;
-import com.umc.cardify.domain.enums.AuthProvider;
 import com.umc.cardify.domain.enums.PaymentType;
 import com.umc.cardify.dto.payment.method.PaymentMethodRequest;
 import com.umc.cardify.dto.payment.method.PaymentMethodResponse;
@@ -30,23 +28,11 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     private final PaymentMethodRepository paymentMethodRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private Long findUserId(String token) {
-        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-
-        return userRepository.findByEmailAndProvider(email, provider)
-            .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
-    }
 
     // 1. 결제 수단 등록
     @Override
     @Transactional
-    public PaymentMethodResponse.PaymentMethodInfoRes createPaymentMethod(PaymentMethodRequest.RegisterPaymentReq request, String token) {
-
-        Long userId = findUserId(token);
-
+    public PaymentMethodResponse.PaymentMethodInfoRes createPaymentMethod(PaymentMethodRequest.RegisterPaymentReq request, Long userId) {
         // 카드 번호는 마지막 4자리만 저장
         String maskedCardNumber = maskCardNumber(request.cardNumber());
 
@@ -87,9 +73,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     // TODO : 이후 디자인 보고 수정
     // 2. 결제 수단 목록 조회
     @Override
-    public List<PaymentMethodResponse.PaymentMethodInfoRes> getPaymentMethods(String token) {
-        Long userId = findUserId(token);
-
+    public List<PaymentMethodResponse.PaymentMethodInfoRes> getPaymentMethods(Long userId) {
         List<PaymentMethod> paymentMethods = paymentMethodRepository.findByUser_UserId(userId);
         List<PaymentMethodResponse.PaymentMethodInfoRes> responses = paymentMethods.stream()
                 .map(PaymentMethodResponse.PaymentMethodInfoRes::new)
@@ -102,9 +86,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     // 3. 결제 수단 삭제
     @Override
     @Transactional
-    public void deletePaymentMethod(Long id, String token) {
-        Long userId = findUserId(token);
-
+    public void deletePaymentMethod(Long id, Long userId) {
         PaymentMethod paymentMethod = paymentMethodRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("결제 수단을 찾을 수 없습니다: " + id));
 
@@ -137,8 +119,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     // 4. 기본 결제 수단 변경
     @Override
     @Transactional
-    public PaymentMethodResponse.PaymentMethodInfoRes setDefaultPaymentMethod(Long id, String token) {
-        Long userId = findUserId(token);
+    public PaymentMethodResponse.PaymentMethodInfoRes setDefaultPaymentMethod(Long id, Long userId) {
         // 현재 기본 결제 수단 해제
         clearDefaultPaymentMethod(userId);
         // 새 기본 결제 수단 설정
@@ -0,0 +1,59 @@
+package com.umc.cardify.service.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 학습 간격 정책 (기본값)
+ * 첫 학습은 기준 간격, 이후에는 직전 간격 * 증가 비율
+ * EXPERT 0분 / HARD 10분 x1.0 / NORMAL 30분 x1.5 / EASY 1일 x2.0
+ */
+@Component
+@ConditionalOnProperty(name = "study.scheduler.policy", havingValue = "fixed", matchIfMissing = true)
+public class FixedFactorSchedulingPolicy implements SchedulingPolicy {
+
+	@Override
+	public long baseIntervalMinutes(int difficulty) {
+		return switch (difficulty) {
+			case 2 -> 10; // HARD : 10분
+			case 3 -> 30; // NORMAL : 30분
+			case 4 -> 24 * 60; // EASY : 24시간 (1일)
+			default -> 0; // EXPERT, 재학습 or 새로 만든 카드 : 즉시 학습
+		};
+	}
+
+	@Override
+	public long nextIntervalMinutes(int difficulty, long countLearn, long prevIntervalMinutes) {
+		if (isImmediate(difficulty)) {
+			return 0;
+		}
+		if (countLearn == 0) {
+			return baseIntervalMinutes(difficulty);
+		}
+		return Math.round(prevIntervalMinutes * increaseFactor(difficulty));
+	}
+
+	@Override
+	public long expectedIntervalMinutes(int difficulty, long countLearn) {
+		if (isImmediate(difficulty)) {
+			return 0;
+		}
+		// countLearn = 0 → baseInterval * increaseFactor
+		// countLearn ≥ 1 → baseInterval * (increaseFactor ^ countLearn)
+		return (long)(baseIntervalMinutes(difficulty) * Math.pow(increaseFactor(difficulty), Math.max(countLearn, 1)));
+	}
+
+	// EXPERT : 즉시 학습
+	private boolean isImmediate(int difficulty) {
+		return difficulty == 1;
+	}
+
+	private double increaseFactor(int difficulty) {
+		return switch (difficulty) {
+			case 2 -> 1.0; // HARD
+			case 3 -> 1.5; // NORMAL
+			case 4 -> 2.0; // EASY
+			default -> 0.0; // EXPERT, NONE
+		};
+	}
+}
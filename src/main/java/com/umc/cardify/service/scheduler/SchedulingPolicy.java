@@ -0,0 +1,28 @@
+package com.umc.cardify.service.scheduler;
+
+/**
+ * 난이도별 학습 간격 계산 정책
+ * 엔티티, 현재 시각에 의존하지 않는 순수 함수로 구현해야 한다. (분 단위 원시값만 사용)
+ * difficulty : NONE = 0, EXPERT = 1, HARD = 2, NORMAL = 3, EASY = 4 (Difficulty.getValue())
+ * EXPERT(즉시 학습)를 포함한 모든 난이도의 간격을 정책이 결정한다.
+ */
+public interface SchedulingPolicy {
+
+	/**
+	 * 첫 학습 간격, 이전 간격을 알 수 없을 때의 기준 간격 (분)
+	 */
+	long baseIntervalMinutes(int difficulty);
+
+	/**
+	 * 다음 학습 간격 (분)
+	 * @param countLearn 지금까지의 학습 횟수 (0이면 첫 학습)
+	 * @param prevIntervalMinutes 직전 학습 간격 (분, 항상 0보다 큼)
+	 */
+	long nextIntervalMinutes(int difficulty, long countLearn, long prevIntervalMinutes);
+
+	/**
+	 * 난이도 선택 화면에 보여줄 예상 학습 간격 (분)
+	 * @param countLearn 지금까지의 학습 횟수
+	 */
+	long expectedIntervalMinutes(int difficulty, long countLearn);
+}
@@ -0,0 +1,61 @@
+package com.umc.cardify.service.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * SM-2 방식 학습 간격 정책 (study.scheduler.policy: sm2)
+ * 1회차 1일, 2회차 6일, 이후 직전 간격 * EF
+ * 카드별 EF를 저장하지 않으므로 EF는 기본값 2.5에 이번 난이도의 SM-2 보정값만 반영한다.
+ * 난이도 → SM-2 quality : EXPERT = 실패(즉시 학습), HARD = 3, NORMAL = 4, EASY = 5
+ */
+@Component
+@ConditionalOnProperty(name = "study.scheduler.policy", havingValue = "sm2")
+public class Sm2SchedulingPolicy implements SchedulingPolicy {
+
+	private static final long DAY_MINUTES = 24 * 60;
+	private static final double DEFAULT_EASE_FACTOR = 2.5;
+	private static final double MIN_EASE_FACTOR = 1.3;
+
+	@Override
+	public long baseIntervalMinutes(int difficulty) {
+		return isFailed(difficulty) ? 0 : DAY_MINUTES;
+	}
+
+	@Override
+	public long nextIntervalMinutes(int difficulty, long countLearn, long prevIntervalMinutes) {
+		if (isFailed(difficulty)) {
+			return 0;
+		}
+		if (countLearn == 0) {
+			return DAY_MINUTES;
+		}
+		if (countLearn == 1) {
+			return 6 * DAY_MINUTES;
+		}
+		return Math.round(prevIntervalMinutes * easeFactor(difficulty));
+	}
+
+	@Override
+	public long expectedIntervalMinutes(int difficulty, long countLearn) {
+		if (isFailed(difficulty)) {
+			return 0;
+		}
+		if (countLearn == 0) {
+			return DAY_MINUTES;
+		}
+		// I(2) = 6일, I(n) = I(n-1) * EF
+		return Math.round(6 * DAY_MINUTES * Math.pow(easeFactor(difficulty), countLearn - 1));
+	}
+
+	private boolean isFailed(int difficulty) {
+		return difficulty < 2;
+	}
+
+	// EF' = EF + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02))
+	private double easeFactor(int difficulty) {
+		int q = difficulty + 1;
+		double ef = DEFAULT_EASE_FACTOR + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02));
+		return Math.max(ef, MIN_EASE_FACTOR);
+	}
+}
@@ -0,0 +1,59 @@
+package com.umc.cardify.service.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다음 학습 시간 계산기
+ * 모든 시각은 epoch minute(long) 으로 받고, 시각이 없으면 NO_TIME 을 사용한다.
+ * 현재 시각 조회, 엔티티 수정을 하지 않으므로 미리보기, 백필, 시뮬레이션 반복 계산에 그대로 사용할 수 있다.
+ * 난이도별 간격(EXPERT 즉시 학습 포함)은 모두 SchedulingPolicy가 결정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyScheduler {
+
+	public static final long NO_TIME = Long.MIN_VALUE;
+
+	private final SchedulingPolicy schedulingPolicy;
+
+	/**
+	 * 다음 학습 간격 (분)
+	 * @param difficulty 이번 학습 난이도 (Difficulty.getValue())
+	 * @param countLearn 지금까지의 학습 횟수
+	 * @param lastStudyMinute 직전 학습 시각 (없으면 NO_TIME)
+	 * @param nextStudyMinute 직전에 예정됐던 다음 학습 시각 (없으면 NO_TIME)
+	 */
+	public long nextIntervalMinutes(int difficulty, long countLearn, long lastStudyMinute, long nextStudyMinute) {
+		if (countLearn == 0) {
+			return schedulingPolicy.baseIntervalMinutes(difficulty);
+		}
+
+		long baseInterval = schedulingPolicy.baseIntervalMinutes(difficulty);
+		long prevInterval = baseInterval;
+		if (lastStudyMinute != NO_TIME && nextStudyMinute != NO_TIME) {
+			prevInterval = nextStudyMinute - lastStudyMinute;
+		}
+		if (prevInterval <= 0) {
+			// 만약 prevInterval이 0 이하라면 baseInterval로 보정
+			prevInterval = baseInterval > 0 ? baseInterval : 1;
+		}
+		return schedulingPolicy.nextIntervalMinutes(difficulty, countLearn, prevInterval);
+	}
+
+	/**
+	 * 다음 학습 시각 (epoch minute)
+	 */
+	public long nextStudyMinute(int difficulty, long countLearn, long lastStudyMinute, long nextStudyMinute,
+		long nowMinute) {
+		return nowMinute + nextIntervalMinutes(difficulty, countLearn, lastStudyMinute, nextStudyMinute);
+	}
+
+	/**
+	 * 난이도 선택 화면에 보여줄 예상 학습 간격 (분)
+	 */
+	public long expectedIntervalMinutes(int difficulty, long countLearn) {
+		return schedulingPolicy.expectedIntervalMinutes(difficulty, countLearn);
+	}
+}
@@ -0,0 +1,150 @@
+package com.umc.cardify.service.study;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.umc.cardify.config.cache.LruCache;
+import com.umc.cardify.dto.card.AnnualHeatmap;
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 유저, 연도별 학습 기여도 캐시 (LRU, TTL)
+ * 학습 이벤트가 저장되면 캐시된 연도의 해당 일자만 갱신한다.
+ * 다른 서버 인스턴스에서 저장된 학습 이벤트는 반영되지 않으므로 ttl이 지나면 다시 집계한다.
+ * DB에서 집계하는 동안 학습 이벤트가 반영되면 집계 결과에 포함됐는지 알 수 없으므로 그 결과는 캐시하지 않는다.
+ */
+@Component
+public class ContributionHeatmapCache {
+
+	private final StudyDailyRollupRepository studyDailyRollupRepository;
+	// 캐시와 집계 중 목록은 모두 cache 잠금 안에서 변경
+	private final long ttlMillis;
+	private final LruCache<Long, Map<Integer, Entry>> cache;
+	private final Map<HeatmapKey, Load> loads = new HashMap<>();
+
+	private final Timer queryTimer;
+	private final Timer assemblyTimer;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	private record HeatmapKey(Long userId, int year) {
+	}
+
+	private record Entry(AnnualHeatmap heatmap, long expiresAt) {
+	}
+
+	// 같은 (유저, 연도)를 집계 중인 요청 수와, 그동안 학습 이벤트가 반영되었는지 여부
+	private static class Load {
+		private int loaders;
+		private boolean stale;
+	}
+
+	public ContributionHeatmapCache(StudyDailyRollupRepository studyDailyRollupRepository,
+		MeterRegistry meterRegistry, @Value("${study.heatmap.ttl-seconds:300}") long ttlSeconds,
+		@Value("${study.heatmap.cache-size:10000}") int maxUsers) {
+		this.studyDailyRollupRepository = studyDailyRollupRepository;
+		this.ttlMillis = ttlSeconds * 1000;
+		this.cache = new LruCache<>(maxUsers);
+
+		this.queryTimer = Timer.builder("cardify.heatmap.load")
+			.description("연간 학습 기여도 집계 조회 시간")
+			.tag("phase", "query")
+			.register(meterRegistry);
+		this.assemblyTimer = Timer.builder("cardify.heatmap.load")
+			.description("연간 학습 기여도 배열 구성 시간")
+			.tag("phase", "assembly")
+			.register(meterRegistry);
+		this.hitCounter = Counter.builder("cardify.heatmap.cache").tag("result", "hit").register(meterRegistry);
+		this.missCounter = Counter.builder("cardify.heatmap.cache").tag("result", "miss").register(meterRegistry);
+		meterRegistry.gauge("cardify.heatmap.cache.users", cache, LruCache::size);
+	}
+
+	public AnnualHeatmap get(Long userId, int year) {
+		HeatmapKey key = new HeatmapKey(userId, year);
+		Load load;
+		synchronized (cache) {
+			Map<Integer, Entry> years = cache.get(userId);
+			Entry entry = years == null ? null : years.get(year);
+			if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+				hitCounter.increment();
+				return entry.heatmap();
+			}
+			load = loads.computeIfAbsent(key, k -> new Load());
+			load.loaders++;
+		}
+		missCounter.increment();
+
+		AnnualHeatmap loaded;
+		try {
+			loaded = load(userId, year);
+		} catch (RuntimeException e) {
+			synchronized (cache) {
+				release(key, load);
+			}
+			throw e;
+		}
+
+		synchronized (cache) {
+			release(key, load);
+			if (load.stale) {
+				// 집계 중 반영된 학습 이벤트가 빠졌을 수 있으므로 이번 응답에만 사용 (다음 조회 시 다시 집계)
+				return loaded;
+			}
+			// 조회하는 동안 다른 요청이 먼저 채웠으면 그 값을 사용
+			long now = System.currentTimeMillis();
+			return cache.computeIfAbsent(userId, k -> new HashMap<>())
+				.merge(year, new Entry(loaded, now + ttlMillis),
+					(cached, fresh) -> cached.expiresAt() > now ? cached : fresh)
+				.heatmap();
+		}
+	}
+
+	/**
+	 * 캐시된 연간 기여도의 해당 일자 학습 횟수 증가 (캐시에 없으면 다음 조회 시 새로 집계)
+	 * 같은 연도를 집계 중이면 그 결과는 캐시하지 않도록 표시
+	 */
+	public void increase(Long userId, LocalDate day, long learnCount) {
+		synchronized (cache) {
+			Load load = loads.get(new HeatmapKey(userId, day.getYear()));
+			if (load != null) {
+				load.stale = true;
+			}
+			Map<Integer, Entry> years = cache.get(userId);
+			Entry entry = years == null ? null : years.get(day.getYear());
+			if (entry != null) {
+				entry.heatmap().increase(day, learnCount);
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+			loads.values().forEach(load -> load.stale = true);
+		}
+	}
+
+	private AnnualHeatmap load(Long userId, int year) {
+		LocalDate startOfYear = LocalDate.of(year, 1, 1);
+		LocalDate endOfYear = LocalDate.of(year, 12, 31);
+		List<Object[]> rows = queryTimer.record(
+			() -> studyDailyRollupRepository.findDailyLearnCounts(userId, startOfYear, endOfYear));
+		return assemblyTimer.record(() -> AnnualHeatmap.of(year, rows));
+	}
+
+	// cache 잠금 안에서 호출
+	private void release(HeatmapKey key, Load load) {
+		if (--load.loaders == 0) {
+			loads.remove(key);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.umc.cardify.service.study;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.umc.cardify.config.cache.LruCache;
+import com.umc.cardify.dto.card.CardResponse;
+import com.umc.cardify.repository.CardRepository;
+
+/**
+ * 유저, 월별 학습 예정 달력(일자별 카드 수) 캐시 (LRU + TTL)
+ * 카드의 다음 학습 시간이 바뀌면 해당 유저의 캐시를 비운다.
+ */
+@Component
+public class DueCalendarCache {
+
+	private final CardRepository cardRepository;
+	private final long ttlMillis;
+	private final LruCache<Long, Map<YearMonth, Entry>> cache;
+
+	private record Entry(List<CardResponse.expectedDateCountDTO> counts, long expiresAt) {
+	}
+
+	public DueCalendarCache(CardRepository cardRepository,
+		@Value("${study.calendar.ttl-seconds:60}") long ttlSeconds,
+		@Value("${study.calendar.cache-size:10000}") int maxUsers) {
+		this.cardRepository = cardRepository;
+		this.ttlMillis = ttlSeconds * 1000;
+		this.cache = new LruCache<>(maxUsers);
+	}
+
+	public List<CardResponse.expectedDateCountDTO> get(Long userId, YearMonth yearMonth) {
+		long now = System.currentTimeMillis();
+		synchronized (cache) {
+			Map<YearMonth, Entry> months = cache.get(userId);
+			Entry entry = months == null ? null : months.get(yearMonth);
+			if (entry != null && entry.expiresAt() > now) {
+				return entry.counts();
+			}
+		}
+
+		LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+		LocalDateTime end = yearMonth.atEndOfMonth().atTime(23, 59, 59);
+		List<CardResponse.expectedDateCountDTO> counts = cardRepository.countDueCardsByDay(userId, start, end)
+			.stream()
+			.map(row -> CardResponse.expectedDateCountDTO.builder()
+				.day(((Number)row[0]).intValue())
+				.cardCount(((Number)row[1]).longValue())
+				.build())
+			.toList();
+
+		synchronized (cache) {
+			cache.computeIfAbsent(userId, key -> new HashMap<>()).put(yearMonth, new Entry(counts, now + ttlMillis));
+		}
+		return counts;
+	}
+
+	/**
+	 * 해당 유저의 캐시 삭제
+	 * 트랜잭션 중이면 커밋 전에 다시 채워진 값도 지우도록 커밋 후 한 번 더 삭제
+	 */
+	public void evict(Long userId) {
+		if (userId == null) {
+			return;
+		}
+		remove(userId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					remove(userId);
+				}
+			});
+		}
+	}
+
+	private void remove(Long userId) {
+		cache.remove(userId);
+	}
+}
@@ -0,0 +1,339 @@
+package com.umc.cardify.service.study;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.umc.cardify.dto.card.StudyEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학습 이벤트 write-behind 버퍼
+ * 요청 스레드는 이벤트를 write-ahead 파일에 기록하고 고정 크기 큐에 넣기만 하며,
+ * 전용 스레드(study-event-wal-sync, study-event-flush)가 batchSize 단위로 StudyEventWriter에 일괄 저장한다.
+ * (@Scheduled 공용 스레드를 쓰면 집계 재생성 등 오래 걸리는 작업 중에 큐가 비워지지 않아 요청 스레드에서 저장하게 됨)
+ * - 큐가 가득 차면 요청 스레드에서 바로 저장 (back-pressure)
+ * - 서버 종료 시 큐를 모두 비움, 비정상 종료 시 다음 기동 때 write-ahead 파일에서 복구
+ * - 복구는 at-least-once (저장 직후 파일을 비우기 전에 종료되면 중복 저장될 수 있음)
+ * - write-ahead 파일은 요청마다 fsync 하지 않고 wal-sync-interval-ms 주기로 모아서 fsync (group commit)
+ * - 저장에 실패한 batch는 반씩 나눠 다시 저장해 실패한 이벤트만 골라내고,
+ *   max-attempts 번 실패한 이벤트는 dead-letter 파일로 옮긴다 (DB 연결 실패 등 일시적 오류는 횟수에 포함하지 않음)
+ */
+@Slf4j
+@Component
+public class StudyEventBuffer {
+
+	private final StudyEventWriter studyEventWriter;
+	private final BlockingQueue<StudyEvent> queue;
+	private final int batchSize;
+	private final Path walPath;
+	private final Path deadLetterPath;
+	private final boolean walSync;
+	private final int maxAttempts;
+	private final long walSyncIntervalMs;
+	private final long flushIntervalMs;
+
+	private final Object walLock = new Object();
+	private final AtomicBoolean walDirty = new AtomicBoolean(false);
+	private final List<StudyEvent> retryEvents = new ArrayList<>();
+	// 이벤트별 실패 횟수 (같은 값의 이벤트가 여러 개일 수 있으므로 identity 기준)
+	private final Map<StudyEvent, Integer> attempts = new IdentityHashMap<>();
+	// 이번 flush에서 저장(또는 dead-letter 이동)되어 write-ahead 파일에서 빼야 하는 이벤트가 있었는지
+	private boolean drained = false;
+	private FileChannel walChannel;
+	// fsync와 저장은 서로 다른 스레드에서 실행 (저장이 DB 때문에 느려져도 fsync 주기는 유지)
+	private final ScheduledExecutorService walSyncScheduler = newScheduler("study-event-wal-sync");
+	private final ScheduledExecutorService flushScheduler = newScheduler("study-event-flush");
+
+	public StudyEventBuffer(StudyEventWriter studyEventWriter,
+		@Value("${study.event.buffer-size:10000}") int bufferSize,
+		@Value("${study.event.batch-size:500}") int batchSize,
+		@Value("${study.event.wal-path:./data/study-events.wal}") String walPath,
+		@Value("${study.event.dead-letter-path:./data/study-events.dead}") String deadLetterPath,
+		@Value("${study.event.wal-sync:true}") boolean walSync,
+		@Value("${study.event.max-attempts:5}") int maxAttempts,
+		@Value("${study.event.wal-sync-interval-ms:50}") long walSyncIntervalMs,
+		@Value("${study.event.flush-interval-ms:200}") long flushIntervalMs) {
+		this.studyEventWriter = studyEventWriter;
+		this.queue = new ArrayBlockingQueue<>(bufferSize);
+		this.batchSize = batchSize;
+		this.walPath = Path.of(walPath);
+		this.deadLetterPath = Path.of(deadLetterPath);
+		this.walSync = walSync;
+		this.maxAttempts = maxAttempts;
+		this.walSyncIntervalMs = walSyncIntervalMs;
+		this.flushIntervalMs = flushIntervalMs;
+	}
+
+	@PostConstruct
+	public void start() throws IOException {
+		recover();
+		walSyncScheduler.scheduleWithFixedDelay(() -> runSafely(this::syncWal), walSyncIntervalMs, walSyncIntervalMs,
+			TimeUnit.MILLISECONDS);
+		flushScheduler.scheduleWithFixedDelay(() -> runSafely(this::flush), flushIntervalMs, flushIntervalMs,
+			TimeUnit.MILLISECONDS);
+	}
+
+	private static ScheduledExecutorService newScheduler(String name) {
+		return Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// 예외가 나면 scheduleWithFixedDelay가 이후 실행을 멈추므로 기록만 하고 계속 실행
+	private void runSafely(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			log.error("학습 이벤트 버퍼 작업 실패", e);
+		}
+	}
+
+	public void recover() throws IOException {
+		if (walPath.getParent() != null) {
+			Files.createDirectories(walPath.getParent());
+		}
+		if (Files.exists(walPath)) {
+			for (String line : Files.readAllLines(walPath, StandardCharsets.UTF_8)) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					retryEvents.add(StudyEvent.fromLine(line));
+				} catch (RuntimeException e) {
+					// 비정상 종료로 마지막 줄이 잘린 경우
+					log.warn("학습 이벤트 복구 실패, 건너뜀: {}", line);
+				}
+			}
+			if (!retryEvents.isEmpty()) {
+				log.warn("저장되지 않은 학습 이벤트 {}건 복구", retryEvents.size());
+			}
+		}
+		walChannel = openWal();
+	}
+
+	private FileChannel openWal() throws IOException {
+		return FileChannel.open(walPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * 학습 이벤트 등록
+	 * 트랜잭션 안에서 호출되면 커밋된 뒤에 등록 (롤백된 학습은 기록하지 않음)
+	 */
+	public void publish(StudyEvent event) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(event);
+				}
+			});
+		} else {
+			enqueue(event);
+		}
+	}
+
+	private void enqueue(StudyEvent event) {
+		synchronized (walLock) {
+			if (queue.remainingCapacity() > 0 && appendToWal(event)) {
+				queue.add(event);
+				return;
+			}
+		}
+		// 큐가 가득 찼거나 파일 기록에 실패하면 요청 스레드에서 바로 저장
+		studyEventWriter.writeInNewTransaction(List.of(event));
+	}
+
+	// walLock 안에서 호출, fsync는 syncWal()에서 모아서 처리
+	private boolean appendToWal(StudyEvent event) {
+		try {
+			writeLine(walChannel, event);
+			walDirty.set(true);
+			return true;
+		} catch (IOException e) {
+			log.error("학습 이벤트 write-ahead 기록 실패", e);
+			return false;
+		}
+	}
+
+	/**
+	 * 기록된 write-ahead 파일을 한 번에 fsync (group commit)
+	 * 마지막 fsync 이후 wal-sync-interval-ms 안에 기록된 이벤트는 OS 장애 시 유실될 수 있음
+	 */
+	public void syncWal() {
+		if (!walSync || !walDirty.getAndSet(false)) {
+			return;
+		}
+		try {
+			walChannel.force(false);
+		} catch (IOException e) {
+			walDirty.set(true);
+			log.error("학습 이벤트 write-ahead 파일 fsync 실패", e);
+		}
+	}
+
+	public synchronized void flush() {
+		boolean available = true;
+		if (!retryEvents.isEmpty()) {
+			List<StudyEvent> retry = new ArrayList<>(retryEvents);
+			retryEvents.clear();
+			available = write(retry);
+		}
+		List<StudyEvent> batch = new ArrayList<>(batchSize);
+		while (available && queue.drainTo(batch, batchSize) > 0) {
+			available = write(batch);
+			batch = new ArrayList<>(batchSize);
+		}
+		if (!available) {
+			log.warn("학습 이벤트 저장소에 연결할 수 없음, 다음 주기에 재시도 (대기 {}건)", retryEvents.size() + queue.size());
+		}
+		// 저장된 이벤트가 없으면 파일 내용이 그대로이므로 다시 작성하지 않음 (DB 장애 중 매 주기 전체 재작성 방지)
+		if (drained) {
+			compactWal();
+			drained = false;
+		}
+	}
+
+	/**
+	 * events 저장 (실패하면 반으로 나눠 다시 저장해 실패한 이벤트만 골라냄)
+	 * @return 일시적 오류로 저장을 멈춰야 하면 false (저장하지 못한 이벤트는 retryEvents에 남김)
+	 */
+	private boolean write(List<StudyEvent> events) {
+		try {
+			studyEventWriter.writeInNewTransaction(events);
+			events.forEach(attempts::remove);
+			drained = true;
+			return true;
+		} catch (RuntimeException e) {
+			if (isTransient(e)) {
+				retryEvents.addAll(events);
+				return false;
+			}
+			if (events.size() == 1) {
+				fail(events.get(0), e);
+				return true;
+			}
+			int mid = events.size() / 2;
+			List<StudyEvent> second = events.subList(mid, events.size());
+			if (!write(events.subList(0, mid))) {
+				retryEvents.addAll(second);
+				return false;
+			}
+			return write(second);
+		}
+	}
+
+	private void fail(StudyEvent event, RuntimeException e) {
+		int count = attempts.merge(event, 1, Integer::sum);
+		if (count < maxAttempts) {
+			log.warn("학습 이벤트 저장 실패 ({}/{}), 다음 주기에 재시도: {}", count, maxAttempts, event.toLine(), e);
+			retryEvents.add(event);
+			return;
+		}
+		attempts.remove(event);
+		drained = true;
+		log.error("학습 이벤트 {}번 저장 실패, dead-letter 파일로 이동: {}", count, event.toLine(), e);
+		try {
+			Files.writeString(deadLetterPath, event.toLine() + "\n", StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		} catch (IOException ioException) {
+			log.error("학습 이벤트 dead-letter 기록 실패: {}", event.toLine(), ioException);
+		}
+	}
+
+	private boolean isTransient(RuntimeException e) {
+		return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+			|| e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+	}
+
+	/**
+	 * write-ahead 파일을 아직 저장하지 않은 이벤트(재시도 대기 + 큐)만 남도록 다시 작성
+	 * 저장된 이벤트는 파일에서 빠지므로, 실패한 이벤트가 남아 있어도 파일이 계속 커지지 않는다.
+	 * 새 파일을 임시 경로에 쓰고 fsync 한 뒤 원자적으로 교체하므로, 도중에 종료되어도 기존 파일 또는 새 파일 중 하나는 온전히 남는다.
+	 */
+	private void compactWal() {
+		Path tempPath = walPath.resolveSibling(walPath.getFileName() + ".tmp");
+		synchronized (walLock) {
+			try (FileChannel tempChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				for (StudyEvent event : retryEvents) {
+					writeLine(tempChannel, event);
+				}
+				for (StudyEvent event : queue) {
+					writeLine(tempChannel, event);
+				}
+				tempChannel.force(true);
+			} catch (IOException e) {
+				// 기존 파일을 그대로 사용 (다음 flush에서 다시 정리)
+				log.error("학습 이벤트 write-ahead 파일 정리 실패", e);
+				return;
+			}
+			try {
+				walChannel.close();
+				Files.move(tempPath, walPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				walDirty.set(false);
+			} catch (IOException e) {
+				log.error("학습 이벤트 write-ahead 파일 교체 실패", e);
+			}
+			try {
+				walChannel = openWal();
+			} catch (IOException e) {
+				// 다시 열 때까지 기록에 실패하므로 enqueue는 요청 스레드에서 바로 저장
+				log.error("학습 이벤트 write-ahead 파일 열기 실패", e);
+			}
+		}
+	}
+
+	private void writeLine(FileChannel channel, StudyEvent event) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap((event.toLine() + "\n").getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws IOException {
+		walSyncScheduler.shutdown();
+		flushScheduler.shutdown();
+		try {
+			flushScheduler.awaitTermination(10, TimeUnit.SECONDS);
+			walSyncScheduler.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+		walDirty.set(true);
+		syncWal();
+		walChannel.close();
+	}
+}
@@ -0,0 +1,127 @@
+package com.umc.cardify.service.study;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.umc.cardify.dto.card.StudyEvent;
+import com.umc.cardify.repository.StudyRecordJdbcRepository;
+import com.umc.cardify.repository.StudyRecordJdbcRepository.StudyHistoryRef;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학습 이벤트 일괄 저장 (StudyLog insert, StudyHistory upsert, study_daily_rollup 증가)
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyEventWriter {
+
+	private final StudyRecordJdbcRepository studyRecordJdbcRepository;
+	private final ContributionHeatmapCache contributionHeatmapCache;
+
+	// 백그라운드 저장, 커밋 이후(afterCommit) 저장은 기존 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+	@Transactional(Transactional.TxType.REQUIRES_NEW)
+	public void writeInNewTransaction(List<StudyEvent> events) {
+		write(events);
+	}
+
+	@Transactional
+	public void write(List<StudyEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+		// 1) StudyLog 일괄 저장
+		studyRecordJdbcRepository.insertStudyLogs(events);
+
+		// 2) StudyHistory 유저별 upsert (기존 기록은 학습 횟수만 증가, 없으면 첫 이벤트 기준으로 생성)
+		//    study_daily_rollup도 study_history 기준(처음 학습한 일자, 난이도)으로 함께 증가
+		Map<Long, List<StudyEvent>> eventsByUser = events.stream()
+			.collect(Collectors.groupingBy(StudyEvent::userId, LinkedHashMap::new, Collectors.toList()));
+
+		List<StudyEvent> newHistories = new ArrayList<>();
+		List<Integer> newHistoryCounts = new ArrayList<>();
+		Map<Long, Integer> increaseCounts = new LinkedHashMap<>();
+		Map<RollupKey, long[]> rollups = new LinkedHashMap<>();
+
+		eventsByUser.forEach((userId, userEvents) -> {
+			Map<Long, List<StudyEvent>> byCard = userEvents.stream()
+				.filter(event -> event.cardId() != null)
+				.collect(Collectors.groupingBy(StudyEvent::cardId, LinkedHashMap::new, Collectors.toList()));
+			Map<Long, List<StudyEvent>> byImageCard = userEvents.stream()
+				.filter(event -> event.imageCardId() != null)
+				.collect(Collectors.groupingBy(StudyEvent::imageCardId, LinkedHashMap::new, Collectors.toList()));
+
+			Map<Long, StudyHistoryRef> cardHistories = studyRecordJdbcRepository.findCardHistories(userId,
+				byCard.keySet());
+			Map<Long, StudyHistoryRef> imageCardHistories = studyRecordJdbcRepository.findImageCardHistories(userId,
+				byImageCard.keySet());
+
+			collectHistoryChanges(userId, byCard, cardHistories, newHistories, newHistoryCounts, increaseCounts,
+				rollups);
+			collectHistoryChanges(userId, byImageCard, imageCardHistories, newHistories, newHistoryCounts,
+				increaseCounts, rollups);
+		});
+
+		studyRecordJdbcRepository.insertStudyHistories(newHistories, newHistoryCounts, now);
+		studyRecordJdbcRepository.increaseStudyHistoryCounts(increaseCounts, now);
+
+		// 3) study_daily_rollup 일괄 증가, 커밋 후 캐시된 연간 기여도의 해당 일자만 갱신
+		studyRecordJdbcRepository.increaseDailyRollups(rollups.entrySet().stream()
+			.map(entry -> new Object[] {entry.getKey().userId(), entry.getKey().studyDay(), entry.getKey().difficulty(),
+				entry.getValue()[0], entry.getValue()[1]})
+			.toList());
+		runAfterCommit(() -> rollups.forEach((key, counts) ->
+			contributionHeatmapCache.increase(key.userId(), key.studyDay(), counts[1])));
+	}
+
+	private void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private void collectHistoryChanges(Long userId, Map<Long, List<StudyEvent>> eventsByCard,
+		Map<Long, StudyHistoryRef> histories, List<StudyEvent> newHistories, List<Integer> newHistoryCounts,
+		Map<Long, Integer> increaseCounts, Map<RollupKey, long[]> rollups) {
+		eventsByCard.forEach((cardId, cardEvents) -> {
+			StudyHistoryRef history = histories.get(cardId);
+			long[] rollup;
+			if (history != null) {
+				increaseCounts.merge(history.studyHistoryId(), cardEvents.size(), Integer::sum);
+				rollup = rollups.computeIfAbsent(new RollupKey(userId, history.studyDay(), history.difficulty()),
+					key -> new long[2]);
+			} else {
+				StudyEvent first = cardEvents.get(0);
+				newHistories.add(first);
+				newHistoryCounts.add(cardEvents.size());
+				rollup = rollups.computeIfAbsent(new RollupKey(userId, first.studyDate().toLocalDate(), first.difficulty()),
+					key -> new long[2]);
+				rollup[0]++; // cardCount
+			}
+			rollup[1] += cardEvents.size(); // learnCount
+		});
+	}
+
+	private record RollupKey(Long userId, LocalDate studyDay, int difficulty) {
+	}
+}
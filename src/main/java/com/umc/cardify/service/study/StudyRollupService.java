@@ -0,0 +1,47 @@
+package com.umc.cardify.service.study;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * study_daily_rollup 재생성
+ * 학습 이벤트 저장 시 증분 반영되지만, 카드 삭제 등으로 study_history와 어긋난 집계를 주기적으로 맞춘다.
+ * 전체를 지우고 다시 쓰지 않고 user_id 구간별로 upsert, 없어진 집계 삭제를 각각의 트랜잭션에서 실행하므로
+ * 재생성 중에도 다른 유저의 집계는 비지 않고, 학습 이벤트 저장이 전체 재생성을 기다리지 않는다.
+ */
+@Slf4j
+@Service
+public class StudyRollupService {
+
+	private final StudyDailyRollupRepository studyDailyRollupRepository;
+	private final StudyRollupWriter studyRollupWriter;
+	private final ContributionHeatmapCache contributionHeatmapCache;
+	private final long chunkUsers;
+
+	public StudyRollupService(StudyDailyRollupRepository studyDailyRollupRepository,
+		StudyRollupWriter studyRollupWriter, ContributionHeatmapCache contributionHeatmapCache,
+		@Value("${study.rollup.rebuild-chunk-users:1000}") long chunkUsers) {
+		this.studyDailyRollupRepository = studyDailyRollupRepository;
+		this.studyRollupWriter = studyRollupWriter;
+		this.contributionHeatmapCache = contributionHeatmapCache;
+		this.chunkUsers = chunkUsers;
+	}
+
+	@Scheduled(cron = "${study.rollup.rebuild-cron:0 0 4 * * ?}") // 매일 새벽 4시에 실행
+	public void rebuildDailyRollups() {
+		long maxUserId = studyDailyRollupRepository.findMaxRollupUserId();
+		long rows = 0;
+		for (long fromUserId = 1; fromUserId <= maxUserId; fromUserId += chunkUsers) {
+			rows += studyRollupWriter.rebuild(fromUserId, Math.min(fromUserId + chunkUsers - 1, maxUserId));
+		}
+		log.info("study_daily_rollup 재생성 완료: {}건", rows);
+
+		// 연간 기여도 캐시 비우기 (다음 조회 시 새 집계로 다시 구성)
+		contributionHeatmapCache.clear();
+	}
+}
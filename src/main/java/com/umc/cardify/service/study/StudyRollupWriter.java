@@ -0,0 +1,29 @@
+package com.umc.cardify.service.study;
+
+import org.springframework.stereotype.Component;
+
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * study_daily_rollup 구간별 재생성
+ * 구간마다 새 트랜잭션으로 처리해 잠금 범위와 undo 로그를 구간 크기로 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRollupWriter {
+
+	private final StudyDailyRollupRepository studyDailyRollupRepository;
+
+	/**
+	 * user_id가 fromUserId 이상 toUserId 이하인 유저의 집계를 study_history와 맞춤
+	 * @return 영향받은 집계 행 수 (upsert, 삭제 합계)
+	 */
+	@Transactional(Transactional.TxType.REQUIRES_NEW)
+	public int rebuild(long fromUserId, long toUserId) {
+		int rows = studyDailyRollupRepository.upsertRollups(fromUserId, toUserId);
+		return rows + studyDailyRollupRepository.deleteStaleRollups(fromUserId, toUserId);
+	}
+}
@@ -6,10 +6,10 @@ import com.umc.cardify.dto.payment.subscription.SubscriptionResponse;
 public interface SubscriptionService {
 
   // 구독 관련
-  SubscriptionResponse.SubscriptionInfoRes createSubscription(SubscriptionRequest.CreateSubscriptionReq request, String token);
-  SubscriptionResponse.SubscriptionInfoRes getSubscription(Long subscriptionId, String token);
-  SubscriptionResponse.SubscriptionListRes getSubscriptionsByUserId(String token);
-  boolean cancelSubscription(SubscriptionRequest.CancelSubscriptionReq request, String token);
-  boolean updateAutoRenew(Long subscriptionId, boolean autoRenew, String token);
-  SubscriptionResponse.PaymentHistoryListRes getPaymentHistoriesBySubscriptionId(Long subscriptionId, String token);
+  SubscriptionResponse.SubscriptionInfoRes createSubscription(SubscriptionRequest.CreateSubscriptionReq request, Long userId);
+  SubscriptionResponse.SubscriptionInfoRes getSubscription(Long subscriptionId, Long userId);
+  SubscriptionResponse.SubscriptionListRes getSubscriptionsByUserId(Long userId);
+  boolean cancelSubscription(SubscriptionRequest.CancelSubscriptionReq request, Long userId);
+  boolean updateAutoRenew(Long subscriptionId, boolean autoRenew, Long userId);
+  SubscriptionResponse.PaymentHistoryListRes getPaymentHistoriesBySubscriptionId(Long subscriptionId, Long userId);
 }
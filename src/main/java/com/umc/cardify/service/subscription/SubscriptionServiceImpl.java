@@ -1,14 +1,12 @@
 package com.umc.cardify.service.subscription;
 
-import com.umc.cardify.auth.jwt.JwtTokenProvider;
-import com.umc.cardify.config.exception.BadRequestException;
-import com.umc.cardify.config.exception.ErrorResponseStatus;
 import com.umc.cardify.config.exception.ResourceNotFoundException;
 import com.umc.cardify.domain.*;
 import com.umc.cardify.domain.enums.*;
 import com.umc.cardify.dto.payment.subscription.SubscriptionRequest;
 import com.umc.cardify.dto.payment.subscription.SubscriptionResponse;
 import com.umc.cardify.repository.*;
+import com.umc.cardify.service.user.UserIdentityCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,23 +30,11 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   private final SubscriptionPaymentRepository subscriptionPaymentRepository;
   private final ProductRepository productRepository;
   private final UserRepository userRepository;
-  private final JwtTokenProvider jwtTokenProvider;
-
-  private Long findUserId(String token) {
-    String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-    AuthProvider provider = jwtTokenProvider.getProviderFromToken(token.replace("Bearer ", "")); // 토큰에 제공자 정보도 포함
-
-    return userRepository.findByEmailAndProvider(email, provider)
-        .orElseThrow(() -> new BadRequestException(ErrorResponseStatus.INVALID_USERID)).getUserId();
-  }
+  private final UserIdentityCache userIdentityCache;
 
   @Override
   @Transactional
-  public SubscriptionResponse.SubscriptionInfoRes createSubscription(SubscriptionRequest.CreateSubscriptionReq request, String token) {
-    if (token != null) {
-      Long userId = findUserId(token);
-    }
-
+  public SubscriptionResponse.SubscriptionInfoRes createSubscription(SubscriptionRequest.CreateSubscriptionReq request, Long userId) {
     log.info("구독 생성 시작: userId={}, productId={}", request.userId(), request.productId());
 
     // 상품 정보 조회
@@ -89,6 +75,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
     Subscription savedSubscription = subscriptionRepository.save(subscription);
     log.info("구독 생성 완료: id={}", savedSubscription.getId());
+    userIdentityCache.evict(request.userId());
 
     // 결제 내역 생성
     SubscriptionPayment initialPayment = SubscriptionPayment.builder()
@@ -117,8 +104,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
   // 구독 조회
   @Override
-  public SubscriptionResponse.SubscriptionInfoRes getSubscription(Long subscriptionId, String token) {
-    Long userId = findUserId(token);
+  public SubscriptionResponse.SubscriptionInfoRes getSubscription(Long subscriptionId, Long userId) {
     return getSubscriptionInternal(subscriptionId);
   }
 
@@ -141,6 +127,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     log.info("구독 만료 처리 시작: 대상 구독 수={}", expiredSubscriptions.size());
     for (Subscription subscription : expiredSubscriptions) {
       subscription.setStatus(SubscriptionStatus.EXPIRED);
+      userIdentityCache.evict(subscription.getUser().getUserId());
 
       log.info("구독 만료 처리: subscriptionId={}, userId={}, productId={}",
           subscription.getId(),
@@ -196,8 +183,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
   // 사용자의 구독 정보 조회
   @Override
-  public SubscriptionResponse.SubscriptionListRes getSubscriptionsByUserId(String token) {
-    Long userId = findUserId(token);
+  public SubscriptionResponse.SubscriptionListRes getSubscriptionsByUserId(Long userId) {
     List<Subscription> subscriptions = subscriptionRepository.findByUser_UserId(userId);
 
     List<SubscriptionResponse.SubscriptionInfoRes> subscriptionDTOs = subscriptions.stream()
@@ -213,8 +199,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   // 구독 최소
   @Override
   @Transactional
-  public boolean cancelSubscription(SubscriptionRequest.CancelSubscriptionReq request, String token) {
-    Long userId = findUserId(token);
+  public boolean cancelSubscription(SubscriptionRequest.CancelSubscriptionReq request, Long userId) {
     log.info("구독 취소 요청: id={}, reason={}", request.subscriptionId(), request.cancelReason());
 
     Subscription subscription = subscriptionRepository.findById(request.subscriptionId())
@@ -234,6 +219,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
     subscriptionRepository.save(subscription);
     log.info("구독 취소 완료: id={}", request.subscriptionId());
+    userIdentityCache.evict(subscription.getUser().getUserId());
 
     return true;
   }
@@ -241,8 +227,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
   // 자동 결제(갱신) 변경
   @Override
   @Transactional
-  public boolean updateAutoRenew(Long subscriptionId, boolean autoRenew, String token) {
-    Long userId = findUserId(token);
+  public boolean updateAutoRenew(Long subscriptionId, boolean autoRenew, Long userId) {
     Subscription subscription = subscriptionRepository.findById(subscriptionId)
         .orElseThrow(() -> new ResourceNotFoundException("구독을 찾을 수 없습니다: " + subscriptionId));
 
@@ -256,8 +241,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
   // 특정 구독의 결제 이력 조회
   @Override
-  public SubscriptionResponse.PaymentHistoryListRes getPaymentHistoriesBySubscriptionId(Long subscriptionId, String token) {
-    Long userId = findUserId(token);
+  public SubscriptionResponse.PaymentHistoryListRes getPaymentHistoriesBySubscriptionId(Long subscriptionId, Long userId) {
     List<SubscriptionPayment> payments = subscriptionPaymentRepository.findBySubscriptionIdOrderByPaidAtDesc(subscriptionId);
 
     List<SubscriptionResponse.PaymentHistoryRes> paymentDTOs = payments.stream()
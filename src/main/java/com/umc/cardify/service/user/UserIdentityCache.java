@@ -0,0 +1,233 @@
+package com.umc.cardify.service.user;
+
+import com.umc.cardify.config.cache.LruCache;
+import com.umc.cardify.domain.User;
+import com.umc.cardify.domain.enums.AuthProvider;
+import com.umc.cardify.domain.enums.SubscriptionStatus;
+import com.umc.cardify.dto.user.UserSnapshot;
+import com.umc.cardify.repository.SubscriptionRepository;
+import com.umc.cardify.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * (email, provider) 또는 userId → 유저 스냅샷 캐시
+ * 1단계 : 요청 범위 메모 (같은 요청 안에서는 한 번만 조회)
+ * 2단계 : 프로세스 전체 LRU + TTL 캐시
+ * 유저 정보, 포인트, 구독 상태가 바뀌면 evict로 해당 유저를 삭제한다.
+ * DB에서 읽는 동안 evict된 유저의 스냅샷은 이전 값일 수 있으므로 캐시하지 않는다.
+ */
+@Component
+public class UserIdentityCache {
+
+    private static final String REQUEST_MEMO = UserIdentityCache.class.getName() + ".MEMO";
+
+    private final UserRepository userRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final long ttlMillis;
+
+    // userIdsByKey, 세대 정보는 snapshots 잠금 안에서 함께 변경
+    private final LruCache<Long, Entry> snapshots;
+    private final Map<String, Long> userIdsByKey = new HashMap<>();
+    // evict할 때마다 증가하는 세대, 유저별로 마지막 evict 시점의 세대를 기록 (조회 중인 요청이 있을 때만 유지)
+    private long generation;
+    private final Map<Long, Long> evictedGenerations = new HashMap<>();
+    private int loading;
+
+    private final Counter requestHitCounter;
+    private final Counter processHitCounter;
+    private final Counter missCounter;
+
+    private record Entry(UserSnapshot snapshot, long expiresAt) {
+    }
+
+    public UserIdentityCache(UserRepository userRepository, SubscriptionRepository subscriptionRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.user-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${app.user-cache.size:10000}") int maxUsers) {
+        this.userRepository = userRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.snapshots = new LruCache<>(maxUsers, (userId, entry) ->
+                userIdsByKey.remove(key(entry.snapshot().email(), entry.snapshot().provider())));
+
+        this.requestHitCounter = Counter.builder("cardify.user.cache").tag("result", "request-hit").register(meterRegistry);
+        this.processHitCounter = Counter.builder("cardify.user.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("cardify.user.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("cardify.user.cache.size", snapshots, LruCache::size);
+    }
+
+    public Optional<UserSnapshot> find(String email, AuthProvider provider) {
+        String key = key(email, provider);
+        Map<Object, UserSnapshot> memo = requestMemo();
+        if (memo != null && memo.get(key) instanceof UserSnapshot snapshot) {
+            requestHitCounter.increment();
+            return Optional.of(snapshot);
+        }
+
+        UserSnapshot snapshot;
+        synchronized (snapshots) {
+            Long userId = userIdsByKey.get(key);
+            snapshot = userId == null ? null : getValid(userId);
+        }
+        if (snapshot != null) {
+            processHitCounter.increment();
+        } else {
+            missCounter.increment();
+            snapshot = load(() -> userRepository.findByEmailAndProvider(email, provider));
+        }
+        if (snapshot != null) {
+            remember(memo, snapshot);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    public Optional<UserSnapshot> get(Long userId) {
+        Map<Object, UserSnapshot> memo = requestMemo();
+        if (memo != null && memo.get(userId) instanceof UserSnapshot snapshot) {
+            requestHitCounter.increment();
+            return Optional.of(snapshot);
+        }
+
+        UserSnapshot snapshot;
+        synchronized (snapshots) {
+            snapshot = getValid(userId);
+        }
+        if (snapshot != null) {
+            processHitCounter.increment();
+        } else {
+            missCounter.increment();
+            snapshot = load(() -> userRepository.findById(userId));
+        }
+        if (snapshot != null) {
+            remember(memo, snapshot);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    // 활성 구독 여부 (유저가 없으면 false)
+    public boolean isSubscriptionActive(Long userId) {
+        return get(userId).map(UserSnapshot::subscriptionActive).orElse(false);
+    }
+
+    /**
+     * 해당 유저의 스냅샷 삭제
+     * 트랜잭션 중이면 커밋 전에 다시 채워진 값도 지우도록 커밋 후 한 번 더 삭제
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * DB에서 유저 스냅샷을 읽어 캐시
+     * 읽기 시작한 뒤 해당 유저가 evict되었으면 이번 응답에만 사용하고 캐시하지 않는다.
+     */
+    private UserSnapshot load(Supplier<Optional<User>> query) {
+        long startGeneration;
+        synchronized (snapshots) {
+            startGeneration = generation;
+            loading++;
+        }
+        try {
+            User user = query.get().orElse(null);
+            if (user == null) {
+                return null;
+            }
+            boolean subscriptionActive = subscriptionRepository.countByUser_UserIdAndStatus(user.getUserId(),
+                    SubscriptionStatus.ACTIVE) > 0;
+            UserSnapshot snapshot = new UserSnapshot(user.getUserId(), user.getEmail(), user.getProvider(),
+                    subscriptionActive, user.getPoint());
+            synchronized (snapshots) {
+                if (evictedGenerations.getOrDefault(snapshot.userId(), 0L) <= startGeneration) {
+                    snapshots.put(snapshot.userId(), new Entry(snapshot, System.currentTimeMillis() + ttlMillis));
+                    userIdsByKey.put(key(snapshot.email(), snapshot.provider()), snapshot.userId());
+                }
+            }
+            return snapshot;
+        } finally {
+            synchronized (snapshots) {
+                if (--loading == 0) {
+                    evictedGenerations.clear();
+                }
+            }
+        }
+    }
+
+    // snapshots 잠금 안에서 호출
+    private UserSnapshot getValid(Long userId) {
+        Entry entry = snapshots.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            snapshots.remove(userId);
+            userIdsByKey.remove(key(entry.snapshot().email(), entry.snapshot().provider()));
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    private void remove(Long userId) {
+        synchronized (snapshots) {
+            if (loading > 0) {
+                evictedGenerations.put(userId, ++generation);
+            }
+            Entry entry = snapshots.remove(userId);
+            if (entry != null) {
+                userIdsByKey.remove(key(entry.snapshot().email(), entry.snapshot().provider()));
+            }
+        }
+        Map<Object, UserSnapshot> memo = requestMemo();
+        if (memo != null) {
+            memo.values().removeIf(snapshot -> snapshot.userId().equals(userId));
+        }
+    }
+
+    private void remember(Map<Object, UserSnapshot> memo, UserSnapshot snapshot) {
+        if (memo != null) {
+            memo.put(snapshot.userId(), snapshot);
+            memo.put(key(snapshot.email(), snapshot.provider()), snapshot);
+        }
+    }
+
+    // 요청 범위 메모 (요청 스레드가 아니면 null)
+    @SuppressWarnings("unchecked")
+    private Map<Object, UserSnapshot> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<Object, UserSnapshot>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Object, UserSnapshot>)memo;
+    }
+
+    private static String key(String email, AuthProvider provider) {
+        return provider + ":" + email;
+    }
+}
@@ -0,0 +1,70 @@
+package com.umc.cardify.auth.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.umc.cardify.domain.enums.AuthProvider;
+import com.umc.cardify.dto.user.UserSnapshot;
+import com.umc.cardify.service.user.UserIdentityCache;
+
+import io.jsonwebtoken.Claims;
+
+class JwtAuthenticationFilterTest {
+
+	private final JwtTokenProvider tokenProvider = mock(JwtTokenProvider.class);
+	private final UserIdentityCache userIdentityCache = mock(UserIdentityCache.class);
+	private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userIdentityCache);
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 유효한_토큰이면_인증_정보를_저장한다() throws Exception {
+		givenClaims("user@cardify.com", "KAKAO");
+		when(userIdentityCache.find("user@cardify.com", AuthProvider.KAKAO))
+			.thenReturn(Optional.of(new UserSnapshot(1L, "user@cardify.com", AuthProvider.KAKAO, false, 0)));
+
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+			.isEqualTo(new AuthenticatedUser(1L, "user@cardify.com", AuthProvider.KAKAO));
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void 알_수_없는_provider면_인증하지_않고_다음_필터로_진행한다() throws Exception {
+		givenClaims("user@cardify.com", "NAVER");
+
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(chain.getRequest()).isNotNull();
+		verifyNoInteractions(userIdentityCache);
+	}
+
+	private void givenClaims(String email, String provider) {
+		Claims claims = mock(Claims.class);
+		when(claims.getSubject()).thenReturn(email);
+		when(claims.get("provider", String.class)).thenReturn(provider);
+		when(tokenProvider.parseClaims("token")).thenReturn(claims);
+	}
+
+	private static MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer token");
+		return request;
+	}
+}
@@ -0,0 +1,38 @@
+package com.umc.cardify.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+	@Test
+	void 크기를_넘으면_가장_오래_사용하지_않은_항목을_밀어낸다() {
+		List<String> evicted = new ArrayList<>();
+		LruCache<String, Integer> cache = new LruCache<>(2, (key, value) -> evicted.add(key));
+
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.get("a");
+		cache.put("c", 3);
+
+		assertThat(evicted).containsExactly("b");
+		assertThat(cache.get("a")).isEqualTo(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void computeIfAbsent는_없을_때만_값을_만든다() {
+		LruCache<String, Integer> cache = new LruCache<>(10);
+
+		assertThat(cache.computeIfAbsent("a", key -> 1)).isEqualTo(1);
+		assertThat(cache.computeIfAbsent("a", key -> 2)).isEqualTo(1);
+
+		cache.remove("a");
+		assertThat(cache.computeIfAbsent("a", key -> 3)).isEqualTo(3);
+	}
+}
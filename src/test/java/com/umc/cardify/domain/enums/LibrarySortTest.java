@@ -0,0 +1,29 @@
+package com.umc.cardify.domain.enums;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LibrarySortTest {
+
+	@Test
+	void order_값으로_정렬_기준을_찾는다() {
+		assertThat(LibrarySort.fromOrder("asc")).isEqualTo(LibrarySort.NAME_ASC);
+		assertThat(LibrarySort.fromOrder("upload-newest")).isEqualTo(LibrarySort.UPLOAD_NEWEST);
+		assertThat(LibrarySort.fromOrder("Download-Week")).isEqualTo(LibrarySort.DOWNLOAD_WEEK);
+	}
+
+	@Test
+	void 알_수_없는_order는_null() {
+		assertThat(LibrarySort.fromOrder("popular")).isNull();
+		assertThat(LibrarySort.fromOrder(null)).isNull();
+	}
+
+	@Test
+	void 정렬_방향과_컬럼() {
+		assertThat(LibrarySort.NAME_ASC.isAscending()).isTrue();
+		assertThat(LibrarySort.UPLOAD_NEWEST.isAscending()).isFalse();
+		assertThat(LibrarySort.UPLOAD_OLDEST.getColumn()).isEqualTo(LibrarySort.UPLOAD_NEWEST.getColumn());
+		assertThat(LibrarySort.DOWNLOAD.getColumn()).isEqualTo("l.download_count");
+	}
+}
@@ -0,0 +1,90 @@
+package com.umc.cardify.dto.card;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AnnualHeatmapTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void 윤년은_366일을_모두_작성한다() throws Exception {
+		JsonNode json = objectMapper.valueToTree(new AnnualHeatmap(2024));
+
+		assertThat(json.get("contributions")).hasSize(366);
+		assertThat(json.get("contributions").get(365).get("date").asText()).isEqualTo("2024-12-31");
+		assertThat(objectMapper.valueToTree(new AnnualHeatmap(2026)).get("contributions").size()).isEqualTo(365);
+	}
+
+	@Test
+	void 집계_행으로_일자별_학습_횟수를_채운다() {
+		AnnualHeatmap heatmap = AnnualHeatmap.of(2026, List.of(
+			new Object[] {Date.valueOf("2026-01-01"), 3L},
+			new Object[] {Date.valueOf("2026-12-31"), 7L}));
+
+		assertThat(heatmap.getCount(LocalDate.of(2026, 1, 1))).isEqualTo(3);
+		assertThat(heatmap.getCount(LocalDate.of(2026, 12, 31))).isEqualTo(7);
+		assertThat(heatmap.getCount(LocalDate.of(2026, 6, 1))).isZero();
+	}
+
+	@Test
+	void 다른_연도나_0_이하의_증가는_무시한다() {
+		AnnualHeatmap heatmap = new AnnualHeatmap(2026);
+
+		heatmap.increase(LocalDate.of(2025, 12, 31), 5);
+		heatmap.increase(LocalDate.of(2026, 3, 1), 0);
+		heatmap.increase(LocalDate.of(2026, 3, 1), -1);
+
+		assertThat(heatmap.getCount(LocalDate.of(2025, 12, 31))).isZero();
+		assertThat(heatmap.getCount(LocalDate.of(2026, 3, 1))).isZero();
+	}
+
+	@Test
+	void 학습_횟수는_short_범위에서_멈춘다() {
+		AnnualHeatmap heatmap = new AnnualHeatmap(2026);
+		LocalDate day = LocalDate.of(2026, 5, 5);
+
+		heatmap.increase(day, Short.MAX_VALUE);
+		heatmap.increase(day, 10);
+
+		assertThat(heatmap.getCount(day)).isEqualTo(Short.MAX_VALUE);
+	}
+
+	@Test
+	void 색상은_같은_주_최대값_대비_비율로_정한다() {
+		// 2026-01-04(일) ~ 2026-01-10(토)은 같은 주
+		AnnualHeatmap heatmap = new AnnualHeatmap(2026);
+		heatmap.increase(LocalDate.of(2026, 1, 4), 8);
+		heatmap.increase(LocalDate.of(2026, 1, 5), 6);
+		heatmap.increase(LocalDate.of(2026, 1, 6), 4);
+		heatmap.increase(LocalDate.of(2026, 1, 7), 1);
+
+		JsonNode contributions = objectMapper.valueToTree(heatmap).get("contributions");
+
+		assertThat(contributions.get(3).get("color").asText()).isEqualTo("4");
+		assertThat(contributions.get(4).get("color").asText()).isEqualTo("4");
+		assertThat(contributions.get(5).get("color").asText()).isEqualTo("3");
+		assertThat(contributions.get(6).get("color").asText()).isEqualTo("1");
+		assertThat(contributions.get(7).get("color").asText()).isEqualTo("1");
+	}
+
+	@Test
+	void 연속_학습_일수의_최대값을_작성한다() {
+		AnnualHeatmap heatmap = new AnnualHeatmap(2026);
+		heatmap.increase(LocalDate.of(2026, 2, 1), 1);
+		heatmap.increase(LocalDate.of(2026, 2, 2), 1);
+		heatmap.increase(LocalDate.of(2026, 2, 4), 1);
+		heatmap.increase(LocalDate.of(2026, 2, 5), 1);
+		heatmap.increase(LocalDate.of(2026, 2, 6), 1);
+
+		assertThat(objectMapper.valueToTree(heatmap).get("maxStreak").asInt()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,62 @@
+package com.umc.cardify.dto.library;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.domain.enums.LibrarySort;
+
+class LibraryCursorTest {
+
+	@Test
+	void 정렬_값과_libraryId를_그대로_복원한다() {
+		LocalDateTime uploadAt = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_000_000);
+
+		LibraryCursor cursor = LibraryCursor.decode(
+			LibraryCursor.of(LibrarySort.UPLOAD_NEWEST, Timestamp.valueOf(uploadAt), 7L).encode(),
+			LibrarySort.UPLOAD_NEWEST);
+
+		assertThat(cursor.value()).isEqualTo(uploadAt);
+		assertThat(cursor.parameterValue()).isEqualTo(Timestamp.valueOf(uploadAt));
+		assertThat(cursor.libraryId()).isEqualTo(7L);
+	}
+
+	@Test
+	void 다운로드_수는_Long으로_복원한다() {
+		LibraryCursor cursor = LibraryCursor.decode(LibraryCursor.of(LibrarySort.DOWNLOAD_WEEK, 12, 3L).encode(),
+			LibrarySort.DOWNLOAD_WEEK);
+
+		assertThat(cursor.value()).isEqualTo(12L);
+	}
+
+	@Test
+	void 구분자가_들어간_이름도_복원한다() {
+		String name = "운영체제\n3장";
+
+		LibraryCursor cursor = LibraryCursor.decode(LibraryCursor.of(LibrarySort.NAME_ASC, name, 5L).encode(),
+			LibrarySort.NAME_ASC);
+
+		assertThat(cursor.value()).isEqualTo(name);
+		assertThat(cursor.libraryId()).isEqualTo(5L);
+	}
+
+	@Test
+	void 다른_정렬_기준의_cursor는_거부한다() {
+		String cursor = LibraryCursor.of(LibrarySort.DOWNLOAD, 12L, 3L).encode();
+
+		assertThatThrownBy(() -> LibraryCursor.decode(cursor, LibrarySort.NAME_ASC))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void 형식이_잘못된_cursor는_거부한다() {
+		assertThatThrownBy(() -> LibraryCursor.decode("not a cursor", LibrarySort.DOWNLOAD))
+			.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> LibraryCursor.decode("ZG93bmxvYWQKYWJjCjM", LibrarySort.DOWNLOAD))
+			.isInstanceOf(BadRequestException.class);
+	}
+}
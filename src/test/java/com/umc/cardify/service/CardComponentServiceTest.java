@@ -0,0 +1,176 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.config.exception.ErrorResponseStatus;
+import com.umc.cardify.domain.Card;
+import com.umc.cardify.domain.ImageCard;
+import com.umc.cardify.domain.StudyCardSet;
+import com.umc.cardify.dto.card.CardRequest;
+import com.umc.cardify.repository.ImageCardRepository;
+import com.umc.cardify.repository.OverlayRepository;
+import com.umc.cardify.repository.StudyCardSetRepository;
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+import com.umc.cardify.repository.StudyHistoryRepository;
+import com.umc.cardify.repository.StudyLogRepository;
+import com.umc.cardify.service.scheduler.StudyScheduler;
+import com.umc.cardify.service.study.ContributionHeatmapCache;
+import com.umc.cardify.service.study.DueCalendarCache;
+import com.umc.cardify.service.study.StudyEventBuffer;
+import com.umc.cardify.service.study.StudyEventWriter;
+
+@ExtendWith(MockitoExtension.class)
+class CardComponentServiceTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Mock
+	private CardModuleService cardModuleService;
+	@Mock
+	private S3Service s3Service;
+	@Mock
+	private ImageCardRepository imageCardRepository;
+	@Mock
+	private OverlayRepository overlayRepository;
+	@Mock
+	private StudyCardSetRepository studyCardSetRepository;
+	@Mock
+	private StudyLogRepository studyLogRepository;
+	@Mock
+	private StudyHistoryRepository studyHistoryRepository;
+	@Mock
+	private StudyDailyRollupRepository studyDailyRollupRepository;
+	@Mock
+	private StudyScheduler studyScheduler;
+	@Mock
+	private StudyEventWriter studyEventWriter;
+	@Mock
+	private StudyEventBuffer studyEventBuffer;
+	@Mock
+	private ContributionHeatmapCache contributionHeatmapCache;
+	@Mock
+	private DueCalendarCache dueCalendarCache;
+
+	@InjectMocks
+	private CardComponentService cardComponentService;
+
+	@Test
+	void 카드_타입_0부터_2는_일반_카드로_조회한다() {
+		when(cardModuleService.getCardsByIds(eq(USER_ID), anyCollection()))
+			.thenReturn(List.of(card(10L), card(11L), card(12L)));
+		when(cardModuleService.getImageCardsByIds(eq(USER_ID), anyCollection()))
+			.thenReturn(List.of(imageCard(20L)));
+
+		cardComponentService.updateCardDifficulties(USER_ID, batch(
+			answer(10L, 0, 2), answer(11L, 1, 3), answer(12L, 2, 4), answer(20L, 3, 1)));
+
+		verify(cardModuleService).getCardsByIds(USER_ID, Set.of(10L, 11L, 12L));
+		verify(cardModuleService).getImageCardsByIds(USER_ID, Set.of(20L));
+		verify(studyEventWriter).write(argThat(events -> events.size() == 4));
+	}
+
+	@Test
+	void 없거나_다른_유저의_카드가_있으면_NOT_FOUND() {
+		when(cardModuleService.getCardsByIds(eq(USER_ID), anyCollection()))
+			.thenThrow(new BadRequestException(ErrorResponseStatus.NOT_FOUND_ERROR));
+
+		assertThatThrownBy(() -> cardComponentService.updateCardDifficulties(USER_ID, batch(answer(99L, 0, 2))))
+			.isInstanceOf(BadRequestException.class)
+			.extracting("status").isEqualTo(ErrorResponseStatus.NOT_FOUND_ERROR);
+		verifyNoInteractions(studyEventWriter);
+	}
+
+	@Test
+	void 난이도가_범위를_벗어나면_카드를_조회하지_않는다() {
+		assertThatThrownBy(() -> cardComponentService.updateCardDifficulties(USER_ID, batch(answer(10L, 0, 5))))
+			.isInstanceOf(BadRequestException.class)
+			.extracting("status").isEqualTo(ErrorResponseStatus.NOT_EXIST_DIFFICULTY_CODE);
+		verifyNoInteractions(cardModuleService);
+	}
+
+	@Test
+	void 난이도가_NONE인_이미지_카드는_다음_학습_시간을_계산하지_않는다() {
+		ImageCard imageCard = imageCard(20L);
+
+		assertThat(cardComponentService.calculateNextStudyTime(imageCard)).isNull();
+		assertThat(imageCard.getLearnLastTime()).isNull();
+		assertThat(imageCard.getLearnNextTime()).isNull();
+		verifyNoInteractions(studyScheduler);
+	}
+
+	@Test
+	void 이미지_카드를_추가하면_즉시_학습으로_두고_학습_시간_범위를_갱신한다() {
+		StudyCardSet studyCardSet = StudyCardSet.builder().build();
+		when(s3Service.upload(any(), eq("imageCards"))).thenReturn("https://bucket/image.png");
+		when(cardModuleService.findStudyCardSetByNote(any())).thenReturn(studyCardSet);
+		when(imageCardRepository.save(any(ImageCard.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		cardComponentService.addImageCard(USER_ID, null, new CardRequest.addImageCard(), null);
+
+		verify(imageCardRepository).save(argThat(imageCard -> imageCard.getLearnNextTime() != null
+			&& imageCard.getCountLearn() == 0L && imageCard.getStudyCardSet() == studyCardSet));
+		InOrder inOrder = inOrder(imageCardRepository, cardModuleService);
+		inOrder.verify(imageCardRepository).save(any(ImageCard.class));
+		inOrder.verify(cardModuleService).refreshDueRange(studyCardSet);
+		inOrder.verify(cardModuleService).saveStudyCardSet(studyCardSet);
+	}
+
+	@Test
+	void 일괄_반영한_카드의_학습_시간은_단건_API와_같은_시스템_시간대를_사용한다() {
+		TimeZone defaultTimeZone = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+		try {
+			Card card = card(10L);
+			when(cardModuleService.getCardsByIds(eq(USER_ID), anyCollection())).thenReturn(List.of(card));
+			LocalDateTime answeredAt = LocalDateTime.of(2026, 10, 18, 10, 0); // KST
+
+			cardComponentService.updateCardDifficulties(USER_ID, CardRequest.difficultyBatch.builder()
+				.answers(List.of(CardRequest.difficultyBatchItem.builder()
+					.cardId(10L).cardType(0).difficulty(3).answeredAt(answeredAt).build()))
+				.build());
+
+			assertThat(card.getLearnLastTime().toLocalDateTime()).isEqualTo(answeredAt.minusHours(9));
+			verify(studyEventWriter).write(argThat(events -> events.get(0).studyDate().equals(answeredAt)));
+		} finally {
+			TimeZone.setDefault(defaultTimeZone);
+		}
+	}
+
+	private static CardRequest.difficultyBatch batch(CardRequest.difficultyBatchItem... answers) {
+		return CardRequest.difficultyBatch.builder().answers(List.of(answers)).build();
+	}
+
+	private static CardRequest.difficultyBatchItem answer(Long cardId, int cardType, int difficulty) {
+		return CardRequest.difficultyBatchItem.builder()
+			.cardId(cardId)
+			.cardType(cardType)
+			.difficulty(difficulty)
+			.build();
+	}
+
+	private static Card card(Long cardId) {
+		return Card.builder().cardId(cardId).countLearn(0L).build();
+	}
+
+	private static ImageCard imageCard(Long imageCardId) {
+		ImageCard imageCard = new ImageCard();
+		imageCard.setId(imageCardId);
+		imageCard.setCountLearn(0L);
+		return imageCard;
+	}
+}
@@ -0,0 +1,76 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.cardify.config.exception.BadRequestException;
+import com.umc.cardify.config.exception.ErrorResponseStatus;
+import com.umc.cardify.domain.Card;
+import com.umc.cardify.repository.CardJdbcRepository;
+import com.umc.cardify.repository.CardRepository;
+import com.umc.cardify.repository.ImageCardRepository;
+import com.umc.cardify.repository.NoteRepository;
+import com.umc.cardify.repository.OverlayRepository;
+import com.umc.cardify.repository.StudyCardSetRepository;
+import com.umc.cardify.service.study.DueCalendarCache;
+
+@ExtendWith(MockitoExtension.class)
+class CardModuleServiceTest {
+
+	@Mock
+	private CardRepository cardRepository;
+	@Mock
+	private CardJdbcRepository cardJdbcRepository;
+	@Mock
+	private StudyCardSetRepository studyCardSetRepository;
+	@Mock
+	private ImageCardRepository imageCardRepository;
+	@Mock
+	private OverlayRepository overlayRepository;
+	@Mock
+	private NoteRepository noteRepository;
+	@Mock
+	private S3Service s3Service;
+	@Mock
+	private DueCalendarCache dueCalendarCache;
+	@Mock
+	private ObjectMapper objectMapper;
+
+	@InjectMocks
+	private CardModuleService cardModuleService;
+
+	@Test
+	void 유저의_카드가_모두_조회되면_반환한다() {
+		List<Card> cards = List.of(Card.builder().cardId(1L).build(), Card.builder().cardId(2L).build());
+		when(cardRepository.findAllByCardIdInAndUserId(Set.of(1L, 2L), 7L)).thenReturn(cards);
+
+		assertThat(cardModuleService.getCardsByIds(7L, Set.of(1L, 2L))).isEqualTo(cards);
+	}
+
+	@Test
+	void 다른_유저의_카드는_NOT_FOUND() {
+		// 2번 카드는 없거나 다른 유저의 카드라 owner 조건으로 걸러짐
+		when(cardRepository.findAllByCardIdInAndUserId(Set.of(1L, 2L), 7L))
+			.thenReturn(List.of(Card.builder().cardId(1L).build()));
+
+		assertThatThrownBy(() -> cardModuleService.getCardsByIds(7L, Set.of(1L, 2L)))
+			.isInstanceOf(BadRequestException.class)
+			.extracting("status").isEqualTo(ErrorResponseStatus.NOT_FOUND_ERROR);
+	}
+
+	@Test
+	void 조회할_카드가_없으면_쿼리하지_않는다() {
+		assertThat(cardModuleService.getImageCardsByIds(7L, Set.of())).isEmpty();
+		verifyNoInteractions(imageCardRepository);
+	}
+}
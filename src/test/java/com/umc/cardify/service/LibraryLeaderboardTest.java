@@ -0,0 +1,64 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.umc.cardify.repository.LibraryStatsJdbcRepository;
+
+class LibraryLeaderboardTest {
+
+	private final LibraryStatsJdbcRepository repository = mock(LibraryStatsJdbcRepository.class);
+	private final LibraryLeaderboard leaderboard = new LibraryLeaderboard(repository, 7);
+
+	@BeforeEach
+	void setUp() {
+		when(repository.findWeekCounts()).thenReturn(Map.of(1L, 2, 2L, 2));
+		leaderboard.reload();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void 트랜잭션_밖의_다운로드는_바로_순위에_반영한다() {
+		leaderboard.recordDownload(2L);
+
+		assertThat(leaderboard.ranking()).containsExactly(2L, 1L);
+		verify(repository).increaseDownload(eq(2L), any());
+	}
+
+	@Test
+	void 트랜잭션_중_다운로드는_커밋_후에_순위에_반영한다() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		leaderboard.recordDownload(2L);
+		assertThat(leaderboard.ranking()).containsExactly(1L, 2L);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertThat(leaderboard.ranking()).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void 롤백된_공유_취소는_순위에서_제외하지_않는다() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		leaderboard.remove(1L);
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(leaderboard.ranking()).containsExactly(1L, 2L);
+	}
+}
@@ -0,0 +1,112 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+class NoteCardDiffTest {
+
+	// 기존 카드 : 노드 id(없을 수 있음)와 내용
+	private record Stored(String nodeId, String contents) {
+	}
+
+	// 새 카드 노드
+	private record Node(String nodeId, String contents) {
+	}
+
+	@Test
+	void 같은_노드_id는_내용이_바뀌어도_수정으로_매칭한다() {
+		Stored card = new Stored("a", "old");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(card), List.of(new Node("a", "new")));
+
+		assertThat(result.inserts()).isEmpty();
+		assertThat(result.updates()).containsExactly(entry(card, 0));
+		assertThat(result.deletes()).isEmpty();
+	}
+
+	@Test
+	void 노드_id가_없으면_내용으로_매칭한다() {
+		Stored card = new Stored(null, "same");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(card), List.of(new Node("b", "same")));
+
+		assertThat(result.isEmpty()).isTrue();
+	}
+
+	@Test
+	void 노드_id로_먼저_매칭하고_남은_카드만_내용으로_매칭한다() {
+		// first는 내용이 같지만 id로 두 번째 노드와 먼저 짝지어지고, second는 내용으로 첫 번째 노드와 짝지어짐
+		Stored first = new Stored("x", "shared");
+		Stored second = new Stored(null, "shared");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(first, second),
+			List.of(new Node(null, "shared"), new Node("x", "edited")));
+
+		assertThat(result.inserts()).isEmpty();
+		assertThat(result.updates()).containsExactly(entry(first, 1));
+		assertThat(result.deletes()).isEmpty();
+	}
+
+	@Test
+	void 같은_키가_여러_개면_문서_순서대로_짝짓는다() {
+		Stored first = new Stored(null, "dup");
+		Stored second = new Stored(null, "dup");
+		Stored third = new Stored(null, "dup");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(first, second, third),
+			List.of(new Node(null, "dup"), new Node(null, "dup")));
+
+		assertThat(result.inserts()).isEmpty();
+		assertThat(result.updates()).isEmpty();
+		assertThat(result.deletes()).containsExactly(third);
+	}
+
+	@Test
+	void 중복된_노드_id는_남는_노드를_추가한다() {
+		// 복사, 붙여넣기로 같은 id의 노드가 두 개가 된 경우
+		Stored card = new Stored("a", "one");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(card), List.of(new Node("a", "one"), new Node("a", "one")));
+
+		assertThat(result.inserts()).containsExactly(1);
+		assertThat(result.updates()).isEmpty();
+		assertThat(result.deletes()).isEmpty();
+	}
+
+	@Test
+	void 매칭되지_않은_노드는_추가하고_남은_카드는_삭제한다() {
+		Stored kept = new Stored("a", "a");
+		Stored removed = new Stored("b", "b");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(kept, removed),
+			List.of(new Node("c", "c"), new Node("a", "a")));
+
+		assertThat(result.inserts()).containsExactly(0);
+		assertThat(result.updates()).isEmpty();
+		assertThat(result.deletes()).containsExactly(removed);
+	}
+
+	@Test
+	void 내용이_같은_별개의_카드를_equals로_합치지_않는다() {
+		// record라 equals가 같아도 기존 카드 각각을 따로 매칭
+		Stored first = new Stored(null, "same");
+		Stored second = new Stored(null, "same");
+
+		NoteCardDiff.Result<Stored> result = diff(List.of(first, second), List.of(new Node(null, "same")));
+
+		assertThat(result.deletes()).hasSize(1);
+		assertThat(result.deletes().get(0)).isSameAs(second);
+	}
+
+	private static NoteCardDiff.Result<Stored> diff(List<Stored> existing, List<Node> nodes) {
+		List<Function<Stored, String>> existingKeys = List.of(Stored::nodeId, Stored::contents);
+		List<IntFunction<String>> nodeKeys = List.of(i -> nodes.get(i).nodeId(), i -> nodes.get(i).contents());
+		return NoteCardDiff.diff(existing, nodes.size(), existingKeys, nodeKeys,
+			(card, i) -> !card.contents().equals(nodes.get(i).contents()));
+	}
+}
@@ -0,0 +1,88 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.umc.cardify.domain.ContentsNote;
+import com.umc.cardify.domain.NoteBlob;
+import com.umc.cardify.repository.ContentsNoteRepository;
+import com.umc.cardify.repository.NoteBlobRepository;
+
+class NoteContentsStoreTest {
+
+	private static final String CONTENTS = "{\"type\":\"doc\",\"content\":[{\"type\":\"paragraph\",\"content\":"
+		+ "[{\"type\":\"text\",\"text\":\"운영체제 3장 프로세스\"}]},{\"type\":\"word_card\",\"attrs\":"
+		+ "{\"question_front\":\"PCB\",\"question_back\":\"\",\"answer\":[\"Process Control Block\"]}}]}";
+
+	private final ContentsNoteRepository contentsNoteRepository = mock(ContentsNoteRepository.class);
+	private final NoteBlobRepository noteBlobRepository = mock(NoteBlobRepository.class);
+	private final NoteContentsStore noteContentsStore = new NoteContentsStore(contentsNoteRepository,
+		noteBlobRepository, 24);
+
+	@Test
+	void 압축해_저장한_내용을_그대로_읽는다() {
+		ContentsNote contentsNote = ContentsNote.builder().build();
+
+		noteContentsStore.write(contentsNote, CONTENTS);
+		NoteBlob blob = savedBlob(contentsNote.getBlobHash());
+		when(noteBlobRepository.findById(blob.getHash())).thenReturn(Optional.of(blob));
+
+		assertThat(blob.getRawSize()).isEqualTo(CONTENTS.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(blob.getData().length).isLessThan(blob.getRawSize());
+		assertThat(contentsNote.getContents()).isNull();
+		assertThat(noteContentsStore.read(contentsNote)).isEqualTo(CONTENTS);
+	}
+
+	@Test
+	void 내용이_같으면_다시_압축하지_않는다() {
+		ContentsNote contentsNote = ContentsNote.builder().build();
+		noteContentsStore.write(contentsNote, CONTENTS);
+
+		noteContentsStore.write(contentsNote, CONTENTS);
+
+		verify(noteBlobRepository, times(1)).upsert(anyString(), anyInt(), anyInt(), any());
+		assertThat(noteContentsStore.versionOf(contentsNote)).isEqualTo(contentsNote.getBlobHash());
+	}
+
+	@Test
+	void 이전_형식의_노트는_contents_컬럼을_읽는다() {
+		ContentsNote contentsNote = ContentsNote.builder().contents(CONTENTS).build();
+
+		assertThat(noteContentsStore.read(contentsNote)).isEqualTo(CONTENTS);
+		verifyNoInteractions(noteBlobRepository);
+	}
+
+	@Test
+	void 압축본이_손상되면_예외() {
+		NoteBlob blob = NoteBlob.builder()
+			.hash("broken")
+			.codec(NoteContentsStore.CODEC_DEFLATE_V1)
+			.rawSize(100)
+			.data(new byte[] {1, 2, 3})
+			.build();
+		when(noteBlobRepository.findById("broken")).thenReturn(Optional.of(blob));
+
+		assertThatThrownBy(() -> noteContentsStore.read(ContentsNote.builder().blobHash("broken").build()))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private NoteBlob savedBlob(String hash) {
+		ArgumentCaptor<Integer> codec = ArgumentCaptor.forClass(Integer.class);
+		ArgumentCaptor<Integer> rawSize = ArgumentCaptor.forClass(Integer.class);
+		ArgumentCaptor<byte[]> data = ArgumentCaptor.forClass(byte[].class);
+		verify(noteBlobRepository).upsert(eq(hash), codec.capture(), rawSize.capture(), data.capture());
+		return NoteBlob.builder()
+			.hash(hash)
+			.codec(codec.getValue())
+			.rawSize(rawSize.getValue())
+			.data(data.getValue())
+			.build();
+	}
+}
@@ -0,0 +1,80 @@
+package com.umc.cardify.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.umc.cardify.repository.NoteJdbcRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NoteViewTrackerTest {
+
+	private final NoteJdbcRepository noteJdbcRepository = mock(NoteJdbcRepository.class);
+	private NoteViewTracker tracker;
+
+	@AfterEach
+	void tearDown() {
+		tracker.shutdown();
+	}
+
+	@Test
+	void 저장되지_않은_조회_시간은_노트_소유자별로_반환한다() {
+		tracker = new NoteViewTracker(noteJdbcRepository, new SimpleMeterRegistry(), 100, 100);
+
+		tracker.record(1L, 10L);
+		tracker.record(1L, 11L);
+		tracker.record(2L, 20L);
+
+		assertThat(tracker.pendingViews(1L)).containsOnlyKeys(10L, 11L);
+		assertThat(tracker.pendingViews(2L)).containsOnlyKeys(20L);
+		assertThat(tracker.pendingViews(3L)).isEmpty();
+	}
+
+	@Test
+	void 저장한_조회_시간은_대기_목록에서_뺀다() {
+		tracker = new NoteViewTracker(noteJdbcRepository, new SimpleMeterRegistry(), 100, 100);
+		tracker.record(1L, 10L);
+		tracker.record(2L, 20L);
+
+		tracker.flush();
+
+		verify(noteJdbcRepository).updateViewAts(argThat(batch -> batch.keySet().equals(Set.of(10L, 20L))));
+		assertThat(tracker.pendingViews(1L)).isEmpty();
+		assertThat(tracker.pendingViews(2L)).isEmpty();
+	}
+
+	@Test
+	void 저장에_실패하면_다음_주기까지_남겨둔다() {
+		tracker = new NoteViewTracker(noteJdbcRepository, new SimpleMeterRegistry(), 100, 100);
+		doThrow(new IllegalStateException("db down")).doNothing().when(noteJdbcRepository).updateViewAts(anyMap());
+		tracker.record(1L, 10L);
+
+		tracker.flush();
+		assertThat(tracker.pendingViews(1L)).containsOnlyKeys(10L);
+
+		tracker.flush();
+		assertThat(tracker.pendingViews(1L)).isEmpty();
+	}
+
+	@Test
+	void 대기_노트_수가_한도를_넘으면_새_노트는_기록하지_않는다() {
+		// 저장이 계속 실패해 대기 목록이 줄지 않는 경우
+		doThrow(new IllegalStateException("db down")).when(noteJdbcRepository).updateViewAts(anyMap());
+		tracker = new NoteViewTracker(noteJdbcRepository, new SimpleMeterRegistry(), 1, 2);
+
+		tracker.record(1L, 10L);
+		tracker.record(1L, 11L);
+		tracker.record(1L, 12L);
+		tracker.record(1L, 10L);
+
+		Map<Long, ?> views = tracker.pendingViews(1L);
+		assertThat(views).containsOnlyKeys(10L, 11L);
+	}
+}
@@ -0,0 +1,40 @@
+package com.umc.cardify.service.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class FixedFactorSchedulingPolicyTest {
+
+	private final FixedFactorSchedulingPolicy policy = new FixedFactorSchedulingPolicy();
+
+	@Test
+	void 난이도별_기준_간격() {
+		assertThat(policy.baseIntervalMinutes(0)).isZero();
+		assertThat(policy.baseIntervalMinutes(1)).isZero();
+		assertThat(policy.baseIntervalMinutes(2)).isEqualTo(10);
+		assertThat(policy.baseIntervalMinutes(3)).isEqualTo(30);
+		assertThat(policy.baseIntervalMinutes(4)).isEqualTo(24 * 60);
+	}
+
+	@Test
+	void 직전_간격에_난이도별_증가_비율을_곱한다() {
+		assertThat(policy.nextIntervalMinutes(2, 3, 100)).isEqualTo(100);
+		assertThat(policy.nextIntervalMinutes(3, 3, 100)).isEqualTo(150);
+		assertThat(policy.nextIntervalMinutes(4, 3, 100)).isEqualTo(200);
+	}
+
+	@Test
+	void EXPERT와_NONE은_즉시_학습() {
+		assertThat(policy.nextIntervalMinutes(1, 3, 100)).isZero();
+		assertThat(policy.nextIntervalMinutes(0, 3, 100)).isZero();
+		assertThat(policy.expectedIntervalMinutes(1, 3)).isZero();
+	}
+
+	@Test
+	void 예상_간격은_기준_간격에_증가_비율을_학습_횟수만큼_곱한다() {
+		assertThat(policy.expectedIntervalMinutes(3, 0)).isEqualTo(45);
+		assertThat(policy.expectedIntervalMinutes(3, 1)).isEqualTo(45);
+		assertThat(policy.expectedIntervalMinutes(4, 3)).isEqualTo(8 * 24 * 60);
+	}
+}
@@ -0,0 +1,41 @@
+package com.umc.cardify.service.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class Sm2SchedulingPolicyTest {
+
+	private static final long DAY = 24 * 60;
+
+	private final Sm2SchedulingPolicy policy = new Sm2SchedulingPolicy();
+
+	@Test
+	void 첫_학습은_1일_두_번째는_6일() {
+		assertThat(policy.nextIntervalMinutes(3, 0, 1)).isEqualTo(DAY);
+		assertThat(policy.nextIntervalMinutes(3, 1, DAY)).isEqualTo(6 * DAY);
+	}
+
+	@Test
+	void 이후에는_직전_간격에_EF를_곱한다() {
+		// EASY(q = 5) : EF 2.6, NORMAL(q = 4) : EF 2.5, HARD(q = 3) : EF 2.36
+		assertThat(policy.nextIntervalMinutes(4, 2, 1000)).isEqualTo(2600);
+		assertThat(policy.nextIntervalMinutes(3, 2, 1000)).isEqualTo(2500);
+		assertThat(policy.nextIntervalMinutes(2, 2, 1000)).isEqualTo(2360);
+	}
+
+	@Test
+	void EXPERT와_NONE은_실패로_즉시_학습() {
+		assertThat(policy.baseIntervalMinutes(1)).isZero();
+		assertThat(policy.nextIntervalMinutes(1, 5, 1000)).isZero();
+		assertThat(policy.nextIntervalMinutes(0, 5, 1000)).isZero();
+		assertThat(policy.expectedIntervalMinutes(1, 5)).isZero();
+	}
+
+	@Test
+	void 예상_간격은_6일부터_EF를_거듭제곱한다() {
+		assertThat(policy.expectedIntervalMinutes(3, 0)).isEqualTo(DAY);
+		assertThat(policy.expectedIntervalMinutes(3, 1)).isEqualTo(6 * DAY);
+		assertThat(policy.expectedIntervalMinutes(3, 2)).isEqualTo(Math.round(6 * DAY * 2.5));
+	}
+}
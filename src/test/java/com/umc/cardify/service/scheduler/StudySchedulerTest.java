@@ -0,0 +1,51 @@
+package com.umc.cardify.service.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class StudySchedulerTest {
+
+	private static final long NOW = 29_000_000L; // epoch minute
+
+	private final StudyScheduler studyScheduler = new StudyScheduler(new FixedFactorSchedulingPolicy());
+
+	@Test
+	void 첫_학습은_기준_간격() {
+		assertThat(studyScheduler.nextIntervalMinutes(2, 0, StudyScheduler.NO_TIME, StudyScheduler.NO_TIME))
+			.isEqualTo(10);
+		assertThat(studyScheduler.nextIntervalMinutes(4, 0, StudyScheduler.NO_TIME, StudyScheduler.NO_TIME))
+			.isEqualTo(24 * 60);
+	}
+
+	@Test
+	void 직전_간격에_증가_비율을_곱한다() {
+		// 직전 간격 60분, NORMAL x1.5
+		assertThat(studyScheduler.nextIntervalMinutes(3, 2, NOW - 60, NOW)).isEqualTo(90);
+		assertThat(studyScheduler.nextStudyMinute(3, 2, NOW - 60, NOW, NOW)).isEqualTo(NOW + 90);
+	}
+
+	@Test
+	void 직전_시각이_없으면_기준_간격을_직전_간격으로_사용한다() {
+		assertThat(studyScheduler.nextIntervalMinutes(3, 2, StudyScheduler.NO_TIME, NOW)).isEqualTo(45);
+	}
+
+	@Test
+	void 직전_간격이_0_이하이면_기준_간격으로_보정한다() {
+		assertThat(studyScheduler.nextIntervalMinutes(4, 1, NOW, NOW - 10)).isEqualTo(2 * 24 * 60);
+	}
+
+	@Test
+	void EXPERT는_정책에_따라_즉시_학습() {
+		assertThat(studyScheduler.nextIntervalMinutes(1, 3, NOW - 60, NOW)).isZero();
+		assertThat(studyScheduler.expectedIntervalMinutes(1, 3)).isZero();
+	}
+
+	@Test
+	void 정책의_간격을_그대로_사용한다() {
+		StudyScheduler sm2 = new StudyScheduler(new Sm2SchedulingPolicy());
+
+		assertThat(sm2.nextIntervalMinutes(1, 3, NOW - 60, NOW)).isZero();
+		assertThat(sm2.nextIntervalMinutes(3, 1, NOW - 24 * 60, NOW)).isEqualTo(6 * 24 * 60);
+	}
+}
@@ -0,0 +1,102 @@
+package com.umc.cardify.service.study;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.umc.cardify.dto.card.AnnualHeatmap;
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ContributionHeatmapCacheTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+	private final StudyDailyRollupRepository repository = mock(StudyDailyRollupRepository.class);
+	private final ContributionHeatmapCache cache = new ContributionHeatmapCache(repository, new SimpleMeterRegistry(),
+		60, 100);
+
+	@Test
+	void 캐시된_연도는_다시_조회하지_않고_학습_이벤트를_반영한다() {
+		when(repository.findDailyLearnCounts(eq(USER_ID), any(), any())).thenReturn(rows(3));
+
+		AnnualHeatmap heatmap = cache.get(USER_ID, 2026);
+		cache.increase(USER_ID, DAY, 2);
+
+		assertThat(cache.get(USER_ID, 2026)).isSameAs(heatmap);
+		assertThat(countOf(heatmap)).isEqualTo(5);
+		verify(repository, times(1)).findDailyLearnCounts(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 집계_중_반영된_학습_이벤트가_있으면_결과를_캐시하지_않는다() {
+		// 첫 집계 도중 (커밋 후) 학습 이벤트가 들어오고, 집계 결과에는 빠져 있는 경우
+		when(repository.findDailyLearnCounts(eq(USER_ID), any(), any()))
+			.thenAnswer(invocation -> {
+				cache.increase(USER_ID, DAY, 2);
+				return rows(3);
+			})
+			.thenReturn(rows(5));
+
+		assertThat(countOf(cache.get(USER_ID, 2026))).isEqualTo(3);
+		assertThat(countOf(cache.get(USER_ID, 2026))).isEqualTo(5);
+		verify(repository, times(2)).findDailyLearnCounts(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 다른_연도의_학습_이벤트는_집계_결과를_무효화하지_않는다() {
+		when(repository.findDailyLearnCounts(eq(USER_ID), any(), any()))
+			.thenAnswer(invocation -> {
+				cache.increase(USER_ID, LocalDate.of(2025, 12, 31), 1);
+				return rows(3);
+			});
+
+		cache.get(USER_ID, 2026);
+		cache.get(USER_ID, 2026);
+
+		verify(repository, times(1)).findDailyLearnCounts(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 집계가_실패해도_다음_조회는_다시_집계한다() {
+		when(repository.findDailyLearnCounts(eq(USER_ID), any(), any()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(rows(3));
+
+		assertThatThrownBy(() -> cache.get(USER_ID, 2026)).isInstanceOf(IllegalStateException.class);
+		assertThat(countOf(cache.get(USER_ID, 2026))).isEqualTo(3);
+		assertThat(countOf(cache.get(USER_ID, 2026))).isEqualTo(3);
+		verify(repository, times(2)).findDailyLearnCounts(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 유지_시간이_지나면_다시_집계한다() {
+		ContributionHeatmapCache expiring = new ContributionHeatmapCache(repository, new SimpleMeterRegistry(), 0, 100);
+		when(repository.findDailyLearnCounts(eq(USER_ID), any(), any()))
+			.thenReturn(rows(3))
+			.thenReturn(rows(7));
+
+		assertThat(countOf(expiring.get(USER_ID, 2026))).isEqualTo(3);
+		assertThat(countOf(expiring.get(USER_ID, 2026))).isEqualTo(7);
+		verify(repository, times(2)).findDailyLearnCounts(eq(USER_ID), any(), any());
+	}
+
+	private static List<Object[]> rows(long count) {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] {Date.valueOf(DAY), count});
+		return rows;
+	}
+
+	private static int countOf(AnnualHeatmap heatmap) {
+		return heatmap.getCount(DAY);
+	}
+}
@@ -0,0 +1,160 @@
+package com.umc.cardify.service.study;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.umc.cardify.dto.card.StudyEvent;
+
+class StudyEventBufferTest {
+
+	private static final LocalDateTime STUDY_DATE = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+	@TempDir
+	Path dir;
+
+	private final StudyEventWriter writer = mock(StudyEventWriter.class);
+	private final List<StudyEvent> written = new ArrayList<>();
+	private StudyEventBuffer buffer;
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (buffer != null) {
+			buffer.shutdown();
+		}
+	}
+
+	@Test
+	void 저장할_수_없는_이벤트가_있어도_나머지는_저장된다() throws IOException {
+		StudyEvent poison = event(99L);
+		failOn(poison);
+		buffer = buffer(3);
+
+		List<StudyEvent> good = List.of(event(1L), event(2L), event(3L), event(4L), event(5L));
+		good.subList(0, 2).forEach(buffer::publish);
+		buffer.publish(poison);
+		good.subList(2, 5).forEach(buffer::publish);
+		buffer.flush();
+
+		assertThat(written).containsExactlyInAnyOrderElementsOf(good);
+		assertThat(walLines()).containsExactly(poison.toLine());
+	}
+
+	@Test
+	void 최대_횟수만큼_실패한_이벤트는_dead_letter로_옮긴다() throws IOException {
+		StudyEvent poison = event(99L);
+		failOn(poison);
+		buffer = buffer(2);
+
+		buffer.publish(poison);
+		buffer.flush();
+		assertThat(walLines()).containsExactly(poison.toLine());
+
+		buffer.publish(event(1L));
+		buffer.flush();
+
+		assertThat(written).containsExactly(event(1L));
+		assertThat(walLines()).isEmpty();
+		assertThat(Files.readAllLines(dir.resolve("dead"), StandardCharsets.UTF_8)).containsExactly(poison.toLine());
+	}
+
+	@Test
+	void 일시적_오류는_나누지_않고_모두_다음_주기에_재시도한다() throws IOException {
+		doThrow(new CannotCreateTransactionException("db down")).when(writer).writeInNewTransaction(anyList());
+		buffer = buffer(1);
+
+		buffer.publish(event(1L));
+		buffer.publish(event(2L));
+		buffer.flush();
+
+		verify(writer, times(1)).writeInNewTransaction(anyList());
+		assertThat(walLines()).containsExactly(event(1L).toLine(), event(2L).toLine());
+		assertThat(dir.resolve("dead")).doesNotExist();
+	}
+
+	@Test
+	void 저장된_이벤트가_없으면_write_ahead_파일을_다시_쓰지_않는다() throws IOException {
+		doThrow(new CannotCreateTransactionException("db down")).when(writer).writeInNewTransaction(anyList());
+		buffer = buffer(1);
+		buffer.publish(event(1L));
+		Object fileKey = Files.readAttributes(dir.resolve("wal"), BasicFileAttributes.class).fileKey();
+
+		buffer.flush();
+		buffer.flush();
+
+		assertThat(Files.readAttributes(dir.resolve("wal"), BasicFileAttributes.class).fileKey()).isEqualTo(fileKey);
+		assertThat(walLines()).containsExactly(event(1L).toLine());
+	}
+
+	@Test
+	void 정리한_write_ahead_파일로_원자적으로_교체한다() throws IOException {
+		failOn(event(99L));
+		buffer = buffer(3);
+		buffer.publish(event(99L));
+		buffer.publish(event(1L));
+
+		buffer.flush();
+		buffer.publish(event(2L));
+
+		assertThat(walLines()).containsExactly(event(99L).toLine(), event(2L).toLine());
+		assertThat(dir.resolve("wal.tmp")).doesNotExist();
+	}
+
+	@Test
+	void 재기동하면_write_ahead_파일의_이벤트를_복구한다() throws IOException {
+		Files.writeString(dir.resolve("wal"), event(1L).toLine() + "\n" + event(2L).toLine() + "\n",
+			StandardCharsets.UTF_8);
+		doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+			.when(writer).writeInNewTransaction(anyList());
+		buffer = buffer(3);
+
+		buffer.flush();
+
+		assertThat(written).containsExactly(event(1L), event(2L));
+		assertThat(walLines()).isEmpty();
+	}
+
+	private StudyEventBuffer buffer(int maxAttempts) throws IOException {
+		StudyEventBuffer studyEventBuffer = new StudyEventBuffer(writer, 100, 10, dir.resolve("wal").toString(),
+			dir.resolve("dead").toString(), true, maxAttempts, 50, 200);
+		studyEventBuffer.recover();
+		return studyEventBuffer;
+	}
+
+	// poison이 포함된 batch는 전체가 실패 (트랜잭션 롤백), 나머지는 저장
+	private void failOn(StudyEvent poison) {
+		doAnswer(invocation -> {
+			List<StudyEvent> events = invocation.getArgument(0);
+			if (events.contains(poison)) {
+				throw new DataIntegrityViolationException("card not found");
+			}
+			written.addAll(events);
+			return null;
+		}).when(writer).writeInNewTransaction(anyList());
+	}
+
+	private List<String> walLines() throws IOException {
+		return Files.readAllLines(dir.resolve("wal"), StandardCharsets.UTF_8).stream()
+			.filter(line -> !line.isBlank())
+			.toList();
+	}
+
+	private static StudyEvent event(Long cardId) {
+		return StudyEvent.ofCard(1L, 1L, cardId, 2, STUDY_DATE);
+	}
+}
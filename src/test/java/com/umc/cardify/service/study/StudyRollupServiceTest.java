@@ -0,0 +1,40 @@
+package com.umc.cardify.service.study;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.umc.cardify.repository.StudyDailyRollupRepository;
+
+class StudyRollupServiceTest {
+
+	private final StudyDailyRollupRepository studyDailyRollupRepository = mock(StudyDailyRollupRepository.class);
+	private final StudyRollupWriter studyRollupWriter = mock(StudyRollupWriter.class);
+	private final ContributionHeatmapCache contributionHeatmapCache = mock(ContributionHeatmapCache.class);
+	private final StudyRollupService studyRollupService = new StudyRollupService(studyDailyRollupRepository,
+		studyRollupWriter, contributionHeatmapCache, 100);
+
+	@Test
+	void user_id_구간별로_재생성한_뒤_캐시를_비운다() {
+		when(studyDailyRollupRepository.findMaxRollupUserId()).thenReturn(250L);
+
+		studyRollupService.rebuildDailyRollups();
+
+		InOrder inOrder = inOrder(studyRollupWriter, contributionHeatmapCache);
+		inOrder.verify(studyRollupWriter).rebuild(1, 100);
+		inOrder.verify(studyRollupWriter).rebuild(101, 200);
+		inOrder.verify(studyRollupWriter).rebuild(201, 250);
+		inOrder.verify(contributionHeatmapCache).clear();
+		verifyNoMoreInteractions(studyRollupWriter);
+	}
+
+	@Test
+	void 학습_기록이_없으면_재생성하지_않는다() {
+		when(studyDailyRollupRepository.findMaxRollupUserId()).thenReturn(0L);
+
+		studyRollupService.rebuildDailyRollups();
+
+		verifyNoInteractions(studyRollupWriter);
+	}
+}
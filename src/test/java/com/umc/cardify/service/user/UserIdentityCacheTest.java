@@ -0,0 +1,74 @@
+package com.umc.cardify.service.user;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.umc.cardify.domain.User;
+import com.umc.cardify.domain.enums.AuthProvider;
+import com.umc.cardify.repository.SubscriptionRepository;
+import com.umc.cardify.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserIdentityCacheTest {
+
+	private static final Long USER_ID = 1L;
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+	private final UserIdentityCache cache = new UserIdentityCache(userRepository, subscriptionRepository,
+		new SimpleMeterRegistry(), 300, 100);
+
+	@Test
+	void 조회한_유저는_다시_조회하지_않는다() {
+		when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user(5000)));
+
+		cache.get(USER_ID);
+		cache.get(USER_ID);
+
+		verify(userRepository, times(1)).findById(USER_ID);
+	}
+
+	@Test
+	void 조회_중_evict된_유저는_캐시하지_않는다() {
+		// 포인트 차감이 커밋되기 전의 값을 읽는 도중 evict되는 경우
+		when(userRepository.findById(USER_ID))
+			.thenAnswer(invocation -> {
+				cache.evict(USER_ID);
+				return Optional.of(user(5000));
+			})
+			.thenReturn(Optional.of(user(4700)));
+
+		assertThat(cache.get(USER_ID).orElseThrow().point()).isEqualTo(5000);
+		assertThat(cache.get(USER_ID).orElseThrow().point()).isEqualTo(4700);
+		assertThat(cache.get(USER_ID).orElseThrow().point()).isEqualTo(4700);
+		verify(userRepository, times(2)).findById(USER_ID);
+	}
+
+	@Test
+	void 조회가_끝난_뒤의_evict는_다음_조회의_캐시를_막지_않는다() {
+		when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user(5000)));
+
+		cache.get(USER_ID);
+		cache.evict(USER_ID);
+		cache.get(USER_ID);
+		cache.get(USER_ID);
+
+		verify(userRepository, times(2)).findById(USER_ID);
+	}
+
+	private static User user(int point) {
+		User user = User.builder()
+			.email("user@cardify.com")
+			.provider(AuthProvider.GOOGLE)
+			.point(point)
+			.build();
+		user.setUserId(USER_ID);
+		return user;
+	}
+}